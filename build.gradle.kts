@@ -2,9 +2,11 @@ import java.util.Properties
 
 plugins {
     id("java-library")
+    id("java-test-fixtures")
     id("maven-publish")
     id("org.cadixdev.licenser") version "0.6.1"
     id("com.diffplug.spotless") version "6.25.0"
+    id("me.champeau.jmh") version "0.7.2"
 }
 group = "com.picsart"
 version = "1.0"
@@ -52,6 +54,14 @@ dependencies {
     testImplementation(platform("org.junit:junit-bom:5.9.1"))
     testImplementation("org.junit.jupiter:junit-jupiter")
     testImplementation("io.projectreactor:reactor-test")
+
+    testFixturesImplementation(platform("io.projectreactor:reactor-bom:2023.0.6"))
+    testFixturesImplementation("io.projectreactor.netty:reactor-netty-http")
+    testFixturesImplementation("org.slf4j:slf4j-api:2.0.13")
+    testFixturesCompileOnly("org.projectlombok:lombok:1.18.32")
+    testFixturesAnnotationProcessor("org.projectlombok:lombok:1.18.32")
+
+    jmhImplementation(testFixtures(project))
 }
 
 tasks.jar {
@@ -89,6 +99,11 @@ tasks.named("processResources") {
     dependsOn("writeVersion")
 }
 
+// the stand-in API server is for load testing the SDK, it is not published with it
+val javaComponent = components["java"] as AdhocComponentWithVariants
+javaComponent.withVariantsFromConfiguration(configurations["testFixturesApiElements"]) { skip() }
+javaComponent.withVariantsFromConfiguration(configurations["testFixturesRuntimeElements"]) { skip() }
+
 publishing {
     publications {
         create<MavenPublication>("mavenJava") {
@@ -102,6 +117,17 @@ publishing {
     }
 }
 
+configurations["jmhImplementation"].extendsFrom(configurations.implementation.get())
+
+jmh {
+    jmhVersion.set("1.37")
+    fork.set(1)
+    warmupIterations.set(3)
+    iterations.set(5)
+    profilers.set(listOf("gc"))
+    resultFormat.set("JSON")
+}
+
 tasks.withType<Test> {
     useJUnitPlatform()
     testLogging {
@@ -0,0 +1,47 @@
+plugins {
+    id("java-library")
+    id("maven-publish")
+}
+group = "com.picsart"
+version = "1.0"
+
+repositories {
+    mavenCentral()
+}
+
+dependencies {
+    api(project(":"))
+    api("io.micrometer:micrometer-core:1.13.0")
+
+    compileOnly("com.google.code.findbugs:jsr305:3.0.2")
+
+    testImplementation(platform("org.junit:junit-bom:5.9.1"))
+    testImplementation("org.junit.jupiter:junit-jupiter")
+}
+
+tasks.jar {
+    manifest {
+        attributes(
+            "Implementation-Title" to "Picsart Creative APIs SDK Micrometer metrics",
+            "Implementation-Version" to version
+        )
+    }
+}
+
+publishing {
+    publications {
+        create<MavenPublication>("mavenJava") {
+            from(components["java"])
+        }
+    }
+    repositories {
+        mavenLocal()
+    }
+}
+
+tasks.withType<Test> {
+    useJUnitPlatform()
+    testLogging {
+        events("passed", "skipped", "failed")
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 PicsArt, Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.picsart.creativeapis.micrometer;
+
+import com.picsart.creativeapis.busobj.ApiActions;
+import com.picsart.creativeapis.metrics.RequestEvent;
+import com.picsart.creativeapis.metrics.SdkMetrics;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * This class records the metrics of the SDK to a Micrometer registry. Every meter is tagged with
+ * the name of the action:
+ *
+ * <ul>
+ *   <li>picsart.sdk.request.latency, the timer of the requests, also tagged with the status class
+ *       and the exception type, with a percentile histogram
+ *   <li>picsart.sdk.request.ttfb, the timer of the time to the response headers
+ *   <li>picsart.sdk.request.upload.bytes and picsart.sdk.request.response.bytes, the sizes of the
+ *       request and response bodies
+ *   <li>picsart.sdk.request.errors, the counter of the failed requests, also tagged with the
+ *       exception type
+ *   <li>picsart.sdk.request.in.flight, the gauge of the requests in progress
+ *   <li>picsart.sdk.async.polls, the number of polls per asynchronous job
+ * </ul>
+ */
+public class MicrometerSdkMetrics implements SdkMetrics {
+  private final MeterRegistry registry;
+  private final Map<ApiActions, AtomicInteger> inFlight = new EnumMap<>(ApiActions.class);
+
+  public MicrometerSdkMetrics(MeterRegistry registry) {
+    this.registry = registry;
+    for (var action : ApiActions.values()) {
+      var gauge = new AtomicInteger();
+      inFlight.put(action, gauge);
+      Gauge.builder("picsart.sdk.request.in.flight", gauge, AtomicInteger::get)
+          .description("The requests of the action in progress")
+          .tags(actionTags(action))
+          .register(registry);
+    }
+  }
+
+  @Override
+  public void requestStarted(ApiActions action) {
+    inFlight.get(action).incrementAndGet();
+  }
+
+  @Override
+  public void requestCompleted(RequestEvent event) {
+    inFlight.get(event.action()).decrementAndGet();
+    var tags = actionTags(event.action());
+    Timer.builder("picsart.sdk.request.latency")
+        .description("The time from sending a request to receiving its whole response")
+        .tags(tags.and("status_class", event.statusClass(), "exception", event.exceptionType()))
+        .publishPercentileHistogram()
+        .register(registry)
+        .record(event.latency());
+    if (event.timeToFirstByte() != null) {
+      Timer.builder("picsart.sdk.request.ttfb")
+          .description("The time from sending a request to receiving the response headers")
+          .tags(tags)
+          .publishPercentileHistogram()
+          .register(registry)
+          .record(event.timeToFirstByte());
+    }
+    if (event.uploadBytes() >= 0) {
+      DistributionSummary.builder("picsart.sdk.request.upload.bytes")
+          .description("The size of the request bodies")
+          .baseUnit("bytes")
+          .tags(tags)
+          .register(registry)
+          .record(event.uploadBytes());
+    }
+    DistributionSummary.builder("picsart.sdk.request.response.bytes")
+        .description("The size of the response bodies")
+        .baseUnit("bytes")
+        .tags(tags)
+        .register(registry)
+        .record(event.responseBytes());
+    if (event.exception() != null) {
+      Counter.builder("picsart.sdk.request.errors")
+          .description("The requests failed with an exception")
+          .tags(tags.and("exception", event.exceptionType()))
+          .register(registry)
+          .increment();
+    }
+  }
+
+  @Override
+  public void asyncJobCompleted(ApiActions action, int polls) {
+    DistributionSummary.builder("picsart.sdk.async.polls")
+        .description("The number of poll requests per asynchronous job")
+        .tags(actionTags(action))
+        .register(registry)
+        .record(polls);
+  }
+
+  private static Tags actionTags(ApiActions action) {
+    return Tags.of("action", action.actionName());
+  }
+}
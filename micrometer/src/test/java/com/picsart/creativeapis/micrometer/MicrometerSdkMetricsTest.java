@@ -0,0 +1,108 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 PicsArt, Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.picsart.creativeapis.micrometer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.picsart.creativeapis.busobj.ApiActions;
+import com.picsart.creativeapis.metrics.RequestEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.TimeoutException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class MicrometerSdkMetricsTest {
+
+  @Test
+  @DisplayName("Should record the requests and the polls per action")
+  public void shouldRecordRequestsAndPollsPerAction() {
+    var registry = new SimpleMeterRegistry();
+    var metrics = new MicrometerSdkMetrics(registry);
+
+    metrics.requestStarted(ApiActions.ULTRA_UPSCALE);
+    metrics.requestStarted(ApiActions.ULTRA_UPSCALE);
+    assertEquals(
+        2,
+        registry
+            .get("picsart.sdk.request.in.flight")
+            .tag("action", "ultraUpscale")
+            .gauge()
+            .value());
+
+    metrics.requestCompleted(
+        new RequestEvent(
+            ApiActions.ULTRA_UPSCALE,
+            202,
+            Duration.ofMillis(40),
+            Duration.ofMillis(30),
+            1024,
+            64,
+            null));
+    metrics.requestCompleted(
+        new RequestEvent(
+            ApiActions.ULTRA_UPSCALE,
+            0,
+            Duration.ofMillis(100),
+            null,
+            -1,
+            0,
+            new TimeoutException()));
+    metrics.asyncJobCompleted(ApiActions.ULTRA_UPSCALE, 3);
+
+    assertEquals(
+        0,
+        registry
+            .get("picsart.sdk.request.in.flight")
+            .tag("action", "ultraUpscale")
+            .gauge()
+            .value());
+    assertEquals(
+        1,
+        registry
+            .get("picsart.sdk.request.latency")
+            .tags("action", "ultraUpscale", "status_class", "2xx", "exception", "none")
+            .timer()
+            .count());
+    assertEquals(
+        1,
+        registry
+            .get("picsart.sdk.request.latency")
+            .tags("status_class", "none", "exception", "TimeoutException")
+            .timer()
+            .count());
+    assertEquals(1, registry.get("picsart.sdk.request.ttfb").timer().count());
+    assertEquals(1024, registry.get("picsart.sdk.request.upload.bytes").summary().totalAmount());
+    assertEquals(64, registry.get("picsart.sdk.request.response.bytes").summary().totalAmount());
+    assertEquals(
+        1,
+        registry
+            .get("picsart.sdk.request.errors")
+            .tag("exception", "TimeoutException")
+            .counter()
+            .count());
+    assertEquals(3, registry.get("picsart.sdk.async.polls").summary().totalAmount());
+  }
+}
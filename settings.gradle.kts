@@ -1,2 +1,4 @@
 rootProject.name = "picsart-creative-apis-java-sdk"
 
+include("micrometer")
+project(":micrometer").name = "picsart-creative-apis-micrometer"
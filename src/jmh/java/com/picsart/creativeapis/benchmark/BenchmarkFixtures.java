@@ -0,0 +1,206 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 PicsArt, Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.picsart.creativeapis.benchmark;
+
+import com.picsart.creativeapis.busobj.genai.request.Text2ImageRequest;
+import com.picsart.creativeapis.busobj.image.BackgroundTexturePattern;
+import com.picsart.creativeapis.busobj.image.ImageFormat;
+import com.picsart.creativeapis.busobj.image.OutputType;
+import com.picsart.creativeapis.busobj.image.Scale;
+import com.picsart.creativeapis.busobj.image.UpscaleMode;
+import com.picsart.creativeapis.busobj.image.request.*;
+import com.picsart.creativeapis.busobj.mapper.MetadataMapper;
+import io.netty.handler.codec.http.DefaultHttpHeaders;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.Map;
+import reactor.netty.http.client.HttpClientResponse;
+
+/** Requests, response bodies and a stubbed HTTP response shared by the benchmarks. */
+final class BenchmarkFixtures {
+  static final Map<String, Object> REQUESTS =
+      Map.ofEntries(
+          Map.entry(
+              "removeBackground",
+              new RemoveBackgroundRequest(
+                  "imageId", null, null, ImageFormat.PNG, OutputType.CUTOUT, null, null, null,
+                  "#ffffff", 10, 1024, 768, Scale.FIT, true, 5, "#000000", 50)),
+          Map.entry("effect", new EffectRequest("imageId", null, null, ImageFormat.JPG, "icy1")),
+          Map.entry(
+              "ultraUpscale",
+              new UltraUpscaleRequest("imageId", null, null, null, 4, UpscaleMode.AUTO)),
+          Map.entry("upscale", new UpscaleRequest("imageId", null, null, null, 2)),
+          Map.entry(
+              "ultraEnhance", new UltraEnhanceRequest("imageId", null, null, ImageFormat.PNG, 4)),
+          Map.entry("enhanceFace", new EnhanceFaceRequest("imageId", null, null, null)),
+          Map.entry(
+              "effectsPreviews",
+              new EffectsPreviewsRequest(
+                  "imageId", null, null, null, List.of("icy1", "icy2", "food1"), 240)),
+          Map.entry(
+              "adjust",
+              new AdjustRequest(
+                  null, "https://example.com/image.jpg", null, ImageFormat.JPG, 10, -10, 20, -20,
+                  30, -30, 40, -40, 50, 60, 70)),
+          Map.entry(
+              "backgroundTexture",
+              new BackgroundTextureRequest(
+                  "imageId", null, null, null, 1024, 1024, 0, 0, BackgroundTexturePattern.HEX, 45,
+                  1.5F)),
+          Map.entry(
+              "surfaceMap",
+              new SurfaceMapRequest(
+                  "imageId", null, null, ImageFormat.WEBP, null, null, "maskId", null, null,
+                  "stickerId")),
+          Map.entry("upload", new UploadRequest(null, "https://example.com/image.jpg")),
+          Map.entry(
+              "text2Image",
+              new Text2ImageRequest("a cat in a hat", "blurry, low quality", 1024, 1024, 4)));
+
+  static final String IMAGE_RESPONSE_BODY =
+      """
+      {
+        "status": "success",
+        "data": {
+          "id": "8f7ab4b9-3f6c.png",
+          "url": "https://cdn.picsart.io/8f7ab4b9-3f6c.png"
+        }
+      }""";
+
+  static final String LIST_EFFECTS_RESPONSE_BODY =
+      """
+      {
+        "data": [
+          {
+            "name": "icy1"
+          },
+          {
+            "name": "icy2"
+          },
+          {
+            "name": "icy3"
+          },
+          {
+            "name": "food1"
+          },
+          {
+            "name": "food2"
+          },
+          {
+            "name": "mnch1"
+          },
+          {
+            "name": "saturation"
+          },
+          {
+            "name": "brnz1"
+          }
+        ]
+      }""";
+
+  static final String EFFECTS_PREVIEWS_RESPONSE_BODY =
+      """
+      {
+        "status": "success",
+        "data": [
+          {
+            "id": "1.png",
+            "url": "https://cdn.picsart.io/1.png",
+            "effect_name": "icy1"
+          },
+          {
+            "id": "2.png",
+            "url": "https://cdn.picsart.io/2.png",
+            "effect_name": "icy2"
+          }
+        ]
+      }""";
+
+  static final String BALANCE_RESPONSE_BODY =
+      """
+      {"credits": 1250}""";
+
+  static final String ERROR_RESPONSE_BODY =
+      """
+      {"code": 429, "detail": "Too many requests"}""";
+
+  static final String ULTRA_UPSCALE_MIDDLE_RESPONSE_BODY =
+      """
+      {"status": "queued", "transaction_id": "8f7ab4b9-3f6c-4c0e-a1c1-0cb5e0b6a2a1"}""";
+
+  static final String TEXT_2_IMAGE_MIDDLE_RESPONSE_BODY =
+      """
+      {"status": "ACCEPTED", "inference_id": "8f7ab4b9-3f6c-4c0e-a1c1-0cb5e0b6a2a1"}""";
+
+  static final String TEXT_2_IMAGE_RESPONSE_BODY =
+      """
+      {
+        "status": "DONE",
+        "data": [
+          {
+            "id": "1.png",
+            "url": "https://cdn.picsart.io/1.png"
+          },
+          {
+            "id": "2.png",
+            "url": "https://cdn.picsart.io/2.png"
+          },
+          {
+            "id": "3.png",
+            "url": "https://cdn.picsart.io/3.png"
+          },
+          {
+            "id": "4.png",
+            "url": "https://cdn.picsart.io/4.png"
+          }
+        ]
+      }""";
+
+  static final HttpClientResponse HTTP_CLIENT_RESPONSE = httpClientResponse();
+
+  private BenchmarkFixtures() {}
+
+  /** An HttpClientResponse answering only the status and the headers read by MetadataMapper. */
+  private static HttpClientResponse httpClientResponse() {
+    var headers =
+        new DefaultHttpHeaders()
+            .add(MetadataMapper.RATE_LIMIT, "1000")
+            .add(MetadataMapper.RATE_LIMIT_REMAINING, "998")
+            .add(MetadataMapper.RATE_LIMIT_RESET, "1718000000")
+            .add(MetadataMapper.CORRELATION_ID, "8f7ab4b9-3f6c-4c0e-a1c1-0cb5e0b6a2a1")
+            .add(MetadataMapper.CREDIT_AVAILABLE, "1250");
+    return (HttpClientResponse)
+        Proxy.newProxyInstance(
+            HttpClientResponse.class.getClassLoader(),
+            new Class<?>[] {HttpClientResponse.class},
+            (proxy, method, args) ->
+                switch (method.getName()) {
+                  case "responseHeaders" -> headers;
+                  case "status" -> HttpResponseStatus.OK;
+                  default -> null;
+                });
+  }
+}
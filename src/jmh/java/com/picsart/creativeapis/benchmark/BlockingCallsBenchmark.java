@@ -0,0 +1,160 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 PicsArt, Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.picsart.creativeapis.benchmark;
+
+import com.picsart.creativeapis.busobj.ApiConfig;
+import com.picsart.creativeapis.busobj.http.config.HttpTransportConfig;
+import com.picsart.creativeapis.busobj.image.ImageSource;
+import com.picsart.creativeapis.busobj.image.config.ImageApiClientConfig;
+import com.picsart.creativeapis.busobj.image.parameters.RemoveBackgroundParameters;
+import com.picsart.creativeapis.busobj.image.parameters.UltraUpscaleParameters;
+import com.picsart.creativeapis.http.ApiHttpClientImpl;
+import com.picsart.creativeapis.image.ImageApi;
+import com.picsart.creativeapis.image.ImageApiImpl;
+import com.picsart.creativeapis.image.SyncImageApi;
+import com.picsart.creativeapis.image.client.ImageApiClientImpl;
+import com.picsart.creativeapis.standin.StandInApiServer;
+import com.picsart.creativeapis.standin.StandInApiServerConfig;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Compares the blocking calls of SyncImageApi with calling block() on the Mono of the ImageApi,
+ * from a thread per call as a servlet application does. Every operation makes {@code concurrency}
+ * calls at once on platform or virtual threads and waits for all of them, against a local stand-in
+ * of the Picsart API.
+ *
+ * <p>The virtual threads need Java 21, the executor is looked up so that the benchmarks compile
+ * with Java 17, where the virtual thread parameters fail.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class BlockingCallsBenchmark {
+  private static final Duration POLLING_DELAY = Duration.ofMillis(1);
+
+  @Param({"platform", "virtual"})
+  String threads;
+
+  @Param({"64", "1024"})
+  int concurrency;
+
+  StandInApiServer server;
+  ApiHttpClientImpl apiHttpClient;
+  ExecutorService executor;
+  ImageApi imageApi;
+  SyncImageApi syncImageApi;
+  RemoveBackgroundParameters removeBackgroundParameters;
+  UltraUpscaleParameters ultraUpscaleParameters;
+
+  @Setup
+  public void setUp() {
+    server =
+        StandInApiServer.start(
+            StandInApiServerConfig.builder()
+                .latency(Duration.ofMillis(20))
+                .credits(Integer.MAX_VALUE)
+                .build());
+    apiHttpClient =
+        new ApiHttpClientImpl(
+            HttpTransportConfig.builder()
+                .poolName("blocking-calls-benchmark")
+                .maxConnections(concurrency)
+                .build());
+    executor =
+        "virtual".equals(threads) ? virtualThreadExecutor() : Executors.newCachedThreadPool();
+    imageApi =
+        new ImageApiImpl(
+            new ApiConfig("apiKey", server.baseUrl(), Duration.ofSeconds(30)),
+            new ImageApiClientImpl(
+                apiHttpClient,
+                ImageApiClientConfig.builder()
+                    .upscaleUltraPollingFirstDelay(POLLING_DELAY)
+                    .upscaleUltraPollingRepeatDelay(POLLING_DELAY)
+                    .build()));
+    syncImageApi = new SyncImageApi(imageApi).withDeadline(Duration.ofSeconds(30));
+    removeBackgroundParameters =
+        RemoveBackgroundParameters.builder(ImageSource.fromImageId("imageId")).build();
+    ultraUpscaleParameters =
+        UltraUpscaleParameters.builder(ImageSource.fromImageId("imageId")).build();
+  }
+
+  @TearDown
+  public void tearDown() {
+    executor.shutdownNow();
+    apiHttpClient.dispose();
+    server.close();
+  }
+
+  @Benchmark
+  public Object removeBackgroundBlock() throws Exception {
+    return concurrently(() -> imageApi.removeBackground(removeBackgroundParameters).block());
+  }
+
+  @Benchmark
+  public Object removeBackgroundSync() throws Exception {
+    return concurrently(() -> syncImageApi.removeBackground(removeBackgroundParameters));
+  }
+
+  /** The ultra upscale answered with 202, followed by one pending poll and the result poll. */
+  @Benchmark
+  public Object ultraUpscaleBlock() throws Exception {
+    return concurrently(() -> imageApi.ultraUpscale(ultraUpscaleParameters).block());
+  }
+
+  @Benchmark
+  public Object ultraUpscaleSync() throws Exception {
+    return concurrently(() -> syncImageApi.ultraUpscale(ultraUpscaleParameters));
+  }
+
+  private Object concurrently(Callable<Object> call)
+      throws InterruptedException, ExecutionException {
+    var futures = new ArrayList<Future<Object>>(concurrency);
+    for (var i = 0; i < concurrency; i++) {
+      futures.add(executor.submit(call));
+    }
+    Object last = null;
+    for (var future : futures) {
+      last = future.get();
+    }
+    return last;
+  }
+
+  private static ExecutorService virtualThreadExecutor() {
+    try {
+      return (ExecutorService)
+          Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+    } catch (ReflectiveOperationException e) {
+      throw new IllegalStateException("The virtual threads need Java 21", e);
+    }
+  }
+}
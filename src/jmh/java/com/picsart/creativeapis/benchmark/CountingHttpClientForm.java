@@ -0,0 +1,61 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 PicsArt, Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.picsart.creativeapis.benchmark;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Objects;
+import reactor.netty.http.client.HttpClientForm;
+
+/**
+ * An HttpClientForm that only sums the hash codes of what is written to it, so that benchmarks
+ * measure the encoding itself and the JIT can not eliminate it.
+ */
+final class CountingHttpClientForm implements InvocationHandler {
+  private final HttpClientForm form =
+      (HttpClientForm)
+          Proxy.newProxyInstance(
+              HttpClientForm.class.getClassLoader(), new Class<?>[] {HttpClientForm.class}, this);
+  private long checksum;
+
+  HttpClientForm form() {
+    return form;
+  }
+
+  long checksum() {
+    return checksum;
+  }
+
+  @Override
+  public Object invoke(Object proxy, Method method, Object[] args) {
+    if (args != null) {
+      for (var arg : args) {
+        checksum += Objects.hashCode(arg);
+      }
+    }
+    return method.getReturnType().isInstance(proxy) ? proxy : null;
+  }
+}
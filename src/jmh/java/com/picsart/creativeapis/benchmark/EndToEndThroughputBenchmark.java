@@ -0,0 +1,149 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 PicsArt, Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.picsart.creativeapis.benchmark;
+
+import com.picsart.creativeapis.busobj.ApiConfig;
+import com.picsart.creativeapis.busobj.genai.config.GenAIApiClientConfig;
+import com.picsart.creativeapis.busobj.genai.parameters.Text2ImageParameters;
+import com.picsart.creativeapis.busobj.http.config.HttpTransportConfig;
+import com.picsart.creativeapis.busobj.image.ImageSource;
+import com.picsart.creativeapis.busobj.image.config.ImageApiClientConfig;
+import com.picsart.creativeapis.busobj.image.parameters.RemoveBackgroundParameters;
+import com.picsart.creativeapis.busobj.image.parameters.UltraUpscaleParameters;
+import com.picsart.creativeapis.genai.GenAIApi;
+import com.picsart.creativeapis.genai.GenAIApiImpl;
+import com.picsart.creativeapis.genai.client.GenAIApiClientImpl;
+import com.picsart.creativeapis.http.ApiHttpClientImpl;
+import com.picsart.creativeapis.image.ImageApi;
+import com.picsart.creativeapis.image.ImageApiImpl;
+import com.picsart.creativeapis.image.client.ImageApiClientImpl;
+import com.picsart.creativeapis.standin.StandInApiServer;
+import com.picsart.creativeapis.standin.StandInApiServerConfig;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.openjdk.jmh.annotations.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Measures the SDK end to end, from the parameters to the result, against a local stand-in of the
+ * Picsart API. Every operation sends {@code concurrency} calls at once and waits for all of them,
+ * so the throughput in calls per second is the score multiplied by {@code concurrency}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class EndToEndThroughputBenchmark {
+  private static final Duration POLLING_DELAY = Duration.ofMillis(1);
+
+  /** The latency of the stand-in server, in milliseconds. */
+  @Param({"0", "20"})
+  int latencyMillis;
+
+  @Param({"1", "64", "256"})
+  int concurrency;
+
+  StandInApiServer server;
+  ApiHttpClientImpl apiHttpClient;
+  ImageApi imageApi;
+  GenAIApi genAIApi;
+  RemoveBackgroundParameters removeBackgroundParameters;
+  UltraUpscaleParameters ultraUpscaleParameters;
+  Text2ImageParameters text2ImageParameters;
+
+  @Setup
+  public void setUp() {
+    server =
+        StandInApiServer.start(
+            StandInApiServerConfig.builder()
+                .latency(Duration.ofMillis(latencyMillis))
+                .credits(Integer.MAX_VALUE)
+                .build());
+    apiHttpClient =
+        new ApiHttpClientImpl(
+            HttpTransportConfig.builder()
+                .poolName("end-to-end-benchmark")
+                .maxConnections(concurrency)
+                .build());
+    var apiConfig = new ApiConfig("apiKey", server.baseUrl(), Duration.ofSeconds(30));
+    imageApi =
+        new ImageApiImpl(
+            apiConfig,
+            new ImageApiClientImpl(
+                apiHttpClient,
+                ImageApiClientConfig.builder()
+                    .upscaleUltraPollingFirstDelay(POLLING_DELAY)
+                    .upscaleUltraPollingRepeatDelay(POLLING_DELAY)
+                    .build()));
+    genAIApi =
+        new GenAIApiImpl(
+            apiConfig,
+            new GenAIApiClientImpl(
+                apiHttpClient,
+                GenAIApiClientConfig.builder()
+                    .text2ImagePollingFirstDelay(POLLING_DELAY)
+                    .text2ImagePollingRepeatDelay(POLLING_DELAY)
+                    .build()));
+    removeBackgroundParameters =
+        RemoveBackgroundParameters.builder(ImageSource.fromImageId("imageId")).build();
+    ultraUpscaleParameters =
+        UltraUpscaleParameters.builder(ImageSource.fromImageId("imageId")).build();
+    text2ImageParameters =
+        Text2ImageParameters.builder("a cat in a hat", "blurry, low quality").count(2).build();
+  }
+
+  @TearDown
+  public void tearDown() {
+    apiHttpClient.dispose();
+    server.close();
+  }
+
+  @Benchmark
+  public Object removeBackground() {
+    return concurrently(() -> imageApi.removeBackground(removeBackgroundParameters));
+  }
+
+  @Benchmark
+  public Object balance() {
+    return concurrently(imageApi::balance);
+  }
+
+  /** The ultra upscale answered with 202, followed by one pending poll and the result poll. */
+  @Benchmark
+  public Object ultraUpscale() {
+    return concurrently(() -> imageApi.ultraUpscale(ultraUpscaleParameters));
+  }
+
+  /** The text2image inference, followed by one pending poll and the result poll. */
+  @Benchmark
+  public Object text2Image() {
+    return concurrently(() -> genAIApi.text2Image(text2ImageParameters));
+  }
+
+  private Object concurrently(Supplier<Mono<?>> call) {
+    return Flux.range(0, concurrency).flatMap(i -> call.get(), concurrency).blockLast();
+  }
+}
@@ -0,0 +1,96 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 PicsArt, Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.picsart.creativeapis.benchmark;
+
+import com.picsart.creativeapis.busobj.ApiConfig;
+import com.picsart.creativeapis.busobj.http.config.HttpTransportConfig;
+import com.picsart.creativeapis.busobj.image.ImageSource;
+import com.picsart.creativeapis.busobj.image.config.ImageApiClientConfig;
+import com.picsart.creativeapis.busobj.image.parameters.UltraEnhanceParameters;
+import com.picsart.creativeapis.http.ApiHttpClientImpl;
+import com.picsart.creativeapis.image.ImageApi;
+import com.picsart.creativeapis.image.ImageApiImpl;
+import com.picsart.creativeapis.image.client.ImageApiClientImpl;
+import com.picsart.creativeapis.standin.StandInApiServer;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Compares the upload of an image file with the zero-copy multipart body against the HttpClientForm
+ * encoder of reactor-netty, which reads the file onto the heap in chunks. Run with the gc profiler
+ * to compare the bytes allocated per upload.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class FileUploadBenchmark {
+  @Param({"1", "16", "64"})
+  int fileSizeMiB;
+
+  @Param({"true", "false"})
+  boolean zeroCopyFileUpload;
+
+  StandInApiServer server;
+  ApiHttpClientImpl apiHttpClient;
+  ImageApi imageApi;
+  Path file;
+  UltraEnhanceParameters parameters;
+
+  @Setup
+  public void setUp() throws IOException {
+    server = StandInApiServer.start();
+    apiHttpClient =
+        new ApiHttpClientImpl(
+            HttpTransportConfig.builder()
+                .poolName("file-upload-benchmark")
+                .zeroCopyFileUpload(zeroCopyFileUpload)
+                .build());
+    imageApi =
+        new ImageApiImpl(
+            new ApiConfig("apiKey", server.baseUrl(), Duration.ofSeconds(30)),
+            new ImageApiClientImpl(apiHttpClient, ImageApiClientConfig.DEFAULT));
+    var content = new byte[fileSizeMiB * 1024 * 1024];
+    ThreadLocalRandom.current().nextBytes(content);
+    file = Files.write(Files.createTempFile("file-upload-benchmark", ".png"), content);
+    parameters = UltraEnhanceParameters.builder(ImageSource.fromFile(file.toFile())).build();
+  }
+
+  @TearDown
+  public void tearDown() throws IOException {
+    apiHttpClient.dispose();
+    server.close();
+    Files.deleteIfExists(file);
+  }
+
+  @Benchmark
+  public Object ultraEnhance() {
+    return imageApi.ultraEnhance(parameters).block();
+  }
+}
@@ -0,0 +1,147 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 PicsArt, Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.picsart.creativeapis.benchmark;
+
+import static com.picsart.creativeapis.benchmark.BenchmarkFixtures.*;
+
+import com.picsart.creativeapis.busobj.genai.response.Text2ImageMiddleResponse;
+import com.picsart.creativeapis.busobj.genai.response.Text2ImageResponse;
+import com.picsart.creativeapis.busobj.image.response.*;
+import com.picsart.creativeapis.utils.JacksonUtils;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/** Measures parsing of every response body and serialization of the JSON bodies the SDK sends. */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class JacksonBenchmark {
+  private static final Map<String, Class<?>> RESPONSE_CLASSES =
+      Map.ofEntries(
+          Map.entry("removeBackground", RemoveBackgroundResponse.class),
+          Map.entry("effect", EffectResponse.class),
+          Map.entry("listEffects", ListEffectsResponse.class),
+          Map.entry("ultraUpscale", UltraUpscaleResponse.class),
+          Map.entry("ultraUpscaleMiddle", UpscaleUltraMiddleResponse.class),
+          Map.entry("upscale", UpscaleResponse.class),
+          Map.entry("ultraEnhance", UltraEnhanceResponse.class),
+          Map.entry("enhanceFace", EnhanceFaceResponse.class),
+          Map.entry("effectsPreviews", EffectsPreviewsResponse.class),
+          Map.entry("adjust", AdjustResponse.class),
+          Map.entry("backgroundTexture", BackgroundTextureResponse.class),
+          Map.entry("surfaceMap", SurfaceMapResponse.class),
+          Map.entry("upload", UploadResponse.class),
+          Map.entry("balance", BalanceResponse.class),
+          Map.entry("error", ErrorResponse.class),
+          Map.entry("text2ImageMiddle", Text2ImageMiddleResponse.class),
+          Map.entry("text2Image", Text2ImageResponse.class));
+
+  private static final Map<String, String> RESPONSE_BODIES =
+      Map.ofEntries(
+          Map.entry("listEffects", LIST_EFFECTS_RESPONSE_BODY),
+          Map.entry("ultraUpscaleMiddle", ULTRA_UPSCALE_MIDDLE_RESPONSE_BODY),
+          Map.entry("effectsPreviews", EFFECTS_PREVIEWS_RESPONSE_BODY),
+          Map.entry("balance", BALANCE_RESPONSE_BODY),
+          Map.entry("error", ERROR_RESPONSE_BODY),
+          Map.entry("text2ImageMiddle", TEXT_2_IMAGE_MIDDLE_RESPONSE_BODY),
+          Map.entry("text2Image", TEXT_2_IMAGE_RESPONSE_BODY));
+
+  @Param({
+    "removeBackground",
+    "effect",
+    "listEffects",
+    "ultraUpscale",
+    "ultraUpscaleMiddle",
+    "upscale",
+    "ultraEnhance",
+    "enhanceFace",
+    "effectsPreviews",
+    "adjust",
+    "backgroundTexture",
+    "surfaceMap",
+    "upload",
+    "balance",
+    "error",
+    "text2ImageMiddle",
+    "text2Image"
+  })
+  String responseType;
+
+  Class<?> responseClass;
+  String body;
+  ByteBuf bodyBuffer;
+
+  @Setup
+  public void setUp() {
+    responseClass = RESPONSE_CLASSES.get(responseType);
+    body = RESPONSE_BODIES.getOrDefault(responseType, IMAGE_RESPONSE_BODY);
+    bodyBuffer = Unpooled.directBuffer().writeBytes(body.getBytes(StandardCharsets.UTF_8));
+  }
+
+  @TearDown
+  public void tearDown() {
+    bodyBuffer.release();
+  }
+
+  @Benchmark
+  public Object fromJsonString() {
+    return JacksonUtils.fromJson(body, responseClass);
+  }
+
+  @Benchmark
+  public Object fromJsonByteBuf() {
+    return JacksonUtils.fromJson(bodyBuffer.readerIndex(0), responseClass);
+  }
+
+  /** Serialization of the only request sent as JSON, the other requests are multipart forms. */
+  @Benchmark
+  public String toJsonText2ImageRequest() {
+    return JacksonUtils.toJson(REQUESTS.get("text2Image"));
+  }
+
+  /** Serialization of the response records, for a baseline of the writer cost. */
+  @State(Scope.Thread)
+  public static class RecordToJson {
+    @Param({"listEffects", "ultraUpscaleMiddle", "balance", "error", "text2ImageMiddle"})
+    String responseType;
+
+    Object response;
+
+    @Setup
+    public void setUp() {
+      var body = RESPONSE_BODIES.get(responseType);
+      response = JacksonUtils.fromJson(body, RESPONSE_CLASSES.get(responseType));
+    }
+  }
+
+  @Benchmark
+  public String toJsonResponseRecord(RecordToJson state) {
+    return JacksonUtils.toJson(state.response);
+  }
+}
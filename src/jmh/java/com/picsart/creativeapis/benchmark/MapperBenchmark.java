@@ -0,0 +1,166 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 PicsArt, Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.picsart.creativeapis.benchmark;
+
+import static com.picsart.creativeapis.benchmark.BenchmarkFixtures.*;
+
+import com.picsart.creativeapis.busobj.genai.parameters.Text2ImageParameters;
+import com.picsart.creativeapis.busobj.genai.response.Text2ImageResponse;
+import com.picsart.creativeapis.busobj.image.ImageFormat;
+import com.picsart.creativeapis.busobj.image.ImageSource;
+import com.picsart.creativeapis.busobj.image.OutputType;
+import com.picsart.creativeapis.busobj.image.mapper.ParametersMapper;
+import com.picsart.creativeapis.busobj.image.mapper.ResponseMapper;
+import com.picsart.creativeapis.busobj.image.parameters.AdjustParameters;
+import com.picsart.creativeapis.busobj.image.parameters.EffectParameters;
+import com.picsart.creativeapis.busobj.image.parameters.RemoveBackgroundParameters;
+import com.picsart.creativeapis.busobj.image.parameters.SurfaceMapParameters;
+import com.picsart.creativeapis.busobj.image.parameters.UpscaleParameters;
+import com.picsart.creativeapis.busobj.image.response.BalanceResponse;
+import com.picsart.creativeapis.busobj.image.response.ListEffectsResponse;
+import com.picsart.creativeapis.busobj.image.response.RemoveBackgroundResponse;
+import com.picsart.creativeapis.busobj.mapper.MetadataMapper;
+import com.picsart.creativeapis.utils.JacksonUtils;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/** Measures the MapStruct conversions from parameters to requests and from responses to results. */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class MapperBenchmark {
+  private static final ParametersMapper IMAGE_PARAMETERS_MAPPER = ParametersMapper.INSTANCE;
+  private static final ResponseMapper IMAGE_RESPONSE_MAPPER = ResponseMapper.INSTANCE;
+  private static final com.picsart.creativeapis.busobj.genai.mapper.ParametersMapper
+      GEN_AI_PARAMETERS_MAPPER =
+          com.picsart.creativeapis.busobj.genai.mapper.ParametersMapper.INSTANCE;
+  private static final com.picsart.creativeapis.busobj.genai.mapper.ResponseMapper
+      GEN_AI_RESPONSE_MAPPER = com.picsart.creativeapis.busobj.genai.mapper.ResponseMapper.INSTANCE;
+
+  RemoveBackgroundParameters removeBackgroundParameters;
+  EffectParameters effectParameters;
+  AdjustParameters adjustParameters;
+  UpscaleParameters upscaleParameters;
+  SurfaceMapParameters surfaceMapParameters;
+  Text2ImageParameters text2ImageParameters;
+
+  RemoveBackgroundResponse removeBackgroundResponse;
+  ListEffectsResponse listEffectsResponse;
+  BalanceResponse balanceResponse;
+  Text2ImageResponse text2ImageResponse;
+
+  @Setup
+  public void setUp() {
+    removeBackgroundParameters =
+        RemoveBackgroundParameters.builder(ImageSource.fromImageId("imageId"))
+            .outputType(OutputType.CUTOUT)
+            .bgImage(ImageSource.fromUrl("https://example.com/background.jpg"))
+            .bgBlur(10)
+            .format(ImageFormat.PNG)
+            .build();
+    effectParameters =
+        EffectParameters.builder(ImageSource.fromUrl("https://example.com/image.jpg"), "icy1")
+            .build();
+    adjustParameters =
+        AdjustParameters.builder(ImageSource.fromImageId("imageId"))
+            .brightness(10)
+            .contrast(20)
+            .saturation(30)
+            .build();
+    upscaleParameters =
+        UpscaleParameters.builder(ImageSource.fromImageId("imageId")).upscaleFactor(2).build();
+    surfaceMapParameters =
+        SurfaceMapParameters.builder(
+                ImageSource.fromImageId("imageId"),
+                ImageSource.fromImageId("maskId"),
+                ImageSource.fromUrl("https://example.com/sticker.png"))
+            .build();
+    text2ImageParameters =
+        Text2ImageParameters.builder("a cat in a hat", "blurry, low quality").count(4).build();
+
+    removeBackgroundResponse =
+        JacksonUtils.fromJson(IMAGE_RESPONSE_BODY, RemoveBackgroundResponse.class);
+    listEffectsResponse =
+        JacksonUtils.fromJson(LIST_EFFECTS_RESPONSE_BODY, ListEffectsResponse.class);
+    balanceResponse = JacksonUtils.fromJson(BALANCE_RESPONSE_BODY, BalanceResponse.class);
+    text2ImageResponse =
+        JacksonUtils.fromJson(TEXT_2_IMAGE_RESPONSE_BODY, Text2ImageResponse.class);
+  }
+
+  @Benchmark
+  public Object removeBackgroundParametersToRequest() {
+    return IMAGE_PARAMETERS_MAPPER.toRequest(removeBackgroundParameters);
+  }
+
+  @Benchmark
+  public Object effectParametersToRequest() {
+    return IMAGE_PARAMETERS_MAPPER.toRequest(effectParameters);
+  }
+
+  @Benchmark
+  public Object adjustParametersToRequest() {
+    return IMAGE_PARAMETERS_MAPPER.toRequest(adjustParameters);
+  }
+
+  @Benchmark
+  public Object upscaleParametersToRequest() {
+    return IMAGE_PARAMETERS_MAPPER.toRequest(upscaleParameters);
+  }
+
+  @Benchmark
+  public Object surfaceMapParametersToRequest() {
+    return IMAGE_PARAMETERS_MAPPER.toRequest(surfaceMapParameters);
+  }
+
+  @Benchmark
+  public Object text2ImageParametersToRequest() {
+    return GEN_AI_PARAMETERS_MAPPER.toRequest(text2ImageParameters);
+  }
+
+  @Benchmark
+  public Object removeBackgroundResponseToResult() {
+    return IMAGE_RESPONSE_MAPPER.toResult(removeBackgroundResponse, HTTP_CLIENT_RESPONSE);
+  }
+
+  @Benchmark
+  public Object listEffectsResponseToResult() {
+    return IMAGE_RESPONSE_MAPPER.toResult(listEffectsResponse, HTTP_CLIENT_RESPONSE);
+  }
+
+  @Benchmark
+  public Object balanceResponseToResult() {
+    return IMAGE_RESPONSE_MAPPER.toResult(balanceResponse, HTTP_CLIENT_RESPONSE);
+  }
+
+  @Benchmark
+  public Object text2ImageResponseToResult() {
+    return GEN_AI_RESPONSE_MAPPER.toResult(text2ImageResponse, HTTP_CLIENT_RESPONSE);
+  }
+
+  @Benchmark
+  public Object toMetadata() {
+    return MetadataMapper.INSTANCE.toMetadata(HTTP_CLIENT_RESPONSE);
+  }
+}
@@ -0,0 +1,72 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 PicsArt, Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.picsart.creativeapis.benchmark;
+
+import com.picsart.creativeapis.busobj.image.ImageBytes;
+import com.picsart.creativeapis.busobj.image.ImageSource;
+import com.picsart.creativeapis.utils.MimeTypeUtils;
+import java.util.concurrent.TimeUnit;
+import org.apache.tika.Tika;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Compares the MIME type detection of the image parts, by magic bytes and by cached extension,
+ * against the lookup of the file name in the Tika registry previously done for every part.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class MimeTypeBenchmark {
+  private static final byte[] PNG_HEADER = {
+    (byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n', 0, 0, 0, 13
+  };
+
+  @Param({"image.png", "photo.JPEG", "scan.tiff"})
+  String fileName;
+
+  Tika tika;
+  ImageBytes image;
+
+  @Setup
+  public void setUp() {
+    tika = new Tika();
+    image = ImageSource.fromBytes(PNG_HEADER, fileName);
+  }
+
+  @Benchmark
+  public String tikaFileName() {
+    return tika.detect(fileName);
+  }
+
+  @Benchmark
+  public String cachedExtension() {
+    return MimeTypeUtils.detect(fileName);
+  }
+
+  @Benchmark
+  public String magicBytes() {
+    return MimeTypeUtils.detect(image);
+  }
+}
@@ -0,0 +1,101 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 PicsArt, Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.picsart.creativeapis.benchmark;
+
+import com.google.common.base.CaseFormat;
+import com.picsart.creativeapis.utils.MultipartRequestBodyUtils;
+import java.beans.Introspector;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Compares the multipart encoding with form fields cached per request class against the previous
+ * implementation, which introspected the request on every call.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class MultipartEncodingBenchmark {
+  @Param({
+    "removeBackground",
+    "effect",
+    "ultraUpscale",
+    "upscale",
+    "ultraEnhance",
+    "enhanceFace",
+    "effectsPreviews",
+    "adjust",
+    "backgroundTexture",
+    "surfaceMap",
+    "upload"
+  })
+  String requestType;
+
+  Object request;
+  CountingHttpClientForm form;
+
+  @Setup
+  public void setUp() {
+    form = new CountingHttpClientForm();
+    request = BenchmarkFixtures.REQUESTS.get(requestType);
+  }
+
+  @Benchmark
+  public long cachedFormFields() {
+    MultipartRequestBodyUtils.addRequestToClientForm(form.form(), request);
+    return form.checksum();
+  }
+
+  @Benchmark
+  public long reflectiveIntrospection() throws Exception {
+    var httpClientForm = form.form();
+    httpClientForm.multipart(true);
+    introspect(request)
+        .forEach((key, value) -> MultipartRequestBodyUtils.addKeyValue(httpClientForm, key, value));
+    return form.checksum();
+  }
+
+  /** The introspection previously done by MultipartRequestBodyUtils for every request. */
+  private static Map<String, Object> introspect(Object obj) throws Exception {
+    var result = new HashMap<String, Object>();
+    var info = Introspector.getBeanInfo(obj.getClass());
+    for (var pd : info.getPropertyDescriptors()) {
+      if ("class".equals(pd.getName())) {
+        continue;
+      }
+      var reader = pd.getReadMethod();
+      if (reader != null) {
+        var value = reader.invoke(obj);
+        if (value != null) {
+          result.put(
+              CaseFormat.LOWER_CAMEL.to(CaseFormat.LOWER_UNDERSCORE, pd.getName()), value);
+        }
+      }
+    }
+    return result;
+  }
+}
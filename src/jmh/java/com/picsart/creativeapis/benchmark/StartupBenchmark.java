@@ -0,0 +1,79 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 PicsArt, Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.picsart.creativeapis.benchmark;
+
+import com.picsart.creativeapis.PicsartEnterprise;
+import com.picsart.creativeapis.busobj.image.ImageSource;
+import com.picsart.creativeapis.busobj.image.parameters.RemoveBackgroundParameters;
+import com.picsart.creativeapis.standin.StandInApiServer;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Measures the cold start of the SDK, the time of a single call in a fresh JVM: creating the first
+ * ImageApi, warming up the default clients, and sending the first request to a local stand-in of
+ * the Picsart API. The stand-in server is started in the setup, it loads some of the reactor-netty
+ * classes ahead of the measured call.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(10)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+public class StartupBenchmark {
+  StandInApiServer server;
+
+  @Setup
+  public void setUp() {
+    server = StandInApiServer.start();
+  }
+
+  @TearDown
+  public void tearDown() {
+    server.close();
+  }
+
+  @Benchmark
+  public Object createImageApi() {
+    return PicsartEnterprise.createImageApi("apiKey");
+  }
+
+  @Benchmark
+  public Object createImageApiAndWarmup() {
+    var imageApi = PicsartEnterprise.createImageApi("apiKey");
+    PicsartEnterprise.warmup().block();
+    return imageApi;
+  }
+
+  @Benchmark
+  public Object firstRequest() {
+    var parameters = RemoveBackgroundParameters.builder(ImageSource.fromImageId("imageId")).build();
+    return PicsartEnterprise.createImageApi("apiKey")
+        .withBaseUrl(server.baseUrl())
+        .removeBackground(parameters)
+        .block();
+  }
+}
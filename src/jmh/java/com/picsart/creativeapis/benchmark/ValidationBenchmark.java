@@ -0,0 +1,66 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 PicsArt, Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.picsart.creativeapis.benchmark;
+
+import static com.picsart.creativeapis.benchmark.BenchmarkFixtures.REQUESTS;
+
+import com.picsart.creativeapis.utils.ValidationUtils;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/** Measures the bean validation done before every request is sent. */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class ValidationBenchmark {
+  @Param({
+    "removeBackground",
+    "effect",
+    "ultraUpscale",
+    "upscale",
+    "ultraEnhance",
+    "enhanceFace",
+    "effectsPreviews",
+    "adjust",
+    "backgroundTexture",
+    "surfaceMap",
+    "upload",
+    "text2Image"
+  })
+  String requestType;
+
+  Object request;
+
+  @Setup
+  public void setUp() {
+    request = REQUESTS.get(requestType);
+  }
+
+  @Benchmark
+  public Object validOrThrow() {
+    ValidationUtils.validOrThrow(request, requestType);
+    return request;
+  }
+}
@@ -24,16 +24,32 @@
 
 package com.picsart.creativeapis;
 
+import static com.picsart.creativeapis.utils.Constants.*;
+import static com.picsart.creativeapis.utils.RetryUtils.*;
+
 import com.google.common.annotations.VisibleForTesting;
+import com.picsart.creativeapis.busobj.ApiActions;
 import com.picsart.creativeapis.busobj.ApiConfig;
-import com.picsart.creativeapis.busobj.HttpResponseWithStringBody;
+import com.picsart.creativeapis.busobj.HttpResponseWithRawBody;
+import com.picsart.creativeapis.http.AdaptivePolling;
 import com.picsart.creativeapis.http.ApiHttpClient;
+import com.picsart.creativeapis.http.PollSchedule;
+import com.picsart.creativeapis.http.PollScheduler;
+import com.picsart.creativeapis.jfr.PollEvent;
+import com.picsart.creativeapis.metrics.AsyncJob;
+import com.picsart.creativeapis.metrics.MetricsContext;
+import com.picsart.creativeapis.utils.JacksonUtils;
+import com.picsart.creativeapis.utils.ValidationUtils;
 import jakarta.validation.constraints.NotNull;
 import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.annotation.Nullable;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 import lombok.experimental.FieldDefaults;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 @RequiredArgsConstructor
 @FieldDefaults(makeFinal = true, level = AccessLevel.PROTECTED)
@@ -50,15 +66,105 @@ public abstract class AbstractApiClient {
     return "%s/%s".formatted(removeTailingSlashIfAny(baseUrl), url);
   }
 
-  protected Mono<HttpResponseWithStringBody> getAsyncResponse(
-      ApiConfig config, String url, int repeatCount, Duration delay) {
-    return apiHttpClient
-        .sendGetRequest(appendBaseUrl(config.baseUrl(), url), config.apiKey(), config.timeout())
-        .filter(
-            httpResponseWithParsedBody -> {
-              var code = httpResponseWithParsedBody.getHttpClientResponse().status().code();
-              return code == 200;
-            })
-        .repeatWhenEmpty(repeatCount, repeat -> repeat.delayElements(delay));
+  /**
+   * Returns the schedule of the polls of an asynchronous job. Without adaptive polling the first
+   * poll is made after the first delay, then the poll is repeated at most repeatCount times.
+   */
+  protected static PollSchedule pollSchedule(
+      @Nullable AdaptivePolling adaptivePolling,
+      ApiActions action,
+      String bucket,
+      Duration firstDelay,
+      int repeatCount,
+      Duration delay) {
+    return adaptivePolling == null
+        ? PollSchedule.fixed(firstDelay, delay, repeatCount)
+        : adaptivePolling.schedule(action, bucket, firstDelay, delay);
+  }
+
+  /**
+   * Warms up the HTTP client, and loads the constraints of the request classes and the JSON readers
+   * of the response classes on a bounded elastic thread, ahead of the first request.
+   */
+  protected Mono<Void> warmup(List<Class<?>> requestClasses, List<Class<?>> responseClasses) {
+    var classes =
+        Mono.fromRunnable(
+                () -> {
+                  ValidationUtils.warmup(requestClasses);
+                  JacksonUtils.warmup(responseClasses);
+                })
+            .subscribeOn(Schedulers.boundedElastic());
+    return Mono.when(apiHttpClient.warmup(), classes);
+  }
+
+  /**
+   * Counts the poll requests sent by the polls of an asynchronous job, the count is reported to the
+   * SDK metrics when the job completes.
+   */
+  protected static <T> Mono<T> countPolls(Mono<T> polls) {
+    return Mono.defer(
+        () -> {
+          var job = new AsyncJob();
+          return polls
+              .doOnTerminate(job::complete)
+              .doOnCancel(job::complete)
+              .contextWrite(MetricsContext.asyncJob(job));
+        });
+  }
+
+  /**
+   * Records a poll of an asynchronous job as a flight recorder event, it is ready when the poll
+   * emits the result of the job.
+   */
+  protected static <T> Mono<T> recordPoll(
+      Mono<T> poll, ApiActions action, String jobId, int attempt) {
+    return Mono.defer(
+        () -> {
+          var event = new PollEvent();
+          event.begin();
+          return poll
+              .doOnSuccess(result -> event.complete(action, jobId, attempt, result != null))
+              .doOnError(e -> event.complete(action, jobId, attempt, false));
+        });
+  }
+
+  /**
+   * Polls the URL of the asynchronous job of the action with the scheduler until it answers with
+   * 200, at the delays given by the schedule.
+   */
+  protected Mono<HttpResponseWithRawBody<?>> getAsyncResponse(
+      ApiConfig config,
+      ApiActions action,
+      String jobId,
+      PollScheduler pollScheduler,
+      PollSchedule schedule) {
+    var url = appendBaseUrl(config.baseUrl(), action.url() + SLASH + jobId);
+    return Mono.defer(
+        () -> {
+          var attempts = new AtomicInteger();
+          var polls =
+              pollScheduler.poll(
+                  () ->
+                      recordPoll(
+                          apiHttpClient
+                              .sendGetRequest(url, config.apiKey(), config.timeout())
+                              .transform(retry(config))
+                              .filter(AbstractApiClient::isDone),
+                          action,
+                          jobId,
+                          attempts.incrementAndGet()),
+                  schedule);
+          return countPolls(polls);
+        });
+  }
+
+  /** Whether the poll answered with 200, the responses of the pending polls are released. */
+  private static boolean isDone(HttpResponseWithRawBody<?> httpResponseWithRawBody) {
+    var code = httpResponseWithRawBody.getHttpClientResponse().status().code();
+    if (code != 200) {
+      httpResponseWithRawBody.release();
+      return false;
+    }
+    return true;
   }
 }
@@ -26,28 +26,37 @@ package com.picsart.creativeapis;
 
 import com.picsart.creativeapis.busobj.ApiConfig;
 import com.picsart.creativeapis.busobj.genai.config.GenAIApiClientConfig;
+import com.picsart.creativeapis.busobj.http.config.HttpTransportConfig;
 import com.picsart.creativeapis.busobj.image.config.ImageApiClientConfig;
+import com.picsart.creativeapis.busobj.retry.RetryPolicy;
 import com.picsart.creativeapis.genai.GenAIApi;
 import com.picsart.creativeapis.genai.GenAIApiImpl;
+import com.picsart.creativeapis.genai.SyncGenAIApi;
 import com.picsart.creativeapis.genai.client.GenAIApiClientImpl;
-import com.picsart.creativeapis.http.ApiHttpClient;
 import com.picsart.creativeapis.http.ApiHttpClientImpl;
+import com.picsart.creativeapis.http.ConnectionPoolGauges;
+import com.picsart.creativeapis.http.DownloadMetrics;
 import com.picsart.creativeapis.image.ImageApi;
 import com.picsart.creativeapis.image.ImageApiImpl;
+import com.picsart.creativeapis.image.SyncImageApi;
 import com.picsart.creativeapis.image.client.ImageApiClientImpl;
 import java.time.Duration;
 import java.time.temporal.ChronoUnit;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import reactor.core.publisher.Mono;
 
-/** This class provides methods to create instances of ImageApi and GenAIApi. */
+/**
+ * This class provides methods to create instances of ImageApi and GenAIApi. Nothing is created or
+ * loaded until the first API instance is, and the HTTP client is initialized by the first request
+ * unless {@link #warmup()} is subscribed first.
+ */
 public class PicsartEnterprise {
   private static final String DEFAULT_IMAGE_API_BASE_URL = "https://api.picsart.io/tools/1.0";
   private static final String DEFAULT_GEN_AI_API_BASE_URL = "https://genai-api.picsart.io/v1";
   private static final Duration DEFAULT_CONNECTION_TIMEOUT = Duration.of(60, ChronoUnit.SECONDS);
-  private static final ApiHttpClient API_HTTP_CLIENT = new ApiHttpClientImpl();
-  private static final ImageApiClientImpl IMAGE_API_CLIENT =
-      new ImageApiClientImpl(API_HTTP_CLIENT, ImageApiClientConfig.DEFAULT);
-  private static final GenAIApiClientImpl GEN_AI_API_CLIENT =
-      new GenAIApiClientImpl(API_HTTP_CLIENT, GenAIApiClientConfig.DEFAULT);
+  private static final Map<HttpTransportConfig, ApiHttpClientImpl> API_HTTP_CLIENTS =
+      new ConcurrentHashMap<>();
 
   /**
    * Creates an instance of ImageApi with the specified API key.
@@ -56,7 +65,8 @@ public class PicsartEnterprise {
    * @return An instance of ImageApi.
    */
   public static ImageApi createImageApi(String apiKey) {
-    return new ImageApiImpl(createApiConfig(apiKey, DEFAULT_IMAGE_API_BASE_URL), IMAGE_API_CLIENT);
+    return new ImageApiImpl(
+        createApiConfig(apiKey, DEFAULT_IMAGE_API_BASE_URL), DefaultClients.IMAGE_API_CLIENT);
   }
 
   /**
@@ -67,17 +77,171 @@ public class PicsartEnterprise {
    */
   public static GenAIApi createGenAIApi(String apiKey) {
     return new GenAIApiImpl(
-        createApiConfig(apiKey, DEFAULT_GEN_AI_API_BASE_URL), GEN_AI_API_CLIENT);
+        createApiConfig(apiKey, DEFAULT_GEN_AI_API_BASE_URL), DefaultClients.GEN_AI_API_CLIENT);
+  }
+
+  /**
+   * Creates an instance of SyncImageApi with the specified API key, performing the operations as
+   * blocking calls for the applications running on virtual threads.
+   *
+   * @param apiKey The API key to use for the ImageApi.
+   * @return An instance of SyncImageApi.
+   */
+  public static SyncImageApi createSyncImageApi(String apiKey) {
+    return new SyncImageApi(createImageApi(apiKey));
+  }
+
+  /**
+   * Creates an instance of SyncGenAIApi with the specified API key, performing the operations as
+   * blocking calls for the applications running on virtual threads.
+   *
+   * @param apiKey The API key to use for the GenAIApi.
+   * @return An instance of SyncGenAIApi.
+   */
+  public static SyncGenAIApi createSyncGenAIApi(String apiKey) {
+    return new SyncGenAIApi(createGenAIApi(apiKey));
+  }
+
+  /**
+   * Creates an instance of ImageApi with the specified API key and HTTP transport configuration.
+   * Instances created with equal transport configurations share the same connection pool.
+   *
+   * @param apiKey The API key to use for the ImageApi.
+   * @param transportConfig The configuration of the connection pool and event loop threads.
+   * @return An instance of ImageApi.
+   */
+  public static ImageApi createImageApi(String apiKey, HttpTransportConfig transportConfig) {
+    return new ImageApiImpl(
+        createApiConfig(apiKey, DEFAULT_IMAGE_API_BASE_URL),
+        new ImageApiClientImpl(getApiHttpClient(transportConfig), ImageApiClientConfig.DEFAULT));
+  }
+
+  /**
+   * Creates an instance of GenAIApi with the specified API key and HTTP transport configuration.
+   * Instances created with equal transport configurations share the same connection pool.
+   *
+   * @param apiKey The API key to use for the GenAIApi.
+   * @param transportConfig The configuration of the connection pool and event loop threads.
+   * @return An instance of GenAIApi.
+   */
+  public static GenAIApi createGenAIApi(String apiKey, HttpTransportConfig transportConfig) {
+    return new GenAIApiImpl(
+        createApiConfig(apiKey, DEFAULT_GEN_AI_API_BASE_URL),
+        new GenAIApiClientImpl(getApiHttpClient(transportConfig), GenAIApiClientConfig.DEFAULT));
+  }
+
+  /**
+   * Creates an instance of ImageApi with the specified API key and client configuration, such as
+   * the polling of the ultra upscale transactions.
+   *
+   * @param apiKey The API key to use for the ImageApi.
+   * @param clientConfig The configuration of the Image API client.
+   * @return An instance of ImageApi.
+   */
+  public static ImageApi createImageApi(String apiKey, ImageApiClientConfig clientConfig) {
+    return new ImageApiImpl(
+        createApiConfig(apiKey, DEFAULT_IMAGE_API_BASE_URL),
+        new ImageApiClientImpl(DefaultClients.API_HTTP_CLIENT, clientConfig));
+  }
+
+  /**
+   * Creates an instance of GenAIApi with the specified API key and client configuration, such as
+   * the polling of the text2image inferences.
+   *
+   * @param apiKey The API key to use for the GenAIApi.
+   * @param clientConfig The configuration of the GenAI API client.
+   * @return An instance of GenAIApi.
+   */
+  public static GenAIApi createGenAIApi(String apiKey, GenAIApiClientConfig clientConfig) {
+    return new GenAIApiImpl(
+        createApiConfig(apiKey, DEFAULT_GEN_AI_API_BASE_URL),
+        new GenAIApiClientImpl(DefaultClients.API_HTTP_CLIENT, clientConfig));
+  }
+
+  /**
+   * Returns the gauges of the default connection pool.
+   *
+   * @return The connection pool gauges.
+   */
+  public static ConnectionPoolGauges connectionPoolGauges() {
+    return DefaultClients.API_HTTP_CLIENT.connectionPoolGauges();
+  }
+
+  /**
+   * Returns the metrics of the image downloads made on the default connection pool.
+   *
+   * @return The download metrics.
+   */
+  public static DownloadMetrics downloadMetrics() {
+    return DefaultClients.API_HTTP_CLIENT.downloadMetrics();
+  }
+
+  /**
+   * Returns the gauges of the connection pool created for the specified transport configuration.
+   *
+   * @param transportConfig The configuration of the connection pool and event loop threads.
+   * @return The connection pool gauges.
+   */
+  public static ConnectionPoolGauges connectionPoolGauges(HttpTransportConfig transportConfig) {
+    return getApiHttpClient(transportConfig).connectionPoolGauges();
+  }
+
+  /**
+   * Warms up the default clients ahead of the first request: starts the event loop threads, loads
+   * the host name resolver and the native transport libraries, and builds the validator and the
+   * JSON readers of the requests and responses on a bounded elastic thread. Nothing is done until
+   * the returned Mono is subscribed, and the calling thread is never blocked.
+   *
+   * @return A Mono completing once the default clients are warmed up.
+   */
+  public static Mono<Void> warmup() {
+    return Mono.defer(
+        () ->
+            Mono.when(
+                DefaultClients.IMAGE_API_CLIENT.warmup(),
+                DefaultClients.GEN_AI_API_CLIENT.warmup()));
   }
 
   /**
-   * Creates an instance of ApiConfig with the specified API key and base URL.
+   * Warms up the clients of the specified HTTP transport configuration ahead of the first request,
+   * like {@link #warmup()} does for the default ones.
+   *
+   * @param transportConfig The configuration of the connection pool and event loop threads.
+   * @return A Mono completing once the clients are warmed up.
+   */
+  public static Mono<Void> warmup(HttpTransportConfig transportConfig) {
+    return Mono.defer(
+        () -> {
+          var apiHttpClient = getApiHttpClient(transportConfig);
+          return Mono.when(
+              new ImageApiClientImpl(apiHttpClient, ImageApiClientConfig.DEFAULT).warmup(),
+              new GenAIApiClientImpl(apiHttpClient, GenAIApiClientConfig.DEFAULT).warmup());
+        });
+  }
+
+  private static ApiHttpClientImpl getApiHttpClient(HttpTransportConfig transportConfig) {
+    return API_HTTP_CLIENTS.computeIfAbsent(transportConfig, ApiHttpClientImpl::new);
+  }
+
+  /**
+   * Creates an instance of ApiConfig with the specified API key and base URL, retrying the
+   * recoverable failures of the GET requests and the polls with the default retry policy.
    *
    * @param apiKey The API key to use for the ApiConfig.
    * @param baseUrl The base URL to use for the ApiConfig.
    * @return An instance of ApiConfig.
    */
   private static ApiConfig createApiConfig(String apiKey, String baseUrl) {
-    return new ApiConfig(apiKey, baseUrl, DEFAULT_CONNECTION_TIMEOUT);
+    return new ApiConfig(apiKey, baseUrl, DEFAULT_CONNECTION_TIMEOUT, RetryPolicy.DEFAULT);
+  }
+
+  /** The clients of the default configurations, created with the first API instance using them. */
+  private static final class DefaultClients {
+    private static final ApiHttpClientImpl API_HTTP_CLIENT =
+        getApiHttpClient(HttpTransportConfig.DEFAULT);
+    private static final ImageApiClientImpl IMAGE_API_CLIENT =
+        new ImageApiClientImpl(API_HTTP_CLIENT, ImageApiClientConfig.DEFAULT);
+    private static final GenAIApiClientImpl GEN_AI_API_CLIENT =
+        new GenAIApiClientImpl(API_HTTP_CLIENT, GenAIApiClientConfig.DEFAULT);
   }
 }
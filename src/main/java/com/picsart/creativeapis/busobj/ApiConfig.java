@@ -24,7 +24,10 @@
 
 package com.picsart.creativeapis.busobj;
 
+import com.picsart.creativeapis.busobj.retry.RetryCounters;
+import com.picsart.creativeapis.busobj.retry.RetryPolicy;
 import java.time.Duration;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
@@ -33,12 +36,12 @@ import lombok.experimental.Accessors;
 import lombok.experimental.FieldDefaults;
 
 /**
- * This class represents the configuration for an API. It includes the API key, base URL, and
- * timeout duration.
+ * This class represents the configuration for an API. It includes the API key, base URL, timeout
+ * duration and retry policy.
  */
 @Getter
-@RequiredArgsConstructor
-@FieldDefaults(makeFinal = true, level = lombok.AccessLevel.PRIVATE)
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+@FieldDefaults(makeFinal = true, level = AccessLevel.PRIVATE)
 @Accessors(fluent = true)
 public class ApiConfig {
   /** The API key for the API. */
@@ -49,4 +52,41 @@ public class ApiConfig {
 
   /** The timeout duration for the API. */
   @With @NonNull Duration timeout;
+
+  /** The policy for retrying the requests failed with a recoverable exception. */
+  @With @NonNull RetryPolicy retryPolicy;
+
+  /**
+   * The counters of the retries made with this configuration, shared with the configurations
+   * derived from it.
+   */
+  @NonNull RetryCounters retryCounters;
+
+  /**
+   * Constructs a new ApiConfig with the specified API key, base URL, timeout and retry policy.
+   *
+   * @param apiKey The API key for the API.
+   * @param baseUrl The base URL for the API.
+   * @param timeout The timeout duration for the API.
+   * @param retryPolicy The policy for retrying the requests failed with a recoverable exception.
+   */
+  public ApiConfig(
+      @NonNull String apiKey,
+      @NonNull String baseUrl,
+      @NonNull Duration timeout,
+      @NonNull RetryPolicy retryPolicy) {
+    this(apiKey, baseUrl, timeout, retryPolicy, new RetryCounters());
+  }
+
+  /**
+   * Constructs a new ApiConfig with the specified API key, base URL and timeout, which never
+   * retries requests.
+   *
+   * @param apiKey The API key for the API.
+   * @param baseUrl The base URL for the API.
+   * @param timeout The timeout duration for the API.
+   */
+  public ApiConfig(@NonNull String apiKey, @NonNull String baseUrl, @NonNull Duration timeout) {
+    this(apiKey, baseUrl, timeout, RetryPolicy.NONE);
+  }
 }
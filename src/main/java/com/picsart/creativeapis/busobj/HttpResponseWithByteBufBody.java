@@ -0,0 +1,75 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 PicsArt, Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.picsart.creativeapis.busobj;
+
+import com.picsart.creativeapis.utils.JacksonUtils;
+import io.netty.buffer.ByteBuf;
+import io.netty.util.ReferenceCountUtil;
+import reactor.netty.http.client.HttpClientResponse;
+
+/**
+ * This class represents an HTTP response with a body kept in a Netty ByteBuf. The body is parsed
+ * straight from the buffer, without decoding it to a String first, and the buffer is released once
+ * it is parsed.
+ */
+public class HttpResponseWithByteBufBody extends HttpResponseWithRawBody<ByteBuf> {
+  /**
+   * Constructs a new HttpResponseWithByteBufBody with the specified HttpClientResponse and body.
+   *
+   * @param httpClientResponse The HttpClientResponse of the HTTP response.
+   * @param body The retained buffer holding the body of the HTTP response.
+   */
+  protected HttpResponseWithByteBufBody(HttpClientResponse httpClientResponse, ByteBuf body) {
+    super(httpClientResponse, body);
+  }
+
+  /**
+   * Returns a new HttpResponseWithByteBufBody with the specified HttpClientResponse and body. The
+   * ownership of the buffer is transferred to the returned object.
+   *
+   * @param httpClientResponse The HttpClientResponse of the HTTP response.
+   * @param body The retained buffer holding the body of the HTTP response.
+   * @return A new HttpResponseWithByteBufBody.
+   */
+  public static HttpResponseWithByteBufBody of(
+      HttpClientResponse httpClientResponse, ByteBuf body) {
+    return new HttpResponseWithByteBufBody(httpClientResponse, body);
+  }
+
+  @Override
+  public <T> HttpResponseWithBody<T> parseBody(Class<T> clazz) {
+    try {
+      var parsedBody = JacksonUtils.fromJson(getBody(), clazz);
+      return HttpResponseWithBody.of(getHttpClientResponse(), parsedBody);
+    } finally {
+      release();
+    }
+  }
+
+  @Override
+  public void release() {
+    ReferenceCountUtil.safeRelease(getBody());
+  }
+}
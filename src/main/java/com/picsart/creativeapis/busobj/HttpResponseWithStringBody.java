@@ -29,10 +29,10 @@ import reactor.netty.http.client.HttpClientResponse;
 
 /**
  * This class represents an HTTP response with a body of type String. It extends the
- * HttpResponseWithBody class and includes methods for creating a new HttpResponseWithStringBody and
- * parsing the body of the response.
+ * HttpResponseWithRawBody class and includes methods for creating a new HttpResponseWithStringBody
+ * and parsing the body of the response.
  */
-public class HttpResponseWithStringBody extends HttpResponseWithBody<String> {
+public class HttpResponseWithStringBody extends HttpResponseWithRawBody<String> {
   /**
    * Constructs a new HttpResponseWithStringBody with the specified HttpClientResponse and body.
    *
@@ -61,6 +61,7 @@ public class HttpResponseWithStringBody extends HttpResponseWithBody<String> {
    * @param clazz The class of the object to parse the body to.
    * @return A new HttpResponseWithBody with the parsed body.
    */
+  @Override
   public <T> HttpResponseWithBody<T> parseBody(Class<T> clazz) {
     return of(getHttpClientResponse(), JacksonUtils.fromJson(getBody(), clazz));
   }
@@ -24,11 +24,38 @@
 
 package com.picsart.creativeapis.busobj;
 
+import com.google.common.base.Function;
+import com.picsart.creativeapis.utils.MultipartBody;
 import com.picsart.creativeapis.utils.MultipartRequestBodyUtils;
+import java.util.Collections;
+import java.util.Map;
+import javax.annotation.Nullable;
 import reactor.netty.http.client.HttpClientForm;
 
 public interface MultipartBodyRequest {
   default void addBodyToForm(HttpClientForm form) {
-    MultipartRequestBodyUtils.addRequestToClientForm(form, this);
+    MultipartRequestBodyUtils.addRequestToClientForm(form, this, formFieldProcessors());
+  }
+
+  /**
+   * Returns the body with its file parts sent without copying them through the heap, or null when
+   * the request has no file part or has a part that can only be encoded by addBodyToForm.
+   */
+  @Nullable
+  default MultipartBody toZeroCopyBody() {
+    return MultipartRequestBodyUtils.toZeroCopyBody(this, formFieldProcessors());
+  }
+
+  /**
+   * Whether the body can be sent again, it cannot when one of its parts is read from a stream. Not
+   * named as a getter, the introspection of the form fields would take it for one.
+   */
+  default boolean replayable() {
+    return !MultipartRequestBodyUtils.hasStream(this);
+  }
+
+  /** The processors converting the values of some form fields to their string form. */
+  default Map<String, Function<Object, String>> formFieldProcessors() {
+    return Collections.emptyMap();
   }
 }
@@ -0,0 +1,67 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 PicsArt, Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.picsart.creativeapis.busobj.batch;
+
+/**
+ * This interface represents the outcome of an operation of a batch, either its result or the
+ * exception it failed with.
+ *
+ * @param <P> The type of the parameters of the operation.
+ * @param <R> The type of the result of the operation.
+ */
+public sealed interface BatchItem<P, R> {
+
+  /**
+   * Returns the position of the parameters in the batch, starting from 0.
+   *
+   * @return The index of the item.
+   */
+  long index();
+
+  /**
+   * Returns the parameters of the operation.
+   *
+   * @return The parameters.
+   */
+  P parameters();
+
+  /**
+   * The result of a successful operation.
+   *
+   * @param index The position of the parameters in the batch.
+   * @param parameters The parameters of the operation.
+   * @param result The result of the operation.
+   */
+  record Success<P, R>(long index, P parameters, R result) implements BatchItem<P, R> {}
+
+  /**
+   * The exception of a failed operation.
+   *
+   * @param index The position of the parameters in the batch.
+   * @param parameters The parameters of the operation.
+   * @param error The exception the operation failed with.
+   */
+  record Failure<P, R>(long index, P parameters, Throwable error) implements BatchItem<P, R> {}
+}
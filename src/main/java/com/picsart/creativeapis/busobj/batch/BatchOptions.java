@@ -0,0 +1,74 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 PicsArt, Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.picsart.creativeapis.busobj.batch;
+
+import static com.picsart.creativeapis.utils.Constants.*;
+
+import lombok.Builder;
+import lombok.Data;
+import lombok.experimental.Accessors;
+import lombok.experimental.FieldDefaults;
+
+/**
+ * This class represents the options of a batch of operations. It includes the number of
+ * operations in progress at once, the order of the results, whether a failed operation fails the
+ * whole batch, and the rate limit budget the batch keeps.
+ */
+@Builder
+@Data
+@Accessors(fluent = true)
+@FieldDefaults(makeFinal = true, level = lombok.AccessLevel.PRIVATE)
+public class BatchOptions {
+  /** The default options of a batch. */
+  public static final BatchOptions DEFAULT = BatchOptions.builder().build();
+
+  /** The maximum number of operations in progress at once. Defaults to BATCH_CONCURRENCY. */
+  @Builder.Default int concurrency = BATCH_CONCURRENCY;
+
+  /**
+   * Whether the results are emitted in the order of the parameters. The results completed ahead of
+   * a slower one are kept until it completes. Defaults to true.
+   */
+  @Builder.Default boolean ordered = true;
+
+  /**
+   * Whether a failed operation is emitted as a failure item, the batch going on with the next
+   * parameters. Otherwise the first failure fails the batch and cancels the operations in
+   * progress. Defaults to true.
+   */
+  @Builder.Default boolean isolateErrors = true;
+
+  /**
+   * Whether the batch stops starting operations when the rate limit remaining reported by the last
+   * response falls to the reserve, until the reset time of the rate limit. Defaults to true.
+   */
+  @Builder.Default boolean holdOnRateLimit = true;
+
+  /**
+   * The number of requests of the rate limit left to the other clients of the API key. Defaults to
+   * BATCH_RATE_LIMIT_RESERVE.
+   */
+  @Builder.Default int rateLimitReserve = BATCH_RATE_LIMIT_RESERVE;
+}
@@ -0,0 +1,53 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 PicsArt, Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.picsart.creativeapis.busobj.exception;
+
+import com.picsart.creativeapis.busobj.ApiActions;
+import lombok.Getter;
+
+/**
+ * Exception thrown before a request is sent when its image exceeds the limits configured for the
+ * action, instead of sending the whole image to be rejected with 413 Request Entity Too Large.
+ */
+@Getter
+public class ImageLimitExceededException extends ApiException {
+  private final ApiActions action;
+
+  public ImageLimitExceededException(String message, ApiActions action) {
+    super(message);
+    this.action = action;
+  }
+
+  @Override
+  public String toString() {
+    return "ImageLimitExceededException{"
+        + "action="
+        + action
+        + ", message='"
+        + getMessage()
+        + '\''
+        + '}';
+  }
+}
@@ -26,7 +26,10 @@ package com.picsart.creativeapis.busobj.genai.config;
 
 import static com.picsart.creativeapis.utils.Constants.*;
 
+import com.picsart.creativeapis.http.AdaptivePolling;
+import com.picsart.creativeapis.http.PollScheduler;
 import java.time.Duration;
+import javax.annotation.Nullable;
 import lombok.Builder;
 import lombok.Data;
 import lombok.experimental.Accessors;
@@ -62,4 +65,17 @@ public class GenAIApiClientConfig {
    * TEXT_2_IMAGE_POLLING_FIRST_DELAY.
    */
   @Builder.Default Duration text2ImagePollingFirstDelay = TEXT_2_IMAGE_POLLING_FIRST_DELAY;
+
+  /**
+   * The scheduler running the polls of the asynchronous jobs. Defaults to the scheduler shared by
+   * all clients.
+   */
+  @Builder.Default PollScheduler pollScheduler = PollScheduler.shared();
+
+  /**
+   * The adaptive polling learning the text2Image polling delays from the observed job
+   * durations. The configured delays are used until enough durations are known. Defaults to null,
+   * polling at the configured delays only.
+   */
+  @Nullable AdaptivePolling adaptivePolling;
 }
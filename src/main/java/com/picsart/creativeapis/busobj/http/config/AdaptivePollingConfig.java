@@ -0,0 +1,76 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 PicsArt, Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.picsart.creativeapis.busobj.http.config;
+
+import static com.picsart.creativeapis.utils.Constants.*;
+
+import java.time.Duration;
+import lombok.Builder;
+import lombok.Data;
+import lombok.experimental.Accessors;
+import lombok.experimental.FieldDefaults;
+
+/**
+ * This class represents the configuration for the adaptive polling of asynchronous jobs. It
+ * includes properties for the number of job durations the median is computed on, the geometric
+ * backoff between polls and the maximum time a job is polled.
+ */
+@Builder
+@Data
+@Accessors(fluent = true)
+@FieldDefaults(makeFinal = true, level = lombok.AccessLevel.PRIVATE)
+public class AdaptivePollingConfig {
+  /** The default configuration for the adaptive polling. */
+  public static final AdaptivePollingConfig DEFAULT = AdaptivePollingConfig.builder().build();
+
+  /**
+   * The number of most recent job durations kept per action and parameter bucket. Defaults to
+   * ADAPTIVE_POLLING_WINDOW_SIZE.
+   */
+  @Builder.Default int windowSize = ADAPTIVE_POLLING_WINDOW_SIZE;
+
+  /**
+   * The number of job durations needed before the observed median replaces the configured delays.
+   * Defaults to ADAPTIVE_POLLING_MIN_SAMPLES.
+   */
+  @Builder.Default int minSamples = ADAPTIVE_POLLING_MIN_SAMPLES;
+
+  /**
+   * The factor the delay between two polls is multiplied by after every poll. Defaults to
+   * ADAPTIVE_POLLING_BACKOFF_FACTOR.
+   */
+  @Builder.Default double backoffFactor = ADAPTIVE_POLLING_BACKOFF_FACTOR;
+
+  /** The minimum delay between two polls. Defaults to ADAPTIVE_POLLING_MIN_DELAY. */
+  @Builder.Default Duration minDelay = ADAPTIVE_POLLING_MIN_DELAY;
+
+  /** The maximum delay between two polls. Defaults to ADAPTIVE_POLLING_MAX_DELAY. */
+  @Builder.Default Duration maxDelay = ADAPTIVE_POLLING_MAX_DELAY;
+
+  /**
+   * The maximum time a job is polled, from its start. Defaults to ADAPTIVE_POLLING_MAX_WAIT.
+   */
+  @Builder.Default Duration maxWait = ADAPTIVE_POLLING_MAX_WAIT;
+}
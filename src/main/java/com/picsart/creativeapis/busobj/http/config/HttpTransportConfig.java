@@ -0,0 +1,112 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 PicsArt, Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.picsart.creativeapis.busobj.http.config;
+
+import static com.picsart.creativeapis.utils.Constants.*;
+
+import com.picsart.creativeapis.metrics.SdkMetrics;
+import java.time.Duration;
+import javax.annotation.Nullable;
+import lombok.Builder;
+import lombok.Data;
+import lombok.experimental.Accessors;
+import lombok.experimental.FieldDefaults;
+
+/**
+ * This class represents the configuration for the HTTP transport used by the SDK. It includes
+ * properties for sizing the connection pool and the event loop group the requests are executed on,
+ * for the client-side rate limiter, and for the metrics of the requests.
+ */
+@Builder
+@Data
+@Accessors(fluent = true)
+@FieldDefaults(makeFinal = true, level = lombok.AccessLevel.PRIVATE)
+public class HttpTransportConfig {
+  /** The default configuration for the HTTP transport. */
+  public static final HttpTransportConfig DEFAULT = HttpTransportConfig.builder().build();
+
+  /** The name of the connection pool. Defaults to HTTP_POOL_NAME. */
+  @Builder.Default String poolName = HTTP_POOL_NAME;
+
+  /**
+   * The maximum number of connections per remote host. Defaults to HTTP_POOL_MAX_CONNECTIONS.
+   */
+  @Builder.Default int maxConnections = HTTP_POOL_MAX_CONNECTIONS;
+
+  /**
+   * The maximum number of requests waiting for a connection. A negative value means twice the
+   * maximum number of connections. Defaults to HTTP_POOL_PENDING_ACQUIRE_MAX_COUNT.
+   */
+  @Builder.Default int pendingAcquireMaxCount = HTTP_POOL_PENDING_ACQUIRE_MAX_COUNT;
+
+  /**
+   * The maximum time a request waits for a connection. Defaults to
+   * HTTP_POOL_PENDING_ACQUIRE_TIMEOUT.
+   */
+  @Builder.Default Duration pendingAcquireTimeout = HTTP_POOL_PENDING_ACQUIRE_TIMEOUT;
+
+  /** The time after which an idle connection is closed. This is optional. */
+  @Nullable Duration maxIdleTime;
+
+  /** The time after which a connection is closed regardless of its state. This is optional. */
+  @Nullable Duration maxLifeTime;
+
+  /**
+   * The interval at which idle and expired connections are evicted in the background. This is
+   * optional, when not set connections are only checked on acquire.
+   */
+  @Nullable Duration evictionInterval;
+
+  /**
+   * The number of event loop threads dedicated to the SDK. This is optional, when not set the
+   * shared reactor-netty event loop group is used.
+   */
+  @Nullable Integer loopThreads;
+
+  /**
+   * Whether requests are held on the client side while the rate limit of their API key is
+   * exhausted, until the reset time reported by the server. Defaults to false.
+   */
+  @Builder.Default boolean rateLimiterEnabled = false;
+
+  /**
+   * The maximum time a request is held by the rate limiter, a request that would wait longer fails
+   * with TooManyRequestsException. Defaults to RATE_LIMITER_MAX_WAIT.
+   */
+  @Builder.Default Duration rateLimiterMaxWait = RATE_LIMITER_MAX_WAIT;
+
+  /**
+   * Whether the image files are uploaded without copying them through the heap, with sendfile on
+   * plain connections and memory-mapped chunks under TLS. When disabled they are encoded by the
+   * HttpClientForm of reactor-netty. Defaults to false.
+   */
+  @Builder.Default boolean zeroCopyFileUpload = false;
+
+  /**
+   * The metrics the requests are reported to, per action. Defaults to SdkMetrics.NOOP, which
+   * records nothing.
+   */
+  @Builder.Default SdkMetrics metrics = SdkMetrics.NOOP;
+}
@@ -0,0 +1,62 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 PicsArt, Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.picsart.creativeapis.busobj.http.config;
+
+import static com.picsart.creativeapis.utils.Constants.*;
+
+import java.time.Duration;
+import lombok.Builder;
+import lombok.Data;
+import lombok.experimental.Accessors;
+import lombok.experimental.FieldDefaults;
+
+/**
+ * This class represents the configuration for the scheduler of the polls of asynchronous jobs. It
+ * includes properties for the maximum number of poll requests in flight, the precision of the timer
+ * and the jitter added to the poll delays.
+ */
+@Builder
+@Data
+@Accessors(fluent = true)
+@FieldDefaults(makeFinal = true, level = lombok.AccessLevel.PRIVATE)
+public class PollSchedulerConfig {
+  /** The default configuration for the poll scheduler. */
+  public static final PollSchedulerConfig DEFAULT = PollSchedulerConfig.builder().build();
+
+  /**
+   * The maximum number of poll requests in flight, the polls due beyond it wait for one of them to
+   * complete. Defaults to POLL_MAX_CONCURRENT_POLLS.
+   */
+  @Builder.Default int maxConcurrentPolls = POLL_MAX_CONCURRENT_POLLS;
+
+  /** The duration of a tick of the timer wheel. Defaults to POLL_TICK_DURATION. */
+  @Builder.Default Duration tickDuration = POLL_TICK_DURATION;
+
+  /**
+   * The share of the delay, from 0 to 1, randomly added to every poll delay so that jobs submitted
+   * together are not polled together. Defaults to POLL_JITTER.
+   */
+  @Builder.Default double jitter = POLL_JITTER;
+}
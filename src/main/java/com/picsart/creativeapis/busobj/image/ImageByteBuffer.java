@@ -0,0 +1,51 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 PicsArt, Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.picsart.creativeapis.busobj.image;
+
+import java.nio.ByteBuffer;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import lombok.experimental.FieldDefaults;
+
+/**
+ * This class represents an image source that is the remaining content of a ByteBuffer, heap,
+ * direct or memory-mapped. The buffer is neither copied nor moved, it is sent from its position to
+ * its limit.
+ */
+@Getter
+@ToString
+@EqualsAndHashCode(callSuper = false)
+@FieldDefaults(makeFinal = true, level = lombok.AccessLevel.PRIVATE)
+public final class ImageByteBuffer extends ImageContent {
+  ByteBuffer buffer;
+  String fileName;
+
+  public ImageByteBuffer(ByteBuffer buffer, String fileName) {
+    super(ImageSourceType.BYTE_BUFFER);
+    this.buffer = buffer;
+    this.fileName = fileName;
+  }
+}
@@ -35,11 +35,16 @@ import lombok.experimental.FieldDefaults;
 @ToString
 @EqualsAndHashCode(callSuper = false)
 @FieldDefaults(makeFinal = true, level = lombok.AccessLevel.PRIVATE)
-public final class ImageFile extends ImageSource {
+public final class ImageFile extends ImageContent {
   File file;
 
   public ImageFile(File file) {
     super(ImageSourceType.FILE);
     this.file = file;
   }
+
+  @Override
+  public String getFileName() {
+    return file.getName();
+  }
 }
@@ -25,6 +25,8 @@
 package com.picsart.creativeapis.busobj.image;
 
 import java.io.File;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
 import lombok.Getter;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
@@ -34,7 +36,10 @@ import lombok.experimental.FieldDefaults;
 @Getter
 @RequiredArgsConstructor(access = lombok.AccessLevel.PROTECTED)
 @FieldDefaults(makeFinal = true, level = lombok.AccessLevel.PRIVATE)
-public sealed class ImageSource permits ImageUrl, ImageId, ImageFile {
+public sealed class ImageSource permits ImageUrl, ImageId, ImageContent {
+  /** The file name sent with the in-memory images when none is given. */
+  public static final String DEFAULT_FILE_NAME = "image";
+
   ImageSourceType type;
 
   public static ImageUrl fromUrl(@NonNull String url) {
@@ -49,9 +54,37 @@ public sealed class ImageSource permits ImageUrl, ImageId, ImageFile {
     return new ImageFile(file);
   }
 
+  public static ImageBytes fromBytes(@NonNull byte[] bytes) {
+    return fromBytes(bytes, DEFAULT_FILE_NAME);
+  }
+
+  public static ImageBytes fromBytes(@NonNull byte[] bytes, @NonNull String fileName) {
+    return new ImageBytes(bytes, fileName);
+  }
+
+  public static ImageByteBuffer fromByteBuffer(@NonNull ByteBuffer buffer) {
+    return fromByteBuffer(buffer, DEFAULT_FILE_NAME);
+  }
+
+  public static ImageByteBuffer fromByteBuffer(
+      @NonNull ByteBuffer buffer, @NonNull String fileName) {
+    return new ImageByteBuffer(buffer, fileName);
+  }
+
+  public static ImageStream fromStream(@NonNull InputStream stream) {
+    return fromStream(stream, DEFAULT_FILE_NAME);
+  }
+
+  public static ImageStream fromStream(@NonNull InputStream stream, @NonNull String fileName) {
+    return new ImageStream(stream, fileName);
+  }
+
   public enum ImageSourceType {
     URL,
     ID,
-    FILE
+    FILE,
+    BYTES,
+    BYTE_BUFFER,
+    STREAM
   }
 }
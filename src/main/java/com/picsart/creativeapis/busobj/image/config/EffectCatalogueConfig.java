@@ -0,0 +1,65 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 PicsArt, Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.picsart.creativeapis.busobj.image.config;
+
+import static com.picsart.creativeapis.utils.Constants.*;
+
+import java.time.Duration;
+import lombok.Builder;
+import lombok.Data;
+import lombok.experimental.Accessors;
+import lombok.experimental.FieldDefaults;
+
+/**
+ * This class represents the configuration for the effect catalogue. It includes properties for the
+ * age after which the catalogue is refreshed, the delay before a failed refresh is retried and
+ * whether the effect names are checked before the requests are sent.
+ */
+@Builder
+@Data
+@Accessors(fluent = true)
+@FieldDefaults(makeFinal = true, level = lombok.AccessLevel.PRIVATE)
+public class EffectCatalogueConfig {
+  /** The default configuration for the effect catalogue. */
+  public static final EffectCatalogueConfig DEFAULT = EffectCatalogueConfig.builder().build();
+
+  /**
+   * The age after which the catalogue is refreshed in the background, the kept catalogue is
+   * returned meanwhile. Defaults to EFFECT_CATALOGUE_REFRESH_AFTER.
+   */
+  @Builder.Default Duration refreshAfter = EFFECT_CATALOGUE_REFRESH_AFTER;
+
+  /**
+   * The delay after a failed refresh before the next call refreshes the catalogue again, the kept
+   * catalogue is returned meanwhile. Defaults to EFFECT_CATALOGUE_REFRESH_RETRY_AFTER.
+   */
+  @Builder.Default Duration refreshRetryAfter = EFFECT_CATALOGUE_REFRESH_RETRY_AFTER;
+
+  /**
+   * Whether the effect and effects previews operations fail with an IllegalArgumentException on an
+   * unknown effect name, before any image is uploaded. Defaults to false.
+   */
+  @Builder.Default boolean validateEffectNames = false;
+}
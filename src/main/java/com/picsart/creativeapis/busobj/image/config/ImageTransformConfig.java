@@ -0,0 +1,79 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 PicsArt, Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.picsart.creativeapis.busobj.image.config;
+
+import static com.picsart.creativeapis.utils.Constants.*;
+
+import com.picsart.creativeapis.busobj.ApiActions;
+import com.picsart.creativeapis.busobj.image.ImageFormat;
+import java.util.Set;
+import lombok.Builder;
+import lombok.Data;
+import lombok.experimental.Accessors;
+import lombok.experimental.FieldDefaults;
+
+/**
+ * This class represents the configuration for the transform of the images before they are sent. It
+ * includes properties for the maximum dimension the images are resized to, the format and quality
+ * they are encoded with, the number of worker threads and the actions whose images are
+ * transformed.
+ */
+@Builder
+@Data
+@Accessors(fluent = true)
+@FieldDefaults(makeFinal = true, level = lombok.AccessLevel.PRIVATE)
+public class ImageTransformConfig {
+  /** The default configuration for the image transform. */
+  public static final ImageTransformConfig DEFAULT = ImageTransformConfig.builder().build();
+
+  /**
+   * The maximum width and height of the sent images, larger images are resized keeping their
+   * aspect ratio. Defaults to IMAGE_TRANSFORM_MAX_DIMENSION.
+   */
+  @Builder.Default int maxDimension = IMAGE_TRANSFORM_MAX_DIMENSION;
+
+  /**
+   * The format the images are encoded with. The images with transparency are encoded as PNG when
+   * the format is JPG, and WEBP needs an ImageIO plugin writing it, otherwise JPG is used. Defaults
+   * to JPG.
+   */
+  @Builder.Default ImageFormat format = ImageFormat.JPG;
+
+  /** The quality of the lossy encoding, from 0 to 1. Defaults to IMAGE_TRANSFORM_QUALITY. */
+  @Builder.Default float quality = IMAGE_TRANSFORM_QUALITY;
+
+  /**
+   * The number of threads decoding and encoding the images, the transforms waiting for a thread are
+   * queued. Defaults to IMAGE_TRANSFORM_THREADS.
+   */
+  @Builder.Default int threads = IMAGE_TRANSFORM_THREADS;
+
+  /**
+   * The actions whose images are transformed, the output of the other actions depends on the size
+   * of their input. Defaults to remove background and effect.
+   */
+  @Builder.Default
+  Set<ApiActions> actions = Set.of(ApiActions.REMOVE_BACKGROUND, ApiActions.EFFECT);
+}
@@ -0,0 +1,62 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 PicsArt, Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.picsart.creativeapis.busobj.image.config;
+
+import com.picsart.creativeapis.busobj.ApiActions;
+import java.util.Map;
+import lombok.Builder;
+import lombok.Data;
+import lombok.Singular;
+import lombok.experimental.Accessors;
+import lombok.experimental.FieldDefaults;
+
+/**
+ * This class represents the configuration for the preflight check of the images. It includes the
+ * limits of the input images of every action, to be set to those of the API plan.
+ */
+@Builder
+@Data
+@Accessors(fluent = true)
+@FieldDefaults(makeFinal = true, level = lombok.AccessLevel.PRIVATE)
+public class PreflightConfig {
+  /** The default configuration for the preflight check, without any limit. */
+  public static final PreflightConfig DEFAULT = PreflightConfig.builder().build();
+
+  /** The limits of the actions without their own limits. Defaults to no limit. */
+  @Builder.Default ImageLimits defaultLimits = ImageLimits.NONE;
+
+  /** The limits of the input images per action. */
+  @Singular Map<ApiActions, ImageLimits> limits;
+
+  /**
+   * Returns the limits of the input image of the specified action.
+   *
+   * @param action The action.
+   * @return The limits of the action, or the default limits.
+   */
+  public ImageLimits limits(ApiActions action) {
+    return limits.getOrDefault(action, defaultLimits);
+  }
+}
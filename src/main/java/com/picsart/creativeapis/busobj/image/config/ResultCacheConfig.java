@@ -0,0 +1,73 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 PicsArt, Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.picsart.creativeapis.busobj.image.config;
+
+import static com.picsart.creativeapis.utils.Constants.*;
+
+import com.picsart.creativeapis.busobj.ApiActions;
+import java.time.Duration;
+import java.util.Set;
+import lombok.Builder;
+import lombok.Data;
+import lombok.experimental.Accessors;
+import lombok.experimental.FieldDefaults;
+
+/**
+ * This class represents the configuration for the in-memory result cache. It includes properties
+ * for the time a result is kept, the maximum number of results kept and the actions whose results
+ * are cached.
+ */
+@Builder
+@Data
+@Accessors(fluent = true)
+@FieldDefaults(makeFinal = true, level = lombok.AccessLevel.PRIVATE)
+public class ResultCacheConfig {
+  /** The default configuration for the result cache. */
+  public static final ResultCacheConfig DEFAULT = ResultCacheConfig.builder().build();
+
+  /**
+   * The time a result is kept. It must be shorter than the time the result image URLs are valid.
+   * Defaults to RESULT_CACHE_TTL.
+   */
+  @Builder.Default Duration ttl = RESULT_CACHE_TTL;
+
+  /**
+   * The maximum number of results kept, the least recently used are evicted first. Defaults to
+   * RESULT_CACHE_MAX_ENTRIES.
+   */
+  @Builder.Default int maxEntries = RESULT_CACHE_MAX_ENTRIES;
+
+  /**
+   * The actions whose results are cached, they must return the same result for the same request.
+   * Defaults to adjust, effect, background texture and upscale.
+   */
+  @Builder.Default
+  Set<ApiActions> actions =
+      Set.of(
+          ApiActions.ADJUST,
+          ApiActions.EFFECT,
+          ApiActions.BACKGROUND_TEXTURE,
+          ApiActions.UPSCALE);
+}
@@ -24,13 +24,12 @@
 
 package com.picsart.creativeapis.busobj.image.mapper;
 
-import com.picsart.creativeapis.busobj.image.ImageFile;
+import com.picsart.creativeapis.busobj.image.ImageContent;
 import com.picsart.creativeapis.busobj.image.ImageId;
 import com.picsart.creativeapis.busobj.image.ImageSource;
 import com.picsart.creativeapis.busobj.image.ImageUrl;
 import com.picsart.creativeapis.busobj.image.parameters.*;
 import com.picsart.creativeapis.busobj.image.request.*;
-import java.io.File;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.Named;
@@ -45,68 +44,68 @@ import org.mapstruct.factory.Mappers;
 public interface ParametersMapper {
   ParametersMapper INSTANCE = Mappers.getMapper(ParametersMapper.class);
 
-  @Mapping(target = "image", source = "image", qualifiedByName = "toImageFile")
+  @Mapping(target = "image", source = "image", qualifiedByName = "toImageContent")
   @Mapping(target = "imageId", source = "image", qualifiedByName = "toImageId")
   @Mapping(target = "imageUrl", source = "image", qualifiedByName = "toImageUrl")
   EffectRequest toRequest(EffectParameters parameters);
 
-  @Mapping(target = "image", source = "image", qualifiedByName = "toImageFile")
+  @Mapping(target = "image", source = "image", qualifiedByName = "toImageContent")
   @Mapping(target = "imageId", source = "image", qualifiedByName = "toImageId")
   @Mapping(target = "imageUrl", source = "image", qualifiedByName = "toImageUrl")
-  @Mapping(target = "bgImage", source = "bgImage", qualifiedByName = "toImageFile")
+  @Mapping(target = "bgImage", source = "bgImage", qualifiedByName = "toImageContent")
   @Mapping(target = "bgImageId", source = "bgImage", qualifiedByName = "toImageId")
   @Mapping(target = "bgImageUrl", source = "bgImage", qualifiedByName = "toImageUrl")
   RemoveBackgroundRequest toRequest(RemoveBackgroundParameters parameters);
 
-  @Mapping(target = "image", source = "image", qualifiedByName = "toImageFile")
+  @Mapping(target = "image", source = "image", qualifiedByName = "toImageContent")
   @Mapping(target = "imageId", source = "image", qualifiedByName = "toImageId")
   @Mapping(target = "imageUrl", source = "image", qualifiedByName = "toImageUrl")
   UltraUpscaleRequest toRequest(UltraUpscaleParameters parameters);
 
-  @Mapping(target = "image", source = "image", qualifiedByName = "toImageFile")
+  @Mapping(target = "image", source = "image", qualifiedByName = "toImageContent")
   @Mapping(target = "imageId", source = "image", qualifiedByName = "toImageId")
   @Mapping(target = "imageUrl", source = "image", qualifiedByName = "toImageUrl")
   UpscaleRequest toRequest(UpscaleParameters parameters);
 
-  @Mapping(target = "image", source = "image", qualifiedByName = "toImageFile")
+  @Mapping(target = "image", source = "image", qualifiedByName = "toImageContent")
   @Mapping(target = "imageId", source = "image", qualifiedByName = "toImageId")
   @Mapping(target = "imageUrl", source = "image", qualifiedByName = "toImageUrl")
   UltraEnhanceRequest toRequest(UltraEnhanceParameters parameters);
 
-  @Mapping(target = "image", source = "image", qualifiedByName = "toImageFile")
+  @Mapping(target = "image", source = "image", qualifiedByName = "toImageContent")
   @Mapping(target = "imageId", source = "image", qualifiedByName = "toImageId")
   @Mapping(target = "imageUrl", source = "image", qualifiedByName = "toImageUrl")
   EnhanceFaceRequest toRequest(EnhanceFaceParameters parameters);
 
-  @Mapping(target = "image", source = "image", qualifiedByName = "toImageFile")
+  @Mapping(target = "image", source = "image", qualifiedByName = "toImageContent")
   @Mapping(target = "imageId", source = "image", qualifiedByName = "toImageId")
   @Mapping(target = "imageUrl", source = "image", qualifiedByName = "toImageUrl")
   EffectsPreviewsRequest toRequest(EffectsPreviewsParameters parameters);
 
-  @Mapping(target = "image", source = "image", qualifiedByName = "toImageFile")
+  @Mapping(target = "image", source = "image", qualifiedByName = "toImageContent")
   @Mapping(target = "imageId", source = "image", qualifiedByName = "toImageId")
   @Mapping(target = "imageUrl", source = "image", qualifiedByName = "toImageUrl")
   AdjustRequest toRequest(AdjustParameters parameters);
 
-  @Mapping(target = "image", source = "image", qualifiedByName = "toImageFile")
+  @Mapping(target = "image", source = "image", qualifiedByName = "toImageContent")
   @Mapping(target = "imageId", source = "image", qualifiedByName = "toImageId")
   @Mapping(target = "imageUrl", source = "image", qualifiedByName = "toImageUrl")
   BackgroundTextureRequest toRequest(BackgroundTextureParameters parameters);
 
-  @Mapping(target = "image", source = "image", qualifiedByName = "toImageFile")
+  @Mapping(target = "image", source = "image", qualifiedByName = "toImageContent")
   @Mapping(target = "imageId", source = "image", qualifiedByName = "toImageId")
   @Mapping(target = "imageUrl", source = "image", qualifiedByName = "toImageUrl")
   @Mapping(target = "maskId", source = "mask", qualifiedByName = "toImageId")
   @Mapping(target = "maskUrl", source = "mask", qualifiedByName = "toImageUrl")
-  @Mapping(target = "mask", source = "mask", qualifiedByName = "toImageFile")
-  @Mapping(target = "sticker", source = "sticker", qualifiedByName = "toImageFile")
+  @Mapping(target = "mask", source = "mask", qualifiedByName = "toImageContent")
+  @Mapping(target = "sticker", source = "sticker", qualifiedByName = "toImageContent")
   @Mapping(target = "stickerId", source = "sticker", qualifiedByName = "toImageId")
   @Mapping(target = "stickerUrl", source = "sticker", qualifiedByName = "toImageUrl")
   SurfaceMapRequest toRequest(SurfaceMapParameters parameters);
 
   @Mapping(target = "imageUrl", ignore = true)
-  @Mapping(target = "image", source = "image", qualifiedByName = "toImageFile")
-  UploadRequest toRequest(ImageFile image);
+  @Mapping(target = "image", source = "image", qualifiedByName = "toImageContent")
+  UploadRequest toRequest(ImageContent image);
 
   @Mapping(target = "imageUrl", source = "imageUrl", qualifiedByName = "toImageUrl")
   @Mapping(target = "image", ignore = true)
@@ -120,10 +119,10 @@ public interface ParametersMapper {
     return null;
   }
 
-  @Named("toImageFile")
-  default File toImageFile(ImageSource imageSource) {
-    if (imageSource.getType() == ImageSource.ImageSourceType.FILE) {
-      return ((ImageFile) imageSource).getFile();
+  @Named("toImageContent")
+  default ImageContent toImageContent(ImageSource imageSource) {
+    if (imageSource instanceof ImageContent imageContent) {
+      return imageContent;
     }
     return null;
   }
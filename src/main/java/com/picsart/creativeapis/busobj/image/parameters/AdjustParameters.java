@@ -31,6 +31,7 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NonNull;
+import lombok.With;
 import lombok.experimental.FieldDefaults;
 import org.checkerframework.common.value.qual.IntRange;
 
@@ -43,9 +44,9 @@ import org.checkerframework.common.value.qual.IntRange;
 @Data
 @Builder
 @FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
-public class AdjustParameters {
+public class AdjustParameters implements ImageParameters<AdjustParameters> {
   /** The source of the image to be adjusted. */
-  ImageSource image;
+  @With ImageSource image;
 
   /** The desired format of the adjusted image. This is optional. */
   @Nullable ImageFormat format;
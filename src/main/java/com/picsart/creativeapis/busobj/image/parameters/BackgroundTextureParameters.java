@@ -32,6 +32,7 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NonNull;
+import lombok.With;
 import lombok.experimental.FieldDefaults;
 import org.checkerframework.common.value.qual.IntRange;
 
@@ -45,9 +46,9 @@ import org.checkerframework.common.value.qual.IntRange;
 @Data
 @Builder
 @FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
-public class BackgroundTextureParameters {
+public class BackgroundTextureParameters implements ImageParameters<BackgroundTextureParameters> {
   /** The source of the image for which the background texture will be generated. */
-  ImageSource image;
+  @With ImageSource image;
 
   /**
    * The desired format of the image after the background texture is generated. This is optional.
@@ -31,6 +31,7 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NonNull;
+import lombok.With;
 import lombok.experimental.FieldDefaults;
 
 /**
@@ -40,9 +41,9 @@ import lombok.experimental.FieldDefaults;
 @Data
 @Builder
 @FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
-public class EffectParameters {
+public class EffectParameters implements ImageParameters<EffectParameters> {
   /** The source of the image to which the effect will be applied. */
-  ImageSource image;
+  @With ImageSource image;
 
   /** The name of the effect to be applied. */
   String effectName;
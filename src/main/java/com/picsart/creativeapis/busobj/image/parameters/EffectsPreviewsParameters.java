@@ -29,6 +29,7 @@ import com.picsart.creativeapis.busobj.image.ImageSource;
 import java.util.List;
 import javax.annotation.Nullable;
 import lombok.*;
+import lombok.With;
 import lombok.experimental.FieldDefaults;
 
 /**
@@ -40,9 +41,9 @@ import lombok.experimental.FieldDefaults;
 @Data
 @Builder
 @FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
-public class EffectsPreviewsParameters {
+public class EffectsPreviewsParameters implements ImageParameters<EffectsPreviewsParameters> {
   /** The source of the image for which the previews will be generated. */
-  ImageSource image;
+  @With ImageSource image;
 
   /**
    * The names of the effects for which previews will be generated. The list must contain at least
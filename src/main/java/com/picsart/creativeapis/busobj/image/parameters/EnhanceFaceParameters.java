@@ -31,6 +31,7 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NonNull;
+import lombok.With;
 import lombok.experimental.FieldDefaults;
 
 /**
@@ -41,9 +42,9 @@ import lombok.experimental.FieldDefaults;
 @Data
 @Builder
 @FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
-public class EnhanceFaceParameters {
+public class EnhanceFaceParameters implements ImageParameters<EnhanceFaceParameters> {
   /** The source of the image in which the face will be enhanced. */
-  ImageSource image;
+  @With ImageSource image;
 
   /** The desired format of the image after the face is enhanced. This is optional. */
   @Nullable ImageFormat format;
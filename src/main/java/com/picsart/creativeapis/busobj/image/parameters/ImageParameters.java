@@ -0,0 +1,50 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 PicsArt, Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.picsart.creativeapis.busobj.image.parameters;
+
+import com.picsart.creativeapis.busobj.image.ImageSource;
+
+/**
+ * This interface represents the parameters of an operation on an image. The image source can be
+ * replaced, for instance by the ID of the image once it is uploaded.
+ *
+ * @param <P> The type of the parameters.
+ */
+public interface ImageParameters<P extends ImageParameters<P>> {
+  /**
+   * Returns the source of the image the operation is applied to.
+   *
+   * @return The image source.
+   */
+  ImageSource getImage();
+
+  /**
+   * Returns a copy of the parameters with the specified image source.
+   *
+   * @param image The image source.
+   * @return The parameters with the image source replaced.
+   */
+  P withImage(ImageSource image);
+}
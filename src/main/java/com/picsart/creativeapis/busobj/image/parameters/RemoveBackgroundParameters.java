@@ -33,6 +33,7 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NonNull;
+import lombok.With;
 import lombok.experimental.FieldDefaults;
 import org.checkerframework.common.value.qual.IntRange;
 
@@ -47,9 +48,9 @@ import org.checkerframework.common.value.qual.IntRange;
 @Data
 @Builder
 @FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
-public class RemoveBackgroundParameters {
+public class RemoveBackgroundParameters implements ImageParameters<RemoveBackgroundParameters> {
   /** The source of the image from which the background will be removed. */
-  ImageSource image;
+  @With ImageSource image;
 
   /** The output type of the image after the background is removed. This is optional. */
   @Nullable OutputType outputType;
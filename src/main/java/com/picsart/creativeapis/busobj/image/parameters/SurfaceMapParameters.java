@@ -30,6 +30,7 @@ import javax.annotation.Nullable;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Data;
+import lombok.With;
 import lombok.experimental.FieldDefaults;
 
 /**
@@ -39,9 +40,9 @@ import lombok.experimental.FieldDefaults;
 @Data
 @Builder
 @FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
-public class SurfaceMapParameters {
+public class SurfaceMapParameters implements ImageParameters<SurfaceMapParameters> {
   /** The source of the image for which the surface map will be created. */
-  ImageSource image;
+  @With ImageSource image;
 
   /** The mask to be applied to the image. */
   ImageSource mask;
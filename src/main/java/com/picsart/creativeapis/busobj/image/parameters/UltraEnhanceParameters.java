@@ -31,6 +31,7 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NonNull;
+import lombok.With;
 import lombok.experimental.FieldDefaults;
 import org.checkerframework.common.value.qual.IntRange;
 
@@ -43,9 +44,9 @@ import org.checkerframework.common.value.qual.IntRange;
 @Data
 @Builder
 @FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
-public class UltraEnhanceParameters {
+public class UltraEnhanceParameters implements ImageParameters<UltraEnhanceParameters> {
   /** The source of the image to be enhanced. */
-  ImageSource image;
+  @With ImageSource image;
 
   /**
    * The upscale factor for the enhancement. This is optional. Must be between 2 and 16, inclusive.
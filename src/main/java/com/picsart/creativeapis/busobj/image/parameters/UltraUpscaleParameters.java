@@ -32,6 +32,7 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NonNull;
+import lombok.With;
 import lombok.experimental.FieldDefaults;
 import org.checkerframework.common.value.qual.IntRange;
 
@@ -44,9 +45,9 @@ import org.checkerframework.common.value.qual.IntRange;
 @Data
 @Builder
 @FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
-public class UltraUpscaleParameters {
+public class UltraUpscaleParameters implements ImageParameters<UltraUpscaleParameters> {
   /** The source of the image to be upscaled. */
-  ImageSource image;
+  @With ImageSource image;
 
   /**
    * The upscale factor for the upscaling. This is optional. Must be between 2 and 16, inclusive.
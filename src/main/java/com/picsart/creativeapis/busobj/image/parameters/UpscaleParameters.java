@@ -31,6 +31,7 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NonNull;
+import lombok.With;
 import lombok.experimental.FieldDefaults;
 
 /**
@@ -41,9 +42,9 @@ import lombok.experimental.FieldDefaults;
 @Data
 @Builder
 @FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
-public class UpscaleParameters {
+public class UpscaleParameters implements ImageParameters<UpscaleParameters> {
   /** The source of the image to be upscaled. */
-  ImageSource image;
+  @With ImageSource image;
 
   /** The upscale factor for the upscaling. This is optional. Allowed values: 2, 4, 8, 16. */
   @Nullable Integer upscaleFactor;
@@ -24,10 +24,10 @@
 
 package com.picsart.creativeapis.busobj.image.request;
 
+import com.picsart.creativeapis.busobj.image.ImageContent;
 import com.picsart.creativeapis.busobj.image.ImageFormat;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
-import java.io.File;
 import javax.annotation.Nullable;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
@@ -96,7 +96,7 @@ public class AdjustRequest extends RequestWithImageAndFormat {
   public AdjustRequest(
       @Nullable String imageId,
       @Nullable String imageUrl,
-      @Nullable File image,
+      @Nullable ImageContent image,
       @Nullable ImageFormat format,
       @Nullable Integer brightness,
       @Nullable Integer contrast,
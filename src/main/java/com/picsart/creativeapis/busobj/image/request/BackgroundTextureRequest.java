@@ -25,11 +25,11 @@
 package com.picsart.creativeapis.busobj.image.request;
 
 import com.picsart.creativeapis.busobj.image.BackgroundTexturePattern;
+import com.picsart.creativeapis.busobj.image.ImageContent;
 import com.picsart.creativeapis.busobj.image.ImageFormat;
 import jakarta.validation.constraints.AssertTrue;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
-import java.io.File;
 import javax.annotation.Nullable;
 import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
@@ -67,7 +67,7 @@ public class BackgroundTextureRequest extends RequestWithImageAndFormat {
   public BackgroundTextureRequest(
       @Nullable String imageId,
       @Nullable String imageUrl,
-      @Nullable File image,
+      @Nullable ImageContent image,
       @Nullable ImageFormat format,
       @Nullable Integer width,
       @Nullable Integer height,
@@ -24,9 +24,9 @@
 
 package com.picsart.creativeapis.busobj.image.request;
 
+import com.picsart.creativeapis.busobj.image.ImageContent;
 import com.picsart.creativeapis.busobj.image.ImageFormat;
 import jakarta.validation.constraints.NotBlank;
-import java.io.File;
 import javax.annotation.Nullable;
 import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
@@ -44,7 +44,7 @@ public class EffectRequest extends RequestWithImageAndFormat {
   public EffectRequest(
       @Nullable String imageId,
       @Nullable String imageUrl,
-      @Nullable File image,
+      @Nullable ImageContent image,
       @Nullable ImageFormat format,
       String effectName) {
     super(imageId, imageUrl, image, format);
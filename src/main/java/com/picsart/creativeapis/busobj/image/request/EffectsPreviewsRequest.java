@@ -24,11 +24,11 @@
 
 package com.picsart.creativeapis.busobj.image.request;
 
+import com.picsart.creativeapis.busobj.image.ImageContent;
 import com.picsart.creativeapis.busobj.image.ImageFormat;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.Size;
-import java.io.File;
 import java.util.List;
 import javax.annotation.Nullable;
 import lombok.AccessLevel;
@@ -52,7 +52,7 @@ public class EffectsPreviewsRequest extends RequestWithImageAndFormat {
   public EffectsPreviewsRequest(
       @Nullable String imageId,
       @Nullable String imageUrl,
-      @Nullable File image,
+      @Nullable ImageContent image,
       @Nullable ImageFormat format,
       List<String> effectNames,
       @Nullable Integer previewSize) {
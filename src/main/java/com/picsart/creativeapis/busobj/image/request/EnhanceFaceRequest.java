@@ -24,8 +24,8 @@
 
 package com.picsart.creativeapis.busobj.image.request;
 
+import com.picsart.creativeapis.busobj.image.ImageContent;
 import com.picsart.creativeapis.busobj.image.ImageFormat;
-import java.io.File;
 import javax.annotation.Nullable;
 
 public class EnhanceFaceRequest extends RequestWithImageAndFormat {
@@ -33,7 +33,7 @@ public class EnhanceFaceRequest extends RequestWithImageAndFormat {
   public EnhanceFaceRequest(
       @Nullable String imageId,
       @Nullable String imageUrl,
-      @Nullable File image,
+      @Nullable ImageContent image,
       @Nullable ImageFormat format) {
     super(imageId, imageUrl, image, format);
   }
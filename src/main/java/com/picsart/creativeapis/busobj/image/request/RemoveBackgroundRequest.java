@@ -24,6 +24,7 @@
 
 package com.picsart.creativeapis.busobj.image.request;
 
+import com.picsart.creativeapis.busobj.image.ImageContent;
 import com.picsart.creativeapis.busobj.image.ImageFormat;
 import com.picsart.creativeapis.busobj.image.OutputType;
 import com.picsart.creativeapis.busobj.image.Scale;
@@ -31,7 +32,6 @@ import com.picsart.creativeapis.utils.ValidationUtils;
 import jakarta.validation.constraints.AssertTrue;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
-import java.io.File;
 import javax.annotation.Nullable;
 import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
@@ -49,7 +49,7 @@ public class RemoveBackgroundRequest extends RequestWithImageAndFormat {
 
   @Nullable String bgImageUrl;
 
-  @Nullable File bgImage;
+  @Nullable ImageContent bgImage;
 
   @Nullable String bgColor;
 
@@ -81,12 +81,12 @@ public class RemoveBackgroundRequest extends RequestWithImageAndFormat {
   public RemoveBackgroundRequest(
       @Nullable String imageId,
       @Nullable String imageUrl,
-      @Nullable File image,
+      @Nullable ImageContent image,
       @Nullable ImageFormat format,
       @Nullable OutputType outputType,
       @Nullable String bgImageId,
       @Nullable String bgImageUrl,
-      @Nullable File bgImage,
+      @Nullable ImageContent bgImage,
       @Nullable String bgColor,
       @Nullable Integer bgBlur,
       @Nullable Integer bgWidth,
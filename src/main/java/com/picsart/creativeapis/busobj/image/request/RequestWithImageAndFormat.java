@@ -25,10 +25,10 @@
 package com.picsart.creativeapis.busobj.image.request;
 
 import com.picsart.creativeapis.busobj.MultipartBodyRequest;
+import com.picsart.creativeapis.busobj.image.ImageContent;
 import com.picsart.creativeapis.busobj.image.ImageFormat;
 import com.picsart.creativeapis.utils.ValidationUtils;
 import jakarta.validation.constraints.AssertTrue;
-import java.io.File;
 import javax.annotation.Nullable;
 import lombok.AccessLevel;
 import lombok.Data;
@@ -41,7 +41,7 @@ public class RequestWithImageAndFormat implements MultipartBodyRequest {
 
   @Nullable String imageUrl;
 
-  @Nullable File image;
+  @Nullable ImageContent image;
 
   @Nullable ImageFormat format;
 
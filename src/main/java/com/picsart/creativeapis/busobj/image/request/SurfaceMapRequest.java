@@ -24,29 +24,28 @@
 
 package com.picsart.creativeapis.busobj.image.request;
 
+import com.google.common.base.Function;
+import com.picsart.creativeapis.busobj.image.ImageContent;
 import com.picsart.creativeapis.busobj.image.ImageFormat;
-import com.picsart.creativeapis.utils.MultipartRequestBodyUtils;
 import com.picsart.creativeapis.utils.ValidationUtils;
 import jakarta.validation.constraints.AssertTrue;
-import java.io.File;
 import java.util.Map;
 import javax.annotation.Nullable;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.experimental.FieldDefaults;
-import reactor.netty.http.client.HttpClientForm;
 
 @Getter
 @EqualsAndHashCode(callSuper = true)
 @FieldDefaults(makeFinal = true, level = lombok.AccessLevel.PRIVATE)
 public class SurfaceMapRequest extends RequestWithImageAndFormat {
-  @Nullable File mask;
+  @Nullable ImageContent mask;
 
   @Nullable String maskUrl;
 
   @Nullable String maskId;
 
-  @Nullable File sticker;
+  @Nullable ImageContent sticker;
 
   @Nullable String stickerUrl;
 
@@ -55,12 +54,12 @@ public class SurfaceMapRequest extends RequestWithImageAndFormat {
   public SurfaceMapRequest(
       @Nullable String imageId,
       @Nullable String imageUrl,
-      @Nullable File image,
+      @Nullable ImageContent image,
       @Nullable ImageFormat format,
-      @Nullable File mask,
+      @Nullable ImageContent mask,
       @Nullable String maskUrl,
       @Nullable String maskId,
-      @Nullable File sticker,
+      @Nullable ImageContent sticker,
       @Nullable String stickerUrl,
       @Nullable String stickerId) {
     super(imageId, imageUrl, image, format);
@@ -110,8 +109,7 @@ public class SurfaceMapRequest extends RequestWithImageAndFormat {
 
   // TODO: remove when issue with lowercase format will be fixed
   @Override
-  public void addBodyToForm(HttpClientForm form) {
-    MultipartRequestBodyUtils.addRequestToClientForm(
-        form, this, Map.of("format", Object::toString));
+  public Map<String, Function<Object, String>> formFieldProcessors() {
+    return Map.of("format", Object::toString);
   }
 }
@@ -24,11 +24,11 @@
 
 package com.picsart.creativeapis.busobj.image.request;
 
+import com.picsart.creativeapis.busobj.image.ImageContent;
 import com.picsart.creativeapis.busobj.image.ImageFormat;
 import com.picsart.creativeapis.busobj.image.UpscaleMode;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
-import java.io.File;
 import javax.annotation.Nullable;
 import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
@@ -50,7 +50,7 @@ public class UltraUpscaleRequest extends RequestWithImageAndFormat {
   public UltraUpscaleRequest(
       @Nullable String imageId,
       @Nullable String imageUrl,
-      @Nullable File image,
+      @Nullable ImageContent image,
       @Nullable ImageFormat format,
       @Nullable Integer upscaleFactor,
       @Nullable UpscaleMode mode) {
@@ -25,9 +25,9 @@
 package com.picsart.creativeapis.busobj.image.request;
 
 import com.picsart.creativeapis.busobj.MultipartBodyRequest;
+import com.picsart.creativeapis.busobj.image.ImageContent;
 import com.picsart.creativeapis.utils.ValidationUtils;
 import jakarta.validation.constraints.AssertTrue;
-import java.io.File;
 import javax.annotation.Nullable;
 import lombok.Data;
 import lombok.experimental.FieldDefaults;
@@ -35,7 +35,7 @@ import lombok.experimental.FieldDefaults;
 @Data
 @FieldDefaults(level = lombok.AccessLevel.PRIVATE, makeFinal = true)
 public class UploadRequest implements MultipartBodyRequest {
-  @Nullable File image;
+  @Nullable ImageContent image;
 
   @Nullable String imageUrl;
 
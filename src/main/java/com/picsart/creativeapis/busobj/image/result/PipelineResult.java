@@ -0,0 +1,68 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 PicsArt, Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.picsart.creativeapis.busobj.image.result;
+
+import com.picsart.creativeapis.busobj.image.Image;
+import com.picsart.creativeapis.busobj.image.ImageSource;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * This record represents the result of an image pipeline run. It includes the source image, the
+ * result and latency of every stage in order, and the latency of the whole run.
+ *
+ * @param source The image the pipeline was run on.
+ * @param stages The results of the stages, in the order they were run.
+ * @param latency The time from the start of the first stage to the end of the last one.
+ */
+public record PipelineResult(ImageSource source, List<StageResult> stages, Duration latency) {
+
+  /**
+   * Returns the result of the last stage.
+   *
+   * @return The result of the pipeline.
+   */
+  public ResultWithImageAndStatus result() {
+    return stages.get(stages.size() - 1).result();
+  }
+
+  /**
+   * Returns the image of the last stage.
+   *
+   * @return The image produced by the pipeline.
+   */
+  public Image image() {
+    return result().image();
+  }
+
+  /**
+   * The result of a stage of the pipeline.
+   *
+   * @param name The name of the stage.
+   * @param result The result of the operation of the stage.
+   * @param latency The time from sending the operation to receiving its result.
+   */
+  public record StageResult(String name, ResultWithImageAndStatus result, Duration latency) {}
+}
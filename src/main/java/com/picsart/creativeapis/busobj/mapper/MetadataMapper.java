@@ -25,6 +25,7 @@
 package com.picsart.creativeapis.busobj.mapper;
 
 import com.picsart.creativeapis.busobj.result.Metadata;
+import javax.annotation.Nullable;
 import org.mapstruct.Mapper;
 import org.mapstruct.factory.Mappers;
 import reactor.netty.http.client.HttpClientResponse;
@@ -39,7 +40,17 @@ public interface MetadataMapper {
   String CORRELATION_ID = "x-picsart-correlation-id";
   String CREDIT_AVAILABLE = "x-picsart-credit-available";
 
-  default Metadata toMetadata(HttpClientResponse httpClientResponse) {
+  /** Reset times above this value are epoch seconds, smaller ones are the seconds left. */
+  long RATE_LIMIT_RESET_EPOCH_SECONDS_THRESHOLD = 1_000_000_000L;
+
+  /**
+   * Returns the metadata of a response, or an empty metadata when the result was not received in a
+   * response, such as a result returned from the result cache.
+   */
+  default Metadata toMetadata(@Nullable HttpClientResponse httpClientResponse) {
+    if (httpClientResponse == null) {
+      return new Metadata(null, null, null, null, null);
+    }
     var rateLimit = httpClientResponse.responseHeaders().getInt(RATE_LIMIT);
     var rateLimitRemaining = httpClientResponse.responseHeaders().getInt(RATE_LIMIT_REMAINING);
     var rateLimitReset = httpClientResponse.responseHeaders().getInt(RATE_LIMIT_RESET);
@@ -47,4 +58,11 @@ public interface MetadataMapper {
     var creditAvailable = httpClientResponse.responseHeaders().getInt(CREDIT_AVAILABLE);
     return new Metadata(rateLimit, rateLimitRemaining, rateLimitReset, traceId, creditAvailable);
   }
+
+  /** Converts the value of the rate limit reset time header to epoch milliseconds. */
+  static long toResetAtMillis(int rateLimitReset, long nowMillis) {
+    return rateLimitReset > RATE_LIMIT_RESET_EPOCH_SECONDS_THRESHOLD
+        ? rateLimitReset * 1000L
+        : nowMillis + rateLimitReset * 1000L;
+  }
 }
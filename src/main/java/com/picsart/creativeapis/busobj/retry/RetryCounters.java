@@ -0,0 +1,66 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 PicsArt, Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.picsart.creativeapis.busobj.retry;
+
+import java.util.concurrent.atomic.LongAdder;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+
+/**
+ * This class counts the retries made by an API instance, and by the instances derived from it with
+ * its with methods, which share its configuration.
+ */
+@FieldDefaults(makeFinal = true, level = AccessLevel.PRIVATE)
+public class RetryCounters {
+  LongAdder attempts = new LongAdder();
+  LongAdder giveUps = new LongAdder();
+
+  /**
+   * Returns the number of attempts made after a recoverable failure, the first attempts excluded.
+   *
+   * @return The number of retry attempts.
+   */
+  public long attempts() {
+    return attempts.sum();
+  }
+
+  /**
+   * Returns the number of requests failed after a recoverable failure because the maximum number of
+   * attempts or the deadline was reached.
+   *
+   * @return The number of give-ups.
+   */
+  public long giveUps() {
+    return giveUps.sum();
+  }
+
+  public void recordAttempt() {
+    attempts.increment();
+  }
+
+  public void recordGiveUp() {
+    giveUps.increment();
+  }
+}
@@ -0,0 +1,92 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 PicsArt, Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.picsart.creativeapis.busobj.retry;
+
+import static com.picsart.creativeapis.utils.Constants.*;
+
+import java.time.Duration;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import lombok.experimental.Accessors;
+import lombok.experimental.FieldDefaults;
+
+/**
+ * This class represents the policy for retrying requests failed with an exception marked {@link
+ * com.picsart.creativeapis.busobj.exception.Recoverable}. It includes properties for the maximum
+ * number of attempts, the exponential backoff between them and the total deadline. Only the GET
+ * requests are retried unless the POST requests are opted in.
+ */
+@Builder
+@Getter
+@EqualsAndHashCode
+@ToString
+@Accessors(fluent = true)
+@FieldDefaults(makeFinal = true, level = lombok.AccessLevel.PRIVATE)
+public class RetryPolicy {
+  /** The default policy for retrying requests. */
+  public static final RetryPolicy DEFAULT = RetryPolicy.builder().build();
+
+  /** The policy that never retries requests. */
+  public static final RetryPolicy NONE = RetryPolicy.builder().maxAttempts(1).build();
+
+  /**
+   * The maximum number of attempts, the first one included. Defaults to RETRY_MAX_ATTEMPTS.
+   */
+  @Builder.Default int maxAttempts = RETRY_MAX_ATTEMPTS;
+
+  /** The backoff before the first retry, doubled on every retry. Defaults to RETRY_BACKOFF. */
+  @Builder.Default Duration backoff = RETRY_BACKOFF;
+
+  /** The maximum backoff between two attempts. Defaults to RETRY_MAX_BACKOFF. */
+  @Builder.Default Duration maxBackoff = RETRY_MAX_BACKOFF;
+
+  /**
+   * The share of the backoff, from 0 to 1, randomly added or removed so that clients failed at the
+   * same time do not retry at the same time. Defaults to RETRY_JITTER.
+   */
+  @Builder.Default double jitter = RETRY_JITTER;
+
+  /**
+   * The total time allowed for all attempts, no retry is made when its backoff ends after it.
+   * Defaults to RETRY_DEADLINE.
+   */
+  @Builder.Default Duration deadline = RETRY_DEADLINE;
+
+  /**
+   * Whether a request failed with 429 waits at least until the rate limit reset time reported by
+   * the server before it is retried. Defaults to true.
+   */
+  @Builder.Default boolean honorRateLimitReset = true;
+
+  /**
+   * Whether the POST requests are retried too, not only the GET requests and the polls of the
+   * asynchronous jobs. A 408 or 5xx response does not prove that the server did nothing, a retried
+   * POST may spend credits twice or start a second asynchronous job. Requests with an image stream
+   * are never retried, the stream cannot be read again. Defaults to false.
+   */
+  @Builder.Default boolean retryPosts = false;
+}
@@ -24,9 +24,14 @@
 
 package com.picsart.creativeapis.genai;
 
+import com.picsart.creativeapis.busobj.batch.BatchItem;
+import com.picsart.creativeapis.busobj.batch.BatchOptions;
 import com.picsart.creativeapis.busobj.genai.parameters.Text2ImageParameters;
 import com.picsart.creativeapis.busobj.genai.result.Text2ImageResult;
+import com.picsart.creativeapis.busobj.retry.RetryCounters;
+import com.picsart.creativeapis.busobj.retry.RetryPolicy;
 import java.time.Duration;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 /** This interface defines the operations that can be performed with the GenAI API. */
@@ -56,6 +61,22 @@ public sealed interface GenAIApi permits GenAIApiImpl {
    */
   GenAIApi withResponseTimeout(Duration timeout);
 
+  /**
+   * Sets the policy for retrying the requests failed with a recoverable exception.
+   *
+   * @param retryPolicy The retry policy, RetryPolicy.NONE disables retries.
+   * @return An instance of GenAIApi with the retry policy set.
+   */
+  GenAIApi withRetryPolicy(RetryPolicy retryPolicy);
+
+  /**
+   * Returns the counters of the retries made by this instance, shared with the instances derived
+   * from it.
+   *
+   * @return The retry counters.
+   */
+  RetryCounters retryCounters();
+
   /**
    * Generate an image based on the text provided.
    *
@@ -63,4 +84,15 @@ public sealed interface GenAIApi permits GenAIApiImpl {
    * @return A Mono that emits the result of the operation.
    */
   Mono<Text2ImageResult> text2Image(Text2ImageParameters request);
+
+  /**
+   * Generates images for each of the texts, with the concurrency, order, error isolation and rate
+   * limit budget of the batch options. Each generation waits for the polling of its inference.
+   *
+   * @param requests The parameters of the operations.
+   * @param options The options of the batch.
+   * @return A Flux that emits the result or the failure of each operation.
+   */
+  Flux<BatchItem<Text2ImageParameters, Text2ImageResult>> text2ImageBatch(
+      Flux<Text2ImageParameters> requests, BatchOptions options);
 }
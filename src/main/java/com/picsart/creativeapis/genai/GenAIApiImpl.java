@@ -25,16 +25,22 @@
 package com.picsart.creativeapis.genai;
 
 import com.picsart.creativeapis.busobj.ApiConfig;
+import com.picsart.creativeapis.busobj.batch.BatchItem;
+import com.picsart.creativeapis.busobj.batch.BatchOptions;
 import com.picsart.creativeapis.busobj.genai.mapper.ParametersMapper;
 import com.picsart.creativeapis.busobj.genai.mapper.ResponseMapper;
 import com.picsart.creativeapis.busobj.genai.parameters.Text2ImageParameters;
 import com.picsart.creativeapis.busobj.genai.result.Text2ImageResult;
+import com.picsart.creativeapis.busobj.retry.RetryCounters;
+import com.picsart.creativeapis.busobj.retry.RetryPolicy;
 import com.picsart.creativeapis.genai.client.GenAIApiClient;
+import com.picsart.creativeapis.utils.BatchUtils;
 import java.time.Duration;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 import lombok.With;
 import lombok.experimental.FieldDefaults;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 @FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
@@ -61,6 +67,16 @@ public final class GenAIApiImpl implements GenAIApi {
     return withConfig(config.withTimeout(timeout));
   }
 
+  @Override
+  public GenAIApi withRetryPolicy(RetryPolicy retryPolicy) {
+    return withConfig(config.withRetryPolicy(retryPolicy));
+  }
+
+  @Override
+  public RetryCounters retryCounters() {
+    return config.retryCounters();
+  }
+
   @Override
   public Mono<Text2ImageResult> text2Image(Text2ImageParameters request) {
     return client
@@ -70,4 +86,10 @@ public final class GenAIApiImpl implements GenAIApi {
                 ResponseMapper.INSTANCE.toResult(
                     response.getBody(), response.getHttpClientResponse()));
   }
+
+  @Override
+  public Flux<BatchItem<Text2ImageParameters, Text2ImageResult>> text2ImageBatch(
+      Flux<Text2ImageParameters> requests, BatchOptions options) {
+    return BatchUtils.process(requests, this::text2Image, options);
+  }
 }
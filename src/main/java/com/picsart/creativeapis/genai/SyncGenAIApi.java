@@ -0,0 +1,81 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 PicsArt, Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.picsart.creativeapis.genai;
+
+import com.picsart.creativeapis.busobj.genai.parameters.Text2ImageParameters;
+import com.picsart.creativeapis.busobj.genai.result.Text2ImageResult;
+import com.picsart.creativeapis.utils.BlockingUtils;
+import java.time.Duration;
+import javax.annotation.Nullable;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.experimental.FieldDefaults;
+
+/**
+ * This class performs the operations of a GenAIApi as blocking calls, for the applications running
+ * a thread per request. The calls are cancelled when the calling thread is interrupted or when
+ * their deadline passes, see {@link com.picsart.creativeapis.image.SyncImageApi}.
+ */
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public final class SyncGenAIApi {
+  GenAIApi api;
+
+  @Nullable Duration deadline;
+
+  public SyncGenAIApi(GenAIApi api) {
+    this(api, null);
+  }
+
+  /**
+   * Sets the deadline of the calls, from the time they are made. A text2image call waits for the
+   * polling of its inference, so the deadline bounds the whole generation.
+   *
+   * @param deadline The maximum time a call waits, null removes the deadline.
+   * @return An instance of SyncGenAIApi with the deadline set.
+   */
+  public SyncGenAIApi withDeadline(@Nullable Duration deadline) {
+    return new SyncGenAIApi(api, deadline);
+  }
+
+  /**
+   * Returns the GenAIApi performing the calls.
+   *
+   * @return The GenAIApi.
+   */
+  public GenAIApi async() {
+    return api;
+  }
+
+  /**
+   * Generate an image based on the text provided.
+   *
+   * @param request The parameters for the operation.
+   * @return The result of the operation.
+   */
+  public Text2ImageResult text2Image(Text2ImageParameters request) {
+    return BlockingUtils.await(api.text2Image(request), deadline);
+  }
+}
@@ -25,6 +25,7 @@
 package com.picsart.creativeapis.genai.client;
 
 import static com.picsart.creativeapis.utils.Constants.*;
+import static com.picsart.creativeapis.utils.RetryUtils.*;
 import static com.picsart.creativeapis.utils.ValidationUtils.*;
 
 import com.picsart.creativeapis.AbstractApiClient;
@@ -35,7 +36,12 @@ import com.picsart.creativeapis.busobj.genai.config.GenAIApiClientConfig;
 import com.picsart.creativeapis.busobj.genai.request.Text2ImageRequest;
 import com.picsart.creativeapis.busobj.genai.response.Text2ImageMiddleResponse;
 import com.picsart.creativeapis.busobj.genai.response.Text2ImageResponse;
+import com.picsart.creativeapis.busobj.image.response.ErrorResponse;
 import com.picsart.creativeapis.http.ApiHttpClient;
+import com.picsart.creativeapis.metrics.MetricsContext;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.annotation.Nullable;
 import lombok.NonNull;
 import lombok.experimental.FieldDefaults;
 import lombok.extern.slf4j.Slf4j;
@@ -52,6 +58,18 @@ public class GenAIApiClientImpl extends AbstractApiClient implements GenAIApiCli
     this.clientConfig = clientConfig;
   }
 
+  /**
+   * Warms up the HTTP client and loads the classes of the requests and responses of the GenAI API,
+   * ahead of the first request.
+   *
+   * @return A Mono completing once the client is warmed up.
+   */
+  public Mono<Void> warmup() {
+    return warmup(
+        List.of(Text2ImageRequest.class),
+        List.of(ErrorResponse.class, Text2ImageMiddleResponse.class, Text2ImageResponse.class));
+  }
+
   @Override
   public Mono<HttpResponseWithBody<Text2ImageResponse>> text2Image(
       ApiConfig config, Text2ImageRequest request) {
@@ -66,30 +84,53 @@ public class GenAIApiClientImpl extends AbstractApiClient implements GenAIApiCli
                 apiKey,
                 request,
                 config.timeout())
+            .transform(retryPost(config, request))
             .map(response -> response.parseBody(Text2ImageMiddleResponse.class))
             .map(HttpResponseWithBody::getBody)
             .map(Text2ImageMiddleResponse::inferenceId)
-            .delayElement(clientConfig.text2ImagePollingFirstDelay())
-            .flatMap(id -> getText2ImageAsyncResult(config, id));
-    return validateRequestMono.then(sendRequestMono);
+            .flatMap(id -> getText2ImageAsyncResult(config, id, request.getCount()));
+    return validateRequestMono
+        .then(sendRequestMono)
+        .contextWrite(MetricsContext.action(ApiActions.TEXT2IMAGE));
   }
 
   // TODO: use getAsyncResponse method from AbstractApiClient when status status issue will be fixed
   private Mono<HttpResponseWithBody<Text2ImageResponse>> getText2ImageAsyncResult(
-      ApiConfig config, String id) {
-    return apiHttpClient
-        .sendGetRequest(
-            appendBaseUrl(
-                config.baseUrl(),
-                ApiActions.TEXT2IMAGE.url() + SLASH + INFERENCES_URL.formatted(id)),
-            config.apiKey(),
-            config.timeout())
-        .map(response -> response.parseBody(Text2ImageResponse.class))
-        .filter(
-            httpResponseWithParsedBody ->
-                "DONE".equalsIgnoreCase(httpResponseWithParsedBody.getBody().status()))
-        .repeatWhenEmpty(
+      ApiConfig config, String id, @Nullable Integer count) {
+    var schedule =
+        pollSchedule(
+            clientConfig.adaptivePolling(),
+            ApiActions.TEXT2IMAGE,
+            String.valueOf(count),
+            clientConfig.text2ImagePollingFirstDelay(),
             clientConfig.text2ImagePollingRepeatCount(),
-            repeat -> repeat.delayElements(clientConfig.text2ImagePollingRepeatDelay()));
+            clientConfig.text2ImagePollingRepeatDelay());
+    var url =
+        appendBaseUrl(
+            config.baseUrl(), ApiActions.TEXT2IMAGE.url() + SLASH + INFERENCES_URL.formatted(id));
+    return Mono.defer(
+        () -> {
+          var attempts = new AtomicInteger();
+          var polls =
+              clientConfig
+                  .pollScheduler()
+                  .poll(
+                      () ->
+                          recordPoll(
+                              apiHttpClient
+                                  .sendGetRequest(url, config.apiKey(), config.timeout())
+                                  .transform(retry(config))
+                                  .map(response -> response.parseBody(Text2ImageResponse.class))
+                                  .filter(
+                                      httpResponseWithParsedBody ->
+                                          "DONE"
+                                              .equalsIgnoreCase(
+                                                  httpResponseWithParsedBody.getBody().status())),
+                              ApiActions.TEXT2IMAGE,
+                              id,
+                              attempts.incrementAndGet()),
+                      schedule);
+          return countPolls(polls);
+        });
   }
 }
@@ -0,0 +1,178 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 PicsArt, Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.picsart.creativeapis.http;
+
+import com.picsart.creativeapis.busobj.ApiActions;
+import com.picsart.creativeapis.busobj.http.config.AdaptivePollingConfig;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import javax.annotation.Nullable;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+
+/**
+ * This class learns how long the asynchronous jobs take and schedules their polls accordingly. It
+ * keeps the most recent durations per action and parameter bucket, such as the upscale factor or
+ * the number of images generated. The first poll is made at the median duration, then the delay
+ * between polls grows geometrically until the maximum wait.
+ *
+ * <p>A job found done at a poll finished between that poll and the previous one, the midpoint is
+ * recorded as its duration. A job found done at the first poll finished between its start and that
+ * poll, half the time elapsed is recorded. This way the median moves up when jobs get slower and
+ * down when they get faster. Until enough durations are known the configured delays are used.
+ */
+@FieldDefaults(makeFinal = true, level = AccessLevel.PRIVATE)
+public class AdaptivePolling {
+  AdaptivePollingConfig config;
+  Map<String, DurationWindow> windows = new ConcurrentHashMap<>();
+
+  public AdaptivePolling(AdaptivePollingConfig config) {
+    this.config = config;
+  }
+
+  /**
+   * Returns the schedule of the polls of a job, recording its duration once it is done.
+   *
+   * @param action The API action that started the job.
+   * @param bucket The bucket of the parameters the job duration depends on.
+   * @param defaultFirstDelay The delay before the first poll until enough durations are known.
+   * @param defaultRepeatDelay The delay between the first two polls until enough durations are
+   *     known.
+   * @return The schedule of the polls.
+   */
+  public PollSchedule schedule(
+      ApiActions action, String bucket, Duration defaultFirstDelay, Duration defaultRepeatDelay) {
+    var window =
+        windows.computeIfAbsent(
+            action.actionName() + ':' + bucket, key -> new DurationWindow(config.windowSize()));
+    var median = window.size() >= config.minSamples() ? window.median() : null;
+    var firstDelay = median != null ? median : defaultFirstDelay;
+    var repeatDelay = median != null ? median.dividedBy(4) : defaultRepeatDelay;
+    return new Schedule(window, firstDelay, clamp(repeatDelay));
+  }
+
+  /**
+   * Returns the median duration of the jobs of an action and parameter bucket.
+   *
+   * @param action The API action that started the jobs.
+   * @param bucket The bucket of the parameters the job duration depends on.
+   * @return The median duration, or null when no duration is known.
+   */
+  @Nullable
+  public Duration median(ApiActions action, String bucket) {
+    var window = windows.get(action.actionName() + ':' + bucket);
+    return window == null || window.size() == 0 ? null : window.median();
+  }
+
+  private Duration clamp(Duration delay) {
+    if (delay.compareTo(config.minDelay()) < 0) {
+      return config.minDelay();
+    }
+    return delay.compareTo(config.maxDelay()) > 0 ? config.maxDelay() : delay;
+  }
+
+  private final class Schedule implements PollSchedule {
+    private final DurationWindow window;
+    private final Duration firstDelay;
+    private final Duration repeatDelay;
+
+    Schedule(DurationWindow window, Duration firstDelay, Duration repeatDelay) {
+      this.window = window;
+      this.firstDelay = firstDelay;
+      this.repeatDelay = repeatDelay;
+    }
+
+    @Override
+    public Duration firstDelay() {
+      return firstDelay;
+    }
+
+    @Override
+    @Nullable
+    public Duration nextDelay(int polls, Duration elapsed) {
+      var waitLeft = config.maxWait().minus(elapsed);
+      if (waitLeft.isNegative() || waitLeft.isZero()) {
+        return null;
+      }
+      var backoff = Math.pow(config.backoffFactor(), polls - 1);
+      var delay = clamp(Duration.ofNanos((long) (repeatDelay.toNanos() * backoff)));
+      return delay.compareTo(waitLeft) > 0 ? waitLeft : delay;
+    }
+
+    @Override
+    public void onDone(int polls, Duration lastPendingElapsed, Duration doneElapsed) {
+      // found done at the first poll, the job is only bounded from below by its start
+      var pendingElapsed = polls > 1 ? lastPendingElapsed : Duration.ZERO;
+      window.add(pendingElapsed.plus(doneElapsed).dividedBy(2));
+    }
+  }
+
+  /** The most recent durations, in a ring buffer. */
+  private static final class DurationWindow {
+    private final ReentrantLock lock = new ReentrantLock();
+    private final long[] nanos;
+    private int next;
+    private int size;
+
+    DurationWindow(int capacity) {
+      nanos = new long[capacity];
+    }
+
+    void add(Duration duration) {
+      lock.lock();
+      try {
+        nanos[next] = duration.toNanos();
+        next = (next + 1) % nanos.length;
+        size = Math.min(size + 1, nanos.length);
+      } finally {
+        lock.unlock();
+      }
+    }
+
+    int size() {
+      lock.lock();
+      try {
+        return size;
+      } finally {
+        lock.unlock();
+      }
+    }
+
+    Duration median() {
+      long[] sorted;
+      lock.lock();
+      try {
+        sorted = Arrays.copyOf(nanos, size);
+      } finally {
+        lock.unlock();
+      }
+      Arrays.sort(sorted);
+      return Duration.ofNanos(sorted[sorted.length / 2]);
+    }
+  }
+}
@@ -0,0 +1,193 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 PicsArt, Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.picsart.creativeapis.http;
+
+import com.picsart.creativeapis.busobj.exception.TooManyRequestsException;
+import com.picsart.creativeapis.busobj.mapper.MetadataMapper;
+import com.picsart.creativeapis.busobj.result.Metadata;
+import com.picsart.creativeapis.jfr.RateLimitWaitEvent;
+import com.picsart.creativeapis.metrics.MetricsContext;
+import io.netty.handler.codec.http.HttpHeaders;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+/**
+ * This class holds requests on the client side while the rate limit of their API key is exhausted.
+ * It keeps a token bucket per API key, refilled from the X-Picsart-Ratelimit headers of every
+ * response, so that a burst of requests waits for the reset time instead of being answered with
+ * 429 by the server.
+ *
+ * <p>Until the first response of an API key is received its requests are not held. When the wait
+ * until the reset time exceeds the maximum wait, the request fails fast with a {@link
+ * TooManyRequestsException} instead.
+ */
+@Slf4j
+@FieldDefaults(makeFinal = true, level = AccessLevel.PRIVATE)
+public class AdaptiveRateLimiter {
+  Duration maxWait;
+  Map<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+  LongAdder heldCount = new LongAdder();
+  LongAdder rejectedCount = new LongAdder();
+
+  public AdaptiveRateLimiter(Duration maxWait) {
+    this.maxWait = maxWait;
+  }
+
+  /**
+   * Returns a Mono completing when a request of the API key can be sent, right away when the budget
+   * is not exhausted.
+   *
+   * @param apiKey The API key the request is sent with.
+   * @return A Mono completing when the request can be sent.
+   */
+  public Mono<Void> acquire(String apiKey) {
+    return Mono.deferContextual(
+        context -> {
+          var bucket = buckets.get(apiKey);
+          if (bucket == null) {
+            return Mono.empty();
+          }
+          var now = System.currentTimeMillis();
+          var waitMillis = bucket.tryAcquire(now);
+          if (waitMillis == 0) {
+            return Mono.empty();
+          }
+          if (waitMillis > maxWait.toMillis()) {
+            rejectedCount.increment();
+            return Mono.error(
+                new TooManyRequestsException(
+                    "Rate limit exhausted for %d ms".formatted(waitMillis), bucket.metadata()));
+          }
+          heldCount.increment();
+          log.debug("Rate limit exhausted, holding the request for {} ms", waitMillis);
+          var event = new RateLimitWaitEvent();
+          event.begin();
+          return Mono.delay(Duration.ofMillis(waitMillis))
+              .doOnNext(ignored -> event.complete(MetricsContext.action(context), waitMillis))
+              .then(acquire(apiKey));
+        });
+  }
+
+  /**
+   * Updates the token bucket of the API key from the rate limit headers of a response. Responses
+   * without rate limit headers are ignored.
+   *
+   * @param apiKey The API key the request was sent with.
+   * @param headers The headers of the response.
+   */
+  public void update(String apiKey, HttpHeaders headers) {
+    var limit = headers.getInt(MetadataMapper.RATE_LIMIT);
+    var available = headers.getInt(MetadataMapper.RATE_LIMIT_REMAINING);
+    var reset = headers.getInt(MetadataMapper.RATE_LIMIT_RESET);
+    if (limit == null || available == null || reset == null) {
+      return;
+    }
+    var now = System.currentTimeMillis();
+    var resetAtMillis = MetadataMapper.toResetAtMillis(reset, now);
+    buckets
+        .computeIfAbsent(apiKey, key -> new TokenBucket())
+        .update(limit, available, reset, resetAtMillis, now);
+  }
+
+  /**
+   * Returns the number of times a request was held until the reset time.
+   *
+   * @return The number of held requests.
+   */
+  public long heldCount() {
+    return heldCount.sum();
+  }
+
+  /**
+   * Returns the number of requests failed because the reset time was too far.
+   *
+   * @return The number of rejected requests.
+   */
+  public long rejectedCount() {
+    return rejectedCount.sum();
+  }
+
+  /** The budget of an API key as last reported by the server, minus the requests sent since. */
+  static final class TokenBucket {
+    private static final long MIN_WINDOW_MILLIS = 1000;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private int limit;
+    private int available;
+    private int reset;
+    private long resetAtMillis;
+    // the longest time until the reset time reported, the best estimate of the window length
+    private long windowMillis = MIN_WINDOW_MILLIS;
+
+    /** Takes a token and returns 0, or returns the milliseconds to wait for the reset time. */
+    long tryAcquire(long now) {
+      lock.lock();
+      try {
+        if (available > 0) {
+          available--;
+          return 0;
+        }
+        if (now >= resetAtMillis) {
+          // the window is over, refill it and assume the next one until a response reports it
+          available = limit - 1;
+          resetAtMillis = now + windowMillis;
+          return 0;
+        }
+        return resetAtMillis - now;
+      } finally {
+        lock.unlock();
+      }
+    }
+
+    void update(int limit, int available, int reset, long resetAtMillis, long now) {
+      lock.lock();
+      try {
+        this.limit = limit;
+        this.available = available;
+        this.reset = reset;
+        this.resetAtMillis = resetAtMillis;
+        windowMillis = Math.max(windowMillis, resetAtMillis - now);
+      } finally {
+        lock.unlock();
+      }
+    }
+
+    Metadata metadata() {
+      lock.lock();
+      try {
+        return new Metadata(limit, available, reset, null, null);
+      } finally {
+        lock.unlock();
+      }
+    }
+  }
+}
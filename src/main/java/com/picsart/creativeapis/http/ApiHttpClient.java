@@ -24,14 +24,36 @@
 
 package com.picsart.creativeapis.http;
 
-import com.picsart.creativeapis.busobj.HttpResponseWithStringBody;
+import com.picsart.creativeapis.busobj.HttpResponseWithRawBody;
+import io.netty.buffer.ByteBuf;
 import java.time.Duration;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 public interface ApiHttpClient {
 
-  Mono<HttpResponseWithStringBody> sendGetRequest(String url, String apiKey, Duration timeout);
+  Mono<HttpResponseWithRawBody<?>> sendGetRequest(String url, String apiKey, Duration timeout);
 
-  Mono<HttpResponseWithStringBody> sendPostRequest(
+  Mono<HttpResponseWithRawBody<?>> sendPostRequest(
       String url, String apiKey, Object request, Duration timeout);
+
+  /**
+   * Streams the body of a GET request as it is received, without the API key header. The chunks
+   * are requested on demand and must be released by the subscriber.
+   *
+   * @param url The URL to download.
+   * @param timeout The timeout for the response headers.
+   * @return A Flux emitting the chunks of the body.
+   */
+  Flux<ByteBuf> download(String url, Duration timeout);
+
+  /**
+   * Initializes the resources of the client ahead of the first request, which would otherwise pay
+   * for them.
+   *
+   * @return A Mono completing once the client is warmed up.
+   */
+  default Mono<Void> warmup() {
+    return Mono.empty();
+  }
 }
@@ -24,34 +24,123 @@
 
 package com.picsart.creativeapis.http;
 
+import com.picsart.creativeapis.busobj.ApiActions;
+import com.picsart.creativeapis.busobj.HttpResponseWithByteBufBody;
+import com.picsart.creativeapis.busobj.HttpResponseWithRawBody;
 import com.picsart.creativeapis.busobj.HttpResponseWithStringBody;
 import com.picsart.creativeapis.busobj.MultipartBodyRequest;
 import com.picsart.creativeapis.busobj.exception.ApiException;
+import com.picsart.creativeapis.busobj.http.config.HttpTransportConfig;
 import com.picsart.creativeapis.busobj.image.response.ErrorResponse;
+import com.picsart.creativeapis.busobj.mapper.MetadataMapper;
+import com.picsart.creativeapis.jfr.ApiRequestEvent;
+import com.picsart.creativeapis.metrics.MetricsContext;
+import com.picsart.creativeapis.metrics.RequestEvent;
+import com.picsart.creativeapis.metrics.SdkMetrics;
 import com.picsart.creativeapis.utils.Constants;
 import com.picsart.creativeapis.utils.ExceptionUtils;
 import com.picsart.creativeapis.utils.JacksonUtils;
+import io.netty.buffer.ByteBuf;
 import io.netty.handler.codec.http.*;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import javax.annotation.Nullable;
 import lombok.AccessLevel;
 import lombok.experimental.FieldDefaults;
 import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
 import reactor.netty.ByteBufFlux;
+import reactor.netty.ByteBufMono;
 import reactor.netty.http.client.HttpClient;
+import reactor.netty.http.client.HttpClientResponse;
+import reactor.netty.resources.ConnectionProvider;
+import reactor.netty.resources.LoopResources;
 
 @Slf4j
 @FieldDefaults(makeFinal = true, level = AccessLevel.PRIVATE)
 public class ApiHttpClientImpl implements ApiHttpClient {
   HttpClient client;
+  ConnectionProvider connectionProvider;
+  @Nullable LoopResources loopResources;
+  @Nullable AdaptiveRateLimiter rateLimiter;
+  boolean zeroCopyFileUpload;
+  SdkMetrics metrics;
+  ConnectionPoolGauges connectionPoolGauges = new ConnectionPoolGauges();
+  DownloadMetrics downloadMetrics = new DownloadMetrics();
 
   public ApiHttpClientImpl() {
-    client = HttpClient.create();
-    client.warmup().block();
+    this(HttpTransportConfig.DEFAULT);
   }
 
+  public ApiHttpClientImpl(HttpTransportConfig transportConfig) {
+    connectionProvider = createConnectionProvider(transportConfig, connectionPoolGauges);
+    loopResources =
+        transportConfig.loopThreads() == null
+            ? null
+            : LoopResources.create(
+                Constants.HTTP_LOOP_THREAD_PREFIX, transportConfig.loopThreads(), true);
+    rateLimiter =
+        transportConfig.rateLimiterEnabled()
+            ? new AdaptiveRateLimiter(transportConfig.rateLimiterMaxWait())
+            : null;
+    zeroCopyFileUpload = transportConfig.zeroCopyFileUpload();
+    metrics = transportConfig.metrics();
+    var httpClient = HttpClient.create(connectionProvider);
+    client = loopResources == null ? httpClient : httpClient.runOn(loopResources);
+  }
+
+  /**
+   * Starts the event loop threads and loads the host name resolver and the native transport
+   * libraries, the first request does it otherwise. The constructor does not block on it.
+   *
+   * @return A Mono completing once the client is warmed up.
+   */
   @Override
-  public Mono<HttpResponseWithStringBody> sendGetRequest(
+  public Mono<Void> warmup() {
+    return client.warmup();
+  }
+
+  /**
+   * Returns the gauges of the connection pool used by this client.
+   *
+   * @return The connection pool gauges.
+   */
+  public ConnectionPoolGauges connectionPoolGauges() {
+    return connectionPoolGauges;
+  }
+
+  /**
+   * Returns the metrics of the downloads made by this client.
+   *
+   * @return The download metrics.
+   */
+  public DownloadMetrics downloadMetrics() {
+    return downloadMetrics;
+  }
+
+  /**
+   * Returns the client-side rate limiter, if enabled in the transport configuration.
+   *
+   * @return The rate limiter, or null when it is disabled.
+   */
+  @Nullable
+  public AdaptiveRateLimiter rateLimiter() {
+    return rateLimiter;
+  }
+
+  /** Closes the pooled connections and the dedicated event loop threads, if any. */
+  public void dispose() {
+    connectionProvider.dispose();
+    if (loopResources != null) {
+      loopResources.dispose();
+    }
+  }
+
+  @Override
+  public Mono<HttpResponseWithRawBody<?>> sendGetRequest(
       String url, String apiKey, Duration timeout) {
     var receiver =
         client
@@ -63,11 +152,11 @@ public class ApiHttpClientImpl implements ApiHttpClient {
             .responseTimeout(timeout)
             .get()
             .uri(url);
-    return handleResponse(receiver, "GET", url, "{no body}");
+    return handleResponse(receiver, apiKey, "GET", url, "{no body}", 0);
   }
 
   @Override
-  public Mono<HttpResponseWithStringBody> sendPostRequest(
+  public Mono<HttpResponseWithRawBody<?>> sendPostRequest(
       String url, String apiKey, Object request, Duration timeout) {
     var isMultipartBodyRequest = request instanceof MultipartBodyRequest;
     var requestSender =
@@ -85,57 +174,203 @@ public class ApiHttpClientImpl implements ApiHttpClient {
             .post()
             .uri(url);
     HttpClient.ResponseReceiver<?> receiver;
-    if (isMultipartBodyRequest) {
+    long uploadBytes;
+    var zeroCopyBody =
+        isMultipartBodyRequest && zeroCopyFileUpload
+            ? ((MultipartBodyRequest) request).toZeroCopyBody()
+            : null;
+    if (zeroCopyBody != null) {
+      var tls = url.regionMatches(true, 0, "https:", 0, 6);
+      receiver =
+          requestSender.send(
+              (httpClientRequest, outbound) -> {
+                httpClientRequest
+                    .header(HttpHeaderNames.CONTENT_TYPE, zeroCopyBody.contentType())
+                    .header(
+                        HttpHeaderNames.CONTENT_LENGTH,
+                        String.valueOf(zeroCopyBody.contentLength()));
+                return zeroCopyBody.send(outbound, tls);
+              });
+      uploadBytes = zeroCopyBody.contentLength();
+    } else if (isMultipartBodyRequest) {
       receiver =
           requestSender.sendForm(
               (httpClientRequest, httpClientForm) ->
                   ((MultipartBodyRequest) request).addBodyToForm(httpClientForm));
+      // the size of the form is known only once it is encoded
+      uploadBytes = -1;
     } else {
-      receiver =
-          requestSender.send(ByteBufFlux.fromString(Mono.just(JacksonUtils.toJson(request))));
+      var json = JacksonUtils.toJson(request).getBytes(StandardCharsets.UTF_8);
+      receiver = requestSender.send(ByteBufFlux.fromInbound(Mono.just(json)));
+      uploadBytes = json.length;
+    }
+    return handleResponse(receiver, apiKey, "POST", url, request, uploadBytes);
+  }
+
+  @Override
+  public Flux<ByteBuf> download(String url, Duration timeout) {
+    return Flux.defer(
+        () -> {
+          downloadMetrics.onStart();
+          return client
+              .headers(headers -> headers.add(HttpHeaderNames.USER_AGENT, Constants.USER_AGENT))
+              .followRedirect(true)
+              .responseTimeout(timeout)
+              .get()
+              .uri(url)
+              .response(
+                  (response, body) -> {
+                    if (response.status().codeClass() != HttpStatusClass.SUCCESS) {
+                      return body.then(
+                          Mono.<ByteBuf>error(
+                              ExceptionUtils.mapToFailureResponseException(
+                                  response.status().reasonPhrase(), response)));
+                    }
+                    // the chunks are released by reactor-netty once emitted, retain them until
+                    // the subscriber is done with them
+                    return body.retain()
+                        .doOnNext(chunk -> downloadMetrics.onChunk(chunk.readableBytes()));
+                  })
+              .doOnDiscard(ByteBuf.class, ByteBuf::release)
+              .doFinally(signal -> downloadMetrics.onEnd(signal == SignalType.ON_COMPLETE))
+              .onErrorMap(
+                  e -> !(e instanceof ApiException),
+                  e -> new ApiException("Error downloading '" + url + "'", e));
+        });
+  }
+
+  private Mono<HttpResponseWithRawBody<?>> handleResponse(
+      HttpClient.ResponseReceiver<?> receiver,
+      String apiKey,
+      String method,
+      String url,
+      Object request,
+      long uploadBytes) {
+    return Mono.deferContextual(
+        context -> {
+          // the action is set by the API clients, only the requests of an action are reported to
+          // the SDK metrics
+          var action = MetricsContext.action(context);
+          var asyncJob = action == null ? null : MetricsContext.asyncJob(context);
+          var exchange = new Exchange(action, method, url, uploadBytes);
+          var responseMono =
+              receiver.responseSingle(
+                  (response, byteBufMono) -> {
+                    exchange.onResponse(response);
+                    if (rateLimiter != null) {
+                      rateLimiter.update(apiKey, response.responseHeaders());
+                    }
+                    return log.isDebugEnabled()
+                        ? readStringBody(response, byteBufMono, method, url, request, exchange)
+                        : readByteBufBody(response, byteBufMono, exchange);
+                  });
+          var poll = asyncJob != null && "GET".equals(method);
+          var measuredMono =
+              Mono.defer(
+                  () -> {
+                    exchange.start(metrics);
+                    if (poll) {
+                      asyncJob.onPoll(metrics, action);
+                    }
+                    return responseMono;
+                  });
+          // held before the connection is acquired, so that waiting requests do not occupy the
+          // pool
+          var sentMono =
+              rateLimiter == null ? measuredMono : rateLimiter.acquire(apiKey).then(measuredMono);
+          return sentMono
+              // the exception is recorded before it is wrapped, its type is more telling
+              .doOnError(exchange::onError)
+              .onErrorMap(
+                  e -> !(e instanceof ApiException),
+                  e -> {
+                    log.error(
+                        "Error sending {} request to '{}'\nRequestBody: {}",
+                        method,
+                        url,
+                        request,
+                        e);
+                    return new ApiException("Error sending request", e);
+                  })
+              // reported before the response is passed on, so that it is counted once received
+              .doOnTerminate(() -> exchange.complete(metrics))
+              .doOnCancel(() -> exchange.complete(metrics));
+        });
+  }
+
+  /** Decodes the body to a String so that it can be logged, used only when debug is enabled. */
+  private static Mono<HttpResponseWithRawBody<?>> readStringBody(
+      HttpClientResponse response,
+      ByteBufMono byteBufMono,
+      String method,
+      String url,
+      Object request,
+      Exchange exchange) {
+    var stringBody =
+        countBytes(byteBufMono, exchange)
+            .map(buffer -> buffer.toString(StandardCharsets.UTF_8))
+            .doOnNext(
+                body ->
+                    log.debug(
+                        """
+                                  Response received for {} request to '{}'
+                                  RequestBody: {}
+                                  Response: status: {}, body: {}""",
+                        method,
+                        url,
+                        request,
+                        response.status(),
+                        body));
+    if (response.status().codeClass() != HttpStatusClass.SUCCESS) { // not 2xx
+      return stringBody
+          .map(responseBody -> JacksonUtils.fromJson(responseBody, ErrorResponse.class))
+          .flatMap(errorResponse -> toFailureResponse(errorResponse, response));
+    }
+    // Process the response as normal if it's 2xx
+    return stringBody.map(body -> HttpResponseWithStringBody.of(response, body));
+  }
+
+  /** Keeps the body in the aggregated buffer, it is parsed without an intermediate String. */
+  private static Mono<HttpResponseWithRawBody<?>> readByteBufBody(
+      HttpClientResponse response, ByteBufMono byteBufMono, Exchange exchange) {
+    if (response.status().codeClass() != HttpStatusClass.SUCCESS) { // not 2xx
+      return countBytes(byteBufMono, exchange)
+          .map(buffer -> JacksonUtils.fromJson(buffer, ErrorResponse.class))
+          .flatMap(errorResponse -> toFailureResponse(errorResponse, response));
     }
-    return handleResponse(receiver, "POST", url, request);
-  }
-
-  private Mono<HttpResponseWithStringBody> handleResponse(
-      HttpClient.ResponseReceiver<?> receiver, String method, String url, Object request) {
-    return receiver
-        .responseSingle(
-            (response, byteBufMono) -> {
-              var stringBody =
-                  byteBufMono
-                      .asString()
-                      .doOnNext(
-                          body ->
-                              log.debug(
-                                  """
-                                            Response received for {} request to '{}'
-                                            RequestBody: {}
-                                            Response: status: {}, body: {}""",
-                                  method,
-                                  url,
-                                  request,
-                                  response.status(),
-                                  body));
-              if (response.status().codeClass() != HttpStatusClass.SUCCESS) { // not 2xx
-                return stringBody
-                    .map(responseBody -> JacksonUtils.fromJson(responseBody, ErrorResponse.class))
-                    .map(
-                        errorResponse ->
-                            ExceptionUtils.mapToFailureResponseException(
-                                errorResponse.detail(), response))
-                    .flatMap(Mono::error);
-              }
-              // Process the response as normal if it's 2xx
-              return stringBody.map(body -> HttpResponseWithStringBody.of(response, body));
-            })
-        .onErrorMap(
-            e -> !(e instanceof ApiException),
-            e -> {
-              log.error(
-                  "Error sending {} request to '{}'\nRequestBody: {}", method, url, request, e);
-              return new ApiException("Error sending request", e);
-            });
+    // the buffer is released by reactor-netty once emitted, retain it until the body is parsed
+    return countBytes(byteBufMono.retain(), exchange)
+        .map(buffer -> HttpResponseWithByteBufBody.of(response, buffer));
+  }
+
+  private static Mono<ByteBuf> countBytes(ByteBufMono byteBufMono, Exchange exchange) {
+    return byteBufMono.doOnNext(buffer -> exchange.onBody(buffer.readableBytes()));
+  }
+
+  private static Mono<HttpResponseWithRawBody<?>> toFailureResponse(
+      ErrorResponse errorResponse, HttpClientResponse response) {
+    return Mono.error(
+        ExceptionUtils.mapToFailureResponseException(errorResponse.detail(), response));
+  }
+
+  private static ConnectionProvider createConnectionProvider(
+      HttpTransportConfig transportConfig, ConnectionPoolGauges gauges) {
+    var builder =
+        ConnectionProvider.builder(transportConfig.poolName())
+            .maxConnections(transportConfig.maxConnections())
+            .pendingAcquireMaxCount(transportConfig.pendingAcquireMaxCount())
+            .pendingAcquireTimeout(transportConfig.pendingAcquireTimeout())
+            .metrics(true, () -> gauges);
+    if (transportConfig.maxIdleTime() != null) {
+      builder.maxIdleTime(transportConfig.maxIdleTime());
+    }
+    if (transportConfig.maxLifeTime() != null) {
+      builder.maxLifeTime(transportConfig.maxLifeTime());
+    }
+    if (transportConfig.evictionInterval() != null) {
+      builder.evictInBackground(transportConfig.evictionInterval());
+    }
+    return builder.build();
   }
 
   private static void addCommonHeaders(String apiKey, HttpHeaders headers) {
@@ -143,4 +378,74 @@ public class ApiHttpClientImpl implements ApiHttpClient {
     headers.add(HttpHeaderNames.ACCEPT, HttpHeaderValues.APPLICATION_JSON);
     headers.add(HttpHeaderNames.USER_AGENT, Constants.USER_AGENT);
   }
+
+  /**
+   * The measurements of a request, reported to the SDK metrics and recorded as a flight recorder
+   * event once it completes.
+   */
+  private static final class Exchange {
+    @Nullable private final ApiActions action;
+    private final String method;
+    private final String url;
+    private final long uploadBytes;
+    private final ApiRequestEvent event = new ApiRequestEvent();
+    private final AtomicBoolean started = new AtomicBoolean();
+    private volatile long startNanos;
+    private volatile long firstByteNanos;
+    private volatile int status;
+    @Nullable private volatile String correlationId;
+    private volatile long responseBytes;
+    @Nullable private volatile Throwable exception;
+
+    Exchange(@Nullable ApiActions action, String method, String url, long uploadBytes) {
+      this.action = action;
+      this.method = method;
+      this.url = url;
+      this.uploadBytes = uploadBytes;
+    }
+
+    void start(SdkMetrics metrics) {
+      event.begin();
+      startNanos = System.nanoTime();
+      started.set(true);
+      if (action != null) {
+        metrics.requestStarted(action);
+      }
+    }
+
+    void onResponse(HttpClientResponse response) {
+      firstByteNanos = System.nanoTime();
+      status = response.status().code();
+      correlationId = response.responseHeaders().get(MetadataMapper.CORRELATION_ID);
+    }
+
+    void onBody(long bytes) {
+      responseBytes = bytes;
+    }
+
+    void onError(Throwable e) {
+      exception = e;
+    }
+
+    /** Reports the request once, unless it was cancelled while waiting for the rate limiter. */
+    void complete(SdkMetrics metrics) {
+      if (!started.compareAndSet(true, false)) {
+        return;
+      }
+      var endNanos = System.nanoTime();
+      event.complete(
+          action, method, url, status, uploadBytes, responseBytes, correlationId, exception);
+      if (action != null) {
+        metrics.requestCompleted(
+            new RequestEvent(
+                action,
+                status,
+                Duration.ofNanos(endNanos - startNanos),
+                status == 0 ? null : Duration.ofNanos(firstByteNanos - startNanos),
+                uploadBytes,
+                responseBytes,
+                exception));
+      }
+    }
+  }
 }
@@ -0,0 +1,112 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 PicsArt, Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.picsart.creativeapis.http;
+
+import java.net.SocketAddress;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.ToIntFunction;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import reactor.netty.resources.ConnectionPoolMetrics;
+import reactor.netty.resources.ConnectionProvider;
+
+/**
+ * This class exposes gauges of the connection pool used by {@link ApiHttpClientImpl}. Values are
+ * summed over all remote hosts the pool is connected to and are read on every call.
+ */
+@FieldDefaults(makeFinal = true, level = AccessLevel.PRIVATE)
+public class ConnectionPoolGauges implements ConnectionProvider.MeterRegistrar {
+  Map<String, ConnectionPoolMetrics> pools = new ConcurrentHashMap<>();
+
+  @Override
+  public void registerMetrics(
+      String poolName, String id, SocketAddress remoteAddress, ConnectionPoolMetrics metrics) {
+    pools.put(key(id, remoteAddress), metrics);
+  }
+
+  @Override
+  public void deRegisterMetrics(String poolName, String id, SocketAddress remoteAddress) {
+    pools.remove(key(id, remoteAddress));
+  }
+
+  /**
+   * Returns the number of connections currently used by in-flight requests.
+   *
+   * @return The number of active connections.
+   */
+  public int active() {
+    return sum(ConnectionPoolMetrics::acquiredSize);
+  }
+
+  /**
+   * Returns the number of connections kept open and ready to be reused.
+   *
+   * @return The number of idle connections.
+   */
+  public int idle() {
+    return sum(ConnectionPoolMetrics::idleSize);
+  }
+
+  /**
+   * Returns the number of requests waiting for a connection.
+   *
+   * @return The number of pending acquires.
+   */
+  public int pending() {
+    return sum(ConnectionPoolMetrics::pendingAcquireSize);
+  }
+
+  /**
+   * Returns the number of connections allocated by the pool, active or idle.
+   *
+   * @return The number of allocated connections.
+   */
+  public int allocated() {
+    return sum(ConnectionPoolMetrics::allocatedSize);
+  }
+
+  private int sum(ToIntFunction<ConnectionPoolMetrics> gauge) {
+    return pools.values().stream().mapToInt(gauge).sum();
+  }
+
+  private static String key(String id, SocketAddress remoteAddress) {
+    return id + remoteAddress;
+  }
+
+  @Override
+  public String toString() {
+    return "ConnectionPoolGauges{"
+        + "active="
+        + active()
+        + ", idle="
+        + idle()
+        + ", pending="
+        + pending()
+        + ", allocated="
+        + allocated()
+        + '}';
+  }
+}
@@ -0,0 +1,130 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 PicsArt, Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.picsart.creativeapis.http;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+
+/**
+ * This class exposes metrics of the image downloads made by {@link ApiHttpClientImpl}. The
+ * throughput is measured over the time at least one download was in progress, so the throughputs
+ * of concurrent downloads add up.
+ */
+@FieldDefaults(makeFinal = true, level = AccessLevel.PRIVATE)
+public class DownloadMetrics {
+  AtomicLong downloads = new AtomicLong();
+  AtomicLong failures = new AtomicLong();
+  AtomicLong bytes = new AtomicLong();
+  AtomicInteger inFlight = new AtomicInteger();
+  AtomicLong busyNanos = new AtomicLong();
+  AtomicLong busySinceNanos = new AtomicLong();
+  ReentrantLock lock = new ReentrantLock();
+
+  /**
+   * Returns the number of downloads completed.
+   *
+   * @return The number of downloads.
+   */
+  public long downloads() {
+    return downloads.get();
+  }
+
+  /**
+   * Returns the number of downloads failed or cancelled.
+   *
+   * @return The number of failures.
+   */
+  public long failures() {
+    return failures.get();
+  }
+
+  /**
+   * Returns the number of bytes received by all downloads.
+   *
+   * @return The number of bytes.
+   */
+  public long bytes() {
+    return bytes.get();
+  }
+
+  /**
+   * Returns the number of downloads in progress.
+   *
+   * @return The number of downloads in flight.
+   */
+  public int inFlight() {
+    return inFlight.get();
+  }
+
+  /**
+   * Returns the throughput of the downloads, the bytes received divided by the time at least one
+   * download was in progress.
+   *
+   * @return The throughput in bytes per second, 0 when nothing was downloaded.
+   */
+  public double bytesPerSecond() {
+    long elapsed;
+    lock.lock();
+    try {
+      elapsed = busyNanos.get();
+      if (inFlight.get() > 0) {
+        elapsed += System.nanoTime() - busySinceNanos.get();
+      }
+    } finally {
+      lock.unlock();
+    }
+    return elapsed == 0 ? 0 : bytes.get() * 1e9 / elapsed;
+  }
+
+  void onStart() {
+    lock.lock();
+    try {
+      if (inFlight.getAndIncrement() == 0) {
+        busySinceNanos.set(System.nanoTime());
+      }
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  void onChunk(int size) {
+    bytes.addAndGet(size);
+  }
+
+  void onEnd(boolean completed) {
+    lock.lock();
+    try {
+      if (inFlight.decrementAndGet() == 0) {
+        busyNanos.addAndGet(System.nanoTime() - busySinceNanos.get());
+      }
+    } finally {
+      lock.unlock();
+    }
+    (completed ? downloads : failures).incrementAndGet();
+  }
+}
@@ -0,0 +1,82 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 PicsArt, Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.picsart.creativeapis.http;
+
+import java.time.Duration;
+import javax.annotation.Nullable;
+
+/** This interface defines when the polls of an asynchronous job are made by the PollScheduler. */
+public interface PollSchedule {
+  /**
+   * Returns the delay between the start of the job and its first poll.
+   *
+   * @return The first delay.
+   */
+  Duration firstDelay();
+
+  /**
+   * Returns the delay before the next poll of a job not done yet.
+   *
+   * @param polls The number of polls made so far.
+   * @param elapsed The time elapsed since the start of the job.
+   * @return The delay before the next poll, or null when no poll is left.
+   */
+  @Nullable
+  Duration nextDelay(int polls, Duration elapsed);
+
+  /**
+   * Called when a poll finds the job done.
+   *
+   * @param polls The number of polls made, the last one included.
+   * @param lastPendingElapsed The time elapsed when the last poll finding the job pending was made,
+   *     zero when the first poll found it done.
+   * @param doneElapsed The time elapsed when the job was found done.
+   */
+  default void onDone(int polls, Duration lastPendingElapsed, Duration doneElapsed) {}
+
+  /**
+   * Returns a schedule polling after a fixed first delay, then after a fixed delay at most
+   * maxRepeats times.
+   *
+   * @param firstDelay The delay before the first poll.
+   * @param repeatDelay The delay between two polls.
+   * @param maxRepeats The maximum number of polls after the first one.
+   * @return The fixed schedule.
+   */
+  static PollSchedule fixed(Duration firstDelay, Duration repeatDelay, int maxRepeats) {
+    return new PollSchedule() {
+      @Override
+      public Duration firstDelay() {
+        return firstDelay;
+      }
+
+      @Override
+      @Nullable
+      public Duration nextDelay(int polls, Duration elapsed) {
+        return polls <= maxRepeats ? repeatDelay : null;
+      }
+    };
+  }
+}
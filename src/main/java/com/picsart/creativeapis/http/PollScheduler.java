@@ -0,0 +1,270 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 PicsArt, Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.picsart.creativeapis.http;
+
+import com.picsart.creativeapis.busobj.http.config.PollSchedulerConfig;
+import com.picsart.creativeapis.utils.Constants;
+import io.netty.util.HashedWheelTimer;
+import io.netty.util.Timeout;
+import io.netty.util.concurrent.DefaultThreadFactory;
+import java.time.Duration;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import javax.annotation.Nullable;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+
+/**
+ * This class schedules the polls of asynchronous jobs, such as ultra upscale transactions and
+ * text2image inferences, on a single hashed wheel timer instead of one timer per job. It caps the
+ * number of poll requests in flight: the polls due while the cap is reached wait in a queue, so
+ * that polling never takes all the connections needed by the other requests.
+ */
+@FieldDefaults(makeFinal = true, level = AccessLevel.PRIVATE)
+public class PollScheduler {
+  /** The message of the error signalled when a job is not done after its last poll. */
+  public static final String EXCEEDED_MAX_POLLS_MESSAGE = "Exceeded maximum number of repeats";
+
+  HashedWheelTimer timer;
+  int maxConcurrentPolls;
+  double jitter;
+  Queue<PollJob<?>> queue = new ConcurrentLinkedQueue<>();
+  AtomicInteger jobs = new AtomicInteger();
+  AtomicInteger queued = new AtomicInteger();
+  AtomicInteger inFlight = new AtomicInteger();
+
+  public PollScheduler(PollSchedulerConfig config) {
+    timer =
+        new HashedWheelTimer(
+            new DefaultThreadFactory(Constants.POLL_THREAD_NAME, true),
+            config.tickDuration().toNanos(),
+            TimeUnit.NANOSECONDS);
+    maxConcurrentPolls = config.maxConcurrentPolls();
+    jitter = config.jitter();
+  }
+
+  /**
+   * Returns the scheduler shared by the APIs created with the default configuration.
+   *
+   * @return The shared poll scheduler.
+   */
+  public static PollScheduler shared() {
+    return SharedHolder.INSTANCE;
+  }
+
+  /**
+   * Polls a job until the poll emits a value. The first poll is made after the first delay, then
+   * the poll is repeated after the repeat delay as long as it completes empty, at most the
+   * specified number of times. When the job is not done after the last poll an {@link
+   * IllegalStateException} is signalled.
+   *
+   * @param poll The supplier of the poll request, emitting a value when the job is done.
+   * @param firstDelay The delay before the first poll.
+   * @param repeatDelay The delay between two polls.
+   * @param maxRepeats The maximum number of polls after the first one.
+   * @return A Mono emitting the value of the first poll finding the job done.
+   */
+  public <T> Mono<T> poll(
+      Supplier<Mono<T>> poll, Duration firstDelay, Duration repeatDelay, int maxRepeats) {
+    return poll(poll, PollSchedule.fixed(firstDelay, repeatDelay, maxRepeats));
+  }
+
+  /**
+   * Polls a job until the poll emits a value, at the delays given by the schedule. When the
+   * schedule has no poll left and the job is not done an {@link IllegalStateException} is
+   * signalled.
+   *
+   * @param poll The supplier of the poll request, emitting a value when the job is done.
+   * @param schedule The schedule of the polls.
+   * @return A Mono emitting the value of the first poll finding the job done.
+   */
+  public <T> Mono<T> poll(Supplier<Mono<T>> poll, PollSchedule schedule) {
+    return Mono.create(
+        sink -> {
+          var job = new PollJob<>(poll, schedule, sink);
+          jobs.incrementAndGet();
+          sink.onDispose(job::dispose);
+          job.scheduleIn(schedule.firstDelay());
+        });
+  }
+
+  /**
+   * Returns the number of jobs being polled.
+   *
+   * @return The number of jobs.
+   */
+  public int jobs() {
+    return jobs.get();
+  }
+
+  /**
+   * Returns the number of polls due and waiting for a poll request in flight to complete.
+   *
+   * @return The number of queued polls.
+   */
+  public int queued() {
+    return queued.get();
+  }
+
+  /**
+   * Returns the number of poll requests in flight.
+   *
+   * @return The number of polls in flight.
+   */
+  public int inFlight() {
+    return inFlight.get();
+  }
+
+  /** Stops the timer, the pending polls are not run. */
+  public void dispose() {
+    timer.stop();
+  }
+
+  private void submit(PollJob<?> job) {
+    queued.incrementAndGet();
+    queue.offer(job);
+    drain();
+  }
+
+  private void drain() {
+    while (!queue.isEmpty()) {
+      var current = inFlight.get();
+      if (current >= maxConcurrentPolls) {
+        return;
+      }
+      if (!inFlight.compareAndSet(current, current + 1)) {
+        continue;
+      }
+      var job = queue.poll();
+      if (job == null) {
+        inFlight.decrementAndGet();
+        continue;
+      }
+      queued.decrementAndGet();
+      job.run();
+    }
+  }
+
+  private void release() {
+    inFlight.decrementAndGet();
+    drain();
+  }
+
+  private Duration withJitter(Duration delay) {
+    if (jitter <= 0 || delay.isZero()) {
+      return delay;
+    }
+    var nanos = delay.toNanos();
+    return delay.plusNanos((long) (nanos * jitter * ThreadLocalRandom.current().nextDouble()));
+  }
+
+  /** A job polled until done, its polls are never run concurrently. */
+  private final class PollJob<T> {
+    private final Supplier<Mono<T>> poll;
+    private final PollSchedule schedule;
+    private final MonoSink<T> sink;
+    private final long startNanos = System.nanoTime();
+    private int polls;
+    private long lastPendingNanos;
+    private boolean done;
+    private volatile boolean disposed;
+    @Nullable private volatile Timeout timeout;
+    @Nullable private volatile Disposable subscription;
+
+    PollJob(Supplier<Mono<T>> poll, PollSchedule schedule, MonoSink<T> sink) {
+      this.poll = poll;
+      this.schedule = schedule;
+      this.sink = sink;
+    }
+
+    void scheduleIn(Duration delay) {
+      if (!disposed) {
+        timeout =
+            timer.newTimeout(
+                ignored -> submit(this), withJitter(delay).toNanos(), TimeUnit.NANOSECONDS);
+      }
+    }
+
+    void run() {
+      if (disposed) {
+        release();
+        return;
+      }
+      subscription =
+          Mono.defer(poll)
+              .doFinally(signal -> release())
+              // the polls are subscribed with the context of the job, which the requests read
+              .contextWrite(sink.contextView())
+              .subscribe(
+                  value -> {
+                    done = true;
+                    polls++;
+                    schedule.onDone(
+                        polls,
+                        Duration.ofNanos(lastPendingNanos),
+                        Duration.ofNanos(System.nanoTime() - startNanos));
+                    sink.success(value);
+                  },
+                  sink::error,
+                  () -> {
+                    if (done) {
+                      return;
+                    }
+                    polls++;
+                    lastPendingNanos = System.nanoTime() - startNanos;
+                    var nextDelay = schedule.nextDelay(polls, Duration.ofNanos(lastPendingNanos));
+                    if (nextDelay != null) {
+                      scheduleIn(nextDelay);
+                    } else {
+                      sink.error(new IllegalStateException(EXCEEDED_MAX_POLLS_MESSAGE));
+                    }
+                  });
+    }
+
+    void dispose() {
+      disposed = true;
+      jobs.decrementAndGet();
+      var currentTimeout = timeout;
+      if (currentTimeout != null) {
+        currentTimeout.cancel();
+      }
+      var currentSubscription = subscription;
+      if (currentSubscription != null) {
+        currentSubscription.dispose();
+      }
+    }
+  }
+
+  private static final class SharedHolder {
+    private static final PollScheduler INSTANCE = new PollScheduler(PollSchedulerConfig.DEFAULT);
+  }
+}
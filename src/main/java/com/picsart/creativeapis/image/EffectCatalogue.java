@@ -0,0 +1,145 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 PicsArt, Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.picsart.creativeapis.image;
+
+import com.picsart.creativeapis.busobj.image.Effect;
+import com.picsart.creativeapis.busobj.image.config.EffectCatalogueConfig;
+import com.picsart.creativeapis.busobj.image.result.ListEffectsResult;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+/**
+ * This class keeps the list of effects. It is loaded on the first call, then it is returned
+ * without a request. Once it is older than the configured age it is refreshed in the background
+ * and the kept list is returned meanwhile, so the calls never wait for a refresh. A failed refresh
+ * keeps the list and is retried by the first call after the configured retry delay.
+ */
+@Slf4j
+@FieldDefaults(makeFinal = true, level = AccessLevel.PRIVATE)
+public class EffectCatalogue {
+  EffectCatalogueConfig config;
+  AtomicReference<Snapshot> snapshot = new AtomicReference<>();
+  AtomicReference<Mono<Snapshot>> loading = new AtomicReference<>();
+  AtomicLong loads = new AtomicLong();
+
+  public EffectCatalogue(EffectCatalogueConfig config) {
+    this.config = config;
+  }
+
+  /**
+   * Returns the list of effects, loading it on the first call.
+   *
+   * @param load The supplier of the request listing the effects.
+   * @return A Mono emitting the list of effects.
+   */
+  public Mono<ListEffectsResult> listEffects(Supplier<Mono<ListEffectsResult>> load) {
+    return snapshot(load).map(Snapshot::result);
+  }
+
+  /**
+   * Returns the names of the effects, loading the list on the first call.
+   *
+   * @param load The supplier of the request listing the effects.
+   * @return A Mono emitting the immutable set of the effect names.
+   */
+  public Mono<Set<String>> effectNames(Supplier<Mono<ListEffectsResult>> load) {
+    return snapshot(load).map(Snapshot::effectNames);
+  }
+
+  /**
+   * Returns whether the effect names are checked before the requests are sent.
+   *
+   * @return True if the effect names are checked.
+   */
+  public boolean validatesEffectNames() {
+    return config.validateEffectNames();
+  }
+
+  /**
+   * Returns the number of times the list of effects was requested.
+   *
+   * @return The number of loads.
+   */
+  public long loads() {
+    return loads.get();
+  }
+
+  private Mono<Snapshot> snapshot(Supplier<Mono<ListEffectsResult>> load) {
+    return Mono.defer(
+        () -> {
+          var current = snapshot.get();
+          if (current == null) {
+            return load(load);
+          }
+          if (System.nanoTime() - current.refreshAtNanos() >= 0) {
+            load(load)
+                .subscribe(
+                    refreshed -> {},
+                    e -> {
+                      log.debug("Refreshing the effect catalogue failed: {}", e.toString());
+                      // the calls until the retry time keep the list rather than refresh it again
+                      var retryAtNanos = System.nanoTime() + config.refreshRetryAfter().toNanos();
+                      snapshot.compareAndSet(current, current.withRefreshAtNanos(retryAtNanos));
+                    });
+          }
+          return Mono.just(current);
+        });
+  }
+
+  private Mono<Snapshot> load(Supplier<Mono<ListEffectsResult>> load) {
+    var inFlight = loading.get();
+    if (inFlight != null) {
+      return inFlight;
+    }
+    var created =
+        Mono.defer(load)
+            .doOnSubscribe(subscription -> loads.incrementAndGet())
+            .map(
+                result ->
+                    new Snapshot(
+                        result,
+                        result.effects().stream()
+                            .map(Effect::name)
+                            .collect(Collectors.toUnmodifiableSet()),
+                        System.nanoTime() + config.refreshAfter().toNanos()))
+            .doOnNext(snapshot::set)
+            .doFinally(signal -> loading.set(null))
+            .cache();
+    return loading.compareAndSet(null, created) ? created : load(load);
+  }
+
+  private record Snapshot(ListEffectsResult result, Set<String> effectNames, long refreshAtNanos) {
+    Snapshot withRefreshAtNanos(long refreshAtNanos) {
+      return new Snapshot(result, effectNames, refreshAtNanos);
+    }
+  }
+}
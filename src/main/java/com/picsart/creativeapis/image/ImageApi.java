@@ -24,11 +24,21 @@
 
 package com.picsart.creativeapis.image;
 
-import com.picsart.creativeapis.busobj.image.ImageFile;
+import com.picsart.creativeapis.busobj.batch.BatchItem;
+import com.picsart.creativeapis.busobj.batch.BatchOptions;
+import com.picsart.creativeapis.busobj.image.Image;
+import com.picsart.creativeapis.busobj.image.ImageContent;
 import com.picsart.creativeapis.busobj.image.ImageUrl;
 import com.picsart.creativeapis.busobj.image.parameters.*;
 import com.picsart.creativeapis.busobj.image.result.*;
+import com.picsart.creativeapis.busobj.retry.RetryCounters;
+import com.picsart.creativeapis.busobj.retry.RetryPolicy;
+import io.netty.buffer.ByteBuf;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
 import java.time.Duration;
+import javax.annotation.Nullable;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 /** This interface defines the operations that can be performed on images. */
@@ -58,6 +68,77 @@ public sealed interface ImageApi permits ImageApiImpl {
    */
   ImageApi withResponseTimeout(Duration timeout);
 
+  /**
+   * Sets the policy for retrying the requests failed with a recoverable exception.
+   *
+   * @param retryPolicy The retry policy, RetryPolicy.NONE disables retries.
+   * @return An instance of ImageApi with the retry policy set.
+   */
+  ImageApi withRetryPolicy(RetryPolicy retryPolicy);
+
+  /**
+   * Returns the counters of the retries made by this instance, shared with the instances derived
+   * from it.
+   *
+   * @return The retry counters.
+   */
+  RetryCounters retryCounters();
+
+  /**
+   * Sets the cache of the uploaded image files. The image file of an operation is uploaded once,
+   * then the operations sent with the same file content use the ID of the uploaded image.
+   *
+   * @param uploadCache The upload cache, null disables it.
+   * @return An instance of ImageApi with the upload cache set.
+   */
+  ImageApi withUploadCache(@Nullable UploadCache uploadCache);
+
+  /**
+   * Sets the coalescer of the identical concurrent requests. An operation sent while an identical
+   * one is in flight shares its result instead of being sent again.
+   *
+   * @param requestCoalescer The request coalescer, null disables it.
+   * @return An instance of ImageApi with the request coalescer set.
+   */
+  ImageApi withRequestCoalescer(@Nullable RequestCoalescer requestCoalescer);
+
+  /**
+   * Sets the cache of the operation results. The results of the cached actions are returned
+   * without a request while they are kept, when the request sends no image file.
+   *
+   * @param resultCache The result cache, null disables it.
+   * @return An instance of ImageApi with the result cache set.
+   */
+  ImageApi withResultCache(@Nullable ResultCache resultCache);
+
+  /**
+   * Sets the catalogue of the effects. The list of effects is then requested once and refreshed
+   * in the background, and the effect names can be checked before the effect requests are sent.
+   *
+   * @param effectCatalogue The effect catalogue, null disables it.
+   * @return An instance of ImageApi with the effect catalogue set.
+   */
+  ImageApi withEffectCatalogue(@Nullable EffectCatalogue effectCatalogue);
+
+  /**
+   * Sets the preflight check of the images. An image exceeding the size or dimension limits of the
+   * action fails with ImageLimitExceededException before it is sent or uploaded.
+   *
+   * @param preflight The preflight check, null disables it.
+   * @return An instance of ImageApi with the preflight check set.
+   */
+  ImageApi withPreflight(@Nullable ImagePreflight preflight);
+
+  /**
+   * Sets the transform of the images before they are sent. The images of the configured actions
+   * larger than the maximum dimension are resized and re-encoded on the worker threads of the
+   * transformer.
+   *
+   * @param transformer The image transformer, null disables it.
+   * @return An instance of ImageApi with the image transformer set.
+   */
+  ImageApi withImageTransformer(@Nullable ImageTransformer transformer);
+
   /**
    * Removes the background from an image.
    *
@@ -146,12 +227,12 @@ public sealed interface ImageApi permits ImageApiImpl {
   Mono<SurfaceMapResult> surfaceMap(SurfaceMapParameters parameters);
 
   /**
-   * Uploads an image from a file.
+   * Uploads an image from a file, a byte array, a ByteBuffer or an InputStream.
    *
-   * @param image The image file to upload.
+   * @param image The image content to upload.
    * @return A Mono that emits the result of the operation.
    */
-  Mono<UploadResult> upload(ImageFile image);
+  Mono<UploadResult> upload(ImageContent image);
 
   /**
    * Uploads an image from a URL.
@@ -167,4 +248,162 @@ public sealed interface ImageApi permits ImageApiImpl {
    * @return A Mono that emits the result of the operation.
    */
   Mono<BalanceResult> balance();
+
+  /**
+   * Downloads a result image to a file, writing the chunks as they are received. The file is
+   * created or replaced.
+   *
+   * @param image The image to download, it must have a URL.
+   * @param path The path of the file.
+   * @return A Mono that emits the number of bytes written.
+   */
+  Mono<Long> download(Image image, Path path);
+
+  /**
+   * Downloads a result image to a channel, writing the chunks as they are received. The channel is
+   * not closed.
+   *
+   * @param image The image to download, it must have a URL.
+   * @param channel The channel to write the image to.
+   * @return A Mono that emits the number of bytes written.
+   */
+  Mono<Long> download(Image image, WritableByteChannel channel);
+
+  /**
+   * Streams a result image as it is received. The chunks are requested on demand and must be
+   * released by the subscriber.
+   *
+   * @param image The image to download, it must have a URL.
+   * @return A Flux that emits the chunks of the image.
+   */
+  Flux<ByteBuf> stream(Image image);
+
+  /**
+   * Creates an empty pipeline of image operations performed with this ImageApi. Every stage sends
+   * the image produced by the previous stage by its image ID.
+   *
+   * @return An empty image pipeline.
+   */
+  ImagePipeline pipeline();
+
+  /**
+   * Removes the background from each of the images, with the concurrency, order, error isolation
+   * and rate limit budget of the batch options.
+   *
+   * @param parameters The parameters of the operations.
+   * @param options The options of the batch.
+   * @return A Flux that emits the result or the failure of each operation.
+   */
+  Flux<BatchItem<RemoveBackgroundParameters, RemoveBackgroundResult>> removeBackgroundBatch(
+      Flux<RemoveBackgroundParameters> parameters, BatchOptions options);
+
+  /**
+   * Applies an effect to each of the images, with the concurrency, order, error isolation and rate
+   * limit budget of the batch options.
+   *
+   * @param parameters The parameters of the operations.
+   * @param options The options of the batch.
+   * @return A Flux that emits the result or the failure of each operation.
+   */
+  Flux<BatchItem<EffectParameters, EffectResult>> effectBatch(
+      Flux<EffectParameters> parameters, BatchOptions options);
+
+  /**
+   * Upscales each of the images using ultra quality, with the concurrency, order, error isolation
+   * and rate limit budget of the batch options.
+   *
+   * @param parameters The parameters of the operations.
+   * @param options The options of the batch.
+   * @return A Flux that emits the result or the failure of each operation.
+   */
+  Flux<BatchItem<UltraUpscaleParameters, UltraUpscaleResult>> ultraUpscaleBatch(
+      Flux<UltraUpscaleParameters> parameters, BatchOptions options);
+
+  /**
+   * Upscales each of the images, with the concurrency, order, error isolation and rate limit budget
+   * of the batch options.
+   *
+   * @param parameters The parameters of the operations.
+   * @param options The options of the batch.
+   * @return A Flux that emits the result or the failure of each operation.
+   */
+  Flux<BatchItem<UpscaleParameters, UpscaleResult>> upscaleBatch(
+      Flux<UpscaleParameters> parameters, BatchOptions options);
+
+  /**
+   * Enhances each of the images using ultra quality, with the concurrency, order, error isolation
+   * and rate limit budget of the batch options.
+   *
+   * @param parameters The parameters of the operations.
+   * @param options The options of the batch.
+   * @return A Flux that emits the result or the failure of each operation.
+   */
+  Flux<BatchItem<UltraEnhanceParameters, UltraEnhanceResult>> ultraEnhanceBatch(
+      Flux<UltraEnhanceParameters> parameters, BatchOptions options);
+
+  /**
+   * Enhances the faces in each of the images, with the concurrency, order, error isolation and rate
+   * limit budget of the batch options.
+   *
+   * @param parameters The parameters of the operations.
+   * @param options The options of the batch.
+   * @return A Flux that emits the result or the failure of each operation.
+   */
+  Flux<BatchItem<EnhanceFaceParameters, EnhanceFaceResult>> enhanceFaceBatch(
+      Flux<EnhanceFaceParameters> parameters, BatchOptions options);
+
+  /**
+   * Previews the effects on each of the images, with the concurrency, order, error isolation and
+   * rate limit budget of the batch options.
+   *
+   * @param parameters The parameters of the operations.
+   * @param options The options of the batch.
+   * @return A Flux that emits the result or the failure of each operation.
+   */
+  Flux<BatchItem<EffectsPreviewsParameters, EffectsPreviewsResult>> effectsPreviewsBatch(
+      Flux<EffectsPreviewsParameters> parameters, BatchOptions options);
+
+  /**
+   * Adjusts each of the images, with the concurrency, order, error isolation and rate limit budget
+   * of the batch options.
+   *
+   * @param parameters The parameters of the operations.
+   * @param options The options of the batch.
+   * @return A Flux that emits the result or the failure of each operation.
+   */
+  Flux<BatchItem<AdjustParameters, AdjustResult>> adjustBatch(
+      Flux<AdjustParameters> parameters, BatchOptions options);
+
+  /**
+   * Generates a background texture pattern for each of the images, with the concurrency, order,
+   * error isolation and rate limit budget of the batch options.
+   *
+   * @param parameters The parameters of the operations.
+   * @param options The options of the batch.
+   * @return A Flux that emits the result or the failure of each operation.
+   */
+  Flux<BatchItem<BackgroundTextureParameters, BackgroundTextureResult>> backgroundTextureBatch(
+      Flux<BackgroundTextureParameters> parameters, BatchOptions options);
+
+  /**
+   * Prints a sticker over each of the images with the surface map tool, with the concurrency,
+   * order, error isolation and rate limit budget of the batch options.
+   *
+   * @param parameters The parameters of the operations.
+   * @param options The options of the batch.
+   * @return A Flux that emits the result or the failure of each operation.
+   */
+  Flux<BatchItem<SurfaceMapParameters, SurfaceMapResult>> surfaceMapBatch(
+      Flux<SurfaceMapParameters> parameters, BatchOptions options);
+
+  /**
+   * Uploads each of the images, with the concurrency, order, error isolation and rate limit budget
+   * of the batch options.
+   *
+   * @param parameters The images to upload.
+   * @param options The options of the batch.
+   * @return A Flux that emits the result or the failure of each operation.
+   */
+  Flux<BatchItem<ImageContent, UploadResult>> uploadBatch(
+      Flux<ImageContent> parameters, BatchOptions options);
 }
@@ -24,30 +24,74 @@
 
 package com.picsart.creativeapis.image;
 
+import com.picsart.creativeapis.busobj.ApiActions;
 import com.picsart.creativeapis.busobj.ApiConfig;
+import com.picsart.creativeapis.busobj.HttpResponseWithBody;
+import com.picsart.creativeapis.busobj.batch.BatchItem;
+import com.picsart.creativeapis.busobj.batch.BatchOptions;
+import com.picsart.creativeapis.busobj.image.Image;
+import com.picsart.creativeapis.busobj.image.ImageContent;
 import com.picsart.creativeapis.busobj.image.ImageFile;
+import com.picsart.creativeapis.busobj.image.ImageSource;
 import com.picsart.creativeapis.busobj.image.ImageUrl;
 import com.picsart.creativeapis.busobj.image.mapper.ParametersMapper;
 import com.picsart.creativeapis.busobj.image.mapper.ResponseMapper;
 import com.picsart.creativeapis.busobj.image.parameters.*;
+import com.picsart.creativeapis.busobj.image.request.RemoveBackgroundRequest;
+import com.picsart.creativeapis.busobj.image.request.RequestWithImageAndFormat;
+import com.picsart.creativeapis.busobj.image.request.SurfaceMapRequest;
 import com.picsart.creativeapis.busobj.image.request.UploadRequest;
 import com.picsart.creativeapis.busobj.image.result.*;
+import com.picsart.creativeapis.busobj.retry.RetryCounters;
+import com.picsart.creativeapis.busobj.retry.RetryPolicy;
 import com.picsart.creativeapis.image.client.ImageApiClient;
+import com.picsart.creativeapis.utils.BatchUtils;
+import com.picsart.creativeapis.utils.DownloadUtils;
+import io.netty.buffer.ByteBuf;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.time.Duration;
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import javax.annotation.Nullable;
 import lombok.AccessLevel;
-import lombok.RequiredArgsConstructor;
+import lombok.AllArgsConstructor;
 import lombok.With;
 import lombok.experimental.FieldDefaults;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClientResponse;
 
 @FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
-@RequiredArgsConstructor
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
 public final class ImageApiImpl implements ImageApi {
   @With(AccessLevel.PRIVATE)
   ApiConfig config;
 
   ImageApiClient client;
 
+  // the withers of the optional features implement the ones of ImageApi
+  @With @Nullable UploadCache uploadCache;
+
+  @With @Nullable RequestCoalescer requestCoalescer;
+
+  @With @Nullable ResultCache resultCache;
+
+  @With @Nullable EffectCatalogue effectCatalogue;
+
+  @With @Nullable ImagePreflight preflight;
+
+  @With @Nullable ImageTransformer imageTransformer;
+
+  public ImageApiImpl(ApiConfig config, ImageApiClient client) {
+    this(config, client, null, null, null, null, null, null);
+  }
+
   @Override
   public ImageApi withApiKey(String apiKey) {
     return withConfig(config.withApiKey(apiKey));
@@ -63,28 +107,50 @@ public final class ImageApiImpl implements ImageApi {
     return withConfig(config.withTimeout(timeout));
   }
 
+  @Override
+  public ImageApi withRetryPolicy(RetryPolicy retryPolicy) {
+    return withConfig(config.withRetryPolicy(retryPolicy));
+  }
+
+  @Override
+  public RetryCounters retryCounters() {
+    return config.retryCounters();
+  }
+
   @Override
   public Mono<RemoveBackgroundResult> removeBackground(RemoveBackgroundParameters parameters) {
-    return client
-        .removeBackground(config, ParametersMapper.INSTANCE.toRequest(parameters))
-        .map(
-            response ->
-                ResponseMapper.INSTANCE.toResult(
-                    response.getBody(), response.getHttpClientResponse()));
+    return withPreparedImage(ApiActions.REMOVE_BACKGROUND, parameters)
+        .flatMap(
+            p ->
+                send(
+                    ApiActions.REMOVE_BACKGROUND,
+                    ParametersMapper.INSTANCE.toRequest(p),
+                    request -> client.removeBackground(config, request),
+                    ResponseMapper.INSTANCE::toResult));
   }
 
   @Override
   public Mono<EffectResult> effect(EffectParameters parameters) {
-    return client
-        .effect(config, ParametersMapper.INSTANCE.toRequest(parameters))
-        .map(
-            response ->
-                ResponseMapper.INSTANCE.toResult(
-                    response.getBody(), response.getHttpClientResponse()));
+    return validateEffectNames(ApiActions.EFFECT, List.of(parameters.getEffectName()))
+        .then(withPreparedImage(ApiActions.EFFECT, parameters))
+        .flatMap(
+            p ->
+                send(
+                    ApiActions.EFFECT,
+                    ParametersMapper.INSTANCE.toRequest(p),
+                    request -> client.effect(config, request),
+                    ResponseMapper.INSTANCE::toResult));
   }
 
   @Override
   public Mono<ListEffectsResult> listEffects() {
+    if (effectCatalogue != null) {
+      return effectCatalogue.listEffects(this::requestEffects);
+    }
+    return requestEffects();
+  }
+
+  private Mono<ListEffectsResult> requestEffects() {
     return client
         .listEffects(config)
         .map(
@@ -95,87 +161,105 @@ public final class ImageApiImpl implements ImageApi {
 
   @Override
   public Mono<UltraUpscaleResult> ultraUpscale(UltraUpscaleParameters parameters) {
-    return client
-        .ultraUpscale(config, ParametersMapper.INSTANCE.toRequest(parameters))
-        .map(
-            response ->
-                ResponseMapper.INSTANCE.toResult(
-                    response.getBody(), response.getHttpClientResponse()));
+    return withPreparedImage(ApiActions.ULTRA_UPSCALE, parameters)
+        .flatMap(
+            p ->
+                send(
+                    ApiActions.ULTRA_UPSCALE,
+                    ParametersMapper.INSTANCE.toRequest(p),
+                    request -> client.ultraUpscale(config, request),
+                    ResponseMapper.INSTANCE::toResult));
   }
 
   @Override
   public Mono<UpscaleResult> upscale(UpscaleParameters parameters) {
-    return client
-        .upscale(config, ParametersMapper.INSTANCE.toRequest(parameters))
-        .map(
-            response ->
-                ResponseMapper.INSTANCE.toResult(
-                    response.getBody(), response.getHttpClientResponse()));
+    return withPreparedImage(ApiActions.UPSCALE, parameters)
+        .flatMap(
+            p ->
+                send(
+                    ApiActions.UPSCALE,
+                    ParametersMapper.INSTANCE.toRequest(p),
+                    request -> client.upscale(config, request),
+                    ResponseMapper.INSTANCE::toResult));
   }
 
   @Override
   public Mono<UltraEnhanceResult> ultraEnhance(UltraEnhanceParameters parameters) {
-    return client
-        .ultraEnhance(config, ParametersMapper.INSTANCE.toRequest(parameters))
-        .map(
-            response ->
-                ResponseMapper.INSTANCE.toResult(
-                    response.getBody(), response.getHttpClientResponse()));
+    return withPreparedImage(ApiActions.ULTRA_ENHANCE, parameters)
+        .flatMap(
+            p ->
+                send(
+                    ApiActions.ULTRA_ENHANCE,
+                    ParametersMapper.INSTANCE.toRequest(p),
+                    request -> client.ultraEnhance(config, request),
+                    ResponseMapper.INSTANCE::toResult));
   }
 
   @Override
   public Mono<EnhanceFaceResult> enhanceFace(EnhanceFaceParameters parameters) {
-    return client
-        .enhanceFace(config, ParametersMapper.INSTANCE.toRequest(parameters))
-        .map(
-            response ->
-                ResponseMapper.INSTANCE.toResult(
-                    response.getBody(), response.getHttpClientResponse()));
+    return withPreparedImage(ApiActions.ENHANCE_FACE, parameters)
+        .flatMap(
+            p ->
+                send(
+                    ApiActions.ENHANCE_FACE,
+                    ParametersMapper.INSTANCE.toRequest(p),
+                    request -> client.enhanceFace(config, request),
+                    ResponseMapper.INSTANCE::toResult));
   }
 
   @Override
   public Mono<EffectsPreviewsResult> effectsPreviews(EffectsPreviewsParameters parameters) {
-    return client
-        .effectsPreviews(config, ParametersMapper.INSTANCE.toRequest(parameters))
-        .map(
-            response ->
-                ResponseMapper.INSTANCE.toResult(
-                    response.getBody(), response.getHttpClientResponse()));
+    return validateEffectNames(ApiActions.EFFECTS_PREVIEWS, parameters.getEffectNames())
+        .then(withPreparedImage(ApiActions.EFFECTS_PREVIEWS, parameters))
+        .flatMap(
+            p ->
+                send(
+                    ApiActions.EFFECTS_PREVIEWS,
+                    ParametersMapper.INSTANCE.toRequest(p),
+                    request -> client.effectsPreviews(config, request),
+                    ResponseMapper.INSTANCE::toResult));
   }
 
   @Override
   public Mono<AdjustResult> adjust(AdjustParameters parameters) {
-    return client
-        .adjust(config, ParametersMapper.INSTANCE.toRequest(parameters))
-        .map(
-            response ->
-                ResponseMapper.INSTANCE.toResult(
-                    response.getBody(), response.getHttpClientResponse()));
+    return withPreparedImage(ApiActions.ADJUST, parameters)
+        .flatMap(
+            p ->
+                send(
+                    ApiActions.ADJUST,
+                    ParametersMapper.INSTANCE.toRequest(p),
+                    request -> client.adjust(config, request),
+                    ResponseMapper.INSTANCE::toResult));
   }
 
   @Override
   public Mono<BackgroundTextureResult> backgroundTexture(BackgroundTextureParameters parameters) {
-    return client
-        .backgroundTexture(config, ParametersMapper.INSTANCE.toRequest(parameters))
-        .map(
-            response ->
-                ResponseMapper.INSTANCE.toResult(
-                    response.getBody(), response.getHttpClientResponse()));
+    return withPreparedImage(ApiActions.BACKGROUND_TEXTURE, parameters)
+        .flatMap(
+            p ->
+                send(
+                    ApiActions.BACKGROUND_TEXTURE,
+                    ParametersMapper.INSTANCE.toRequest(p),
+                    request -> client.backgroundTexture(config, request),
+                    ResponseMapper.INSTANCE::toResult));
   }
 
   @Override
   public Mono<SurfaceMapResult> surfaceMap(SurfaceMapParameters parameters) {
-    return client
-        .surfaceMap(config, ParametersMapper.INSTANCE.toRequest(parameters))
-        .map(
-            response ->
-                ResponseMapper.INSTANCE.toResult(
-                    response.getBody(), response.getHttpClientResponse()));
+    return withPreparedImage(ApiActions.SURFACE_MAP, parameters)
+        .flatMap(
+            p ->
+                send(
+                    ApiActions.SURFACE_MAP,
+                    ParametersMapper.INSTANCE.toRequest(p),
+                    request -> client.surfaceMap(config, request),
+                    ResponseMapper.INSTANCE::toResult));
   }
 
   @Override
-  public Mono<UploadResult> upload(ImageFile image) {
-    return upload(ParametersMapper.INSTANCE.toRequest(image));
+  public Mono<UploadResult> upload(ImageContent image) {
+    return checkImage(ApiActions.UPLOAD, image)
+        .then(upload(ParametersMapper.INSTANCE.toRequest(image)));
   }
 
   @Override
@@ -193,6 +277,239 @@ public final class ImageApiImpl implements ImageApi {
                     response.getBody(), response.getHttpClientResponse()));
   }
 
+  @Override
+  public Mono<Long> download(Image image, Path path) {
+    return Mono.using(
+        () ->
+            FileChannel.open(
+                path,
+                StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING),
+        channel -> download(image, channel),
+        channel -> {
+          try {
+            channel.close();
+          } catch (IOException e) {
+            throw new UncheckedIOException(e);
+          }
+        });
+  }
+
+  @Override
+  public Mono<Long> download(Image image, WritableByteChannel channel) {
+    return DownloadUtils.write(stream(image), channel);
+  }
+
+  @Override
+  public Flux<ByteBuf> stream(Image image) {
+    if (image.url() == null) {
+      return Flux.error(new IllegalArgumentException("Image " + image.id() + " has no URL"));
+    }
+    return client.download(config, image.url());
+  }
+
+  @Override
+  public ImagePipeline pipeline() {
+    return new ImagePipeline(this);
+  }
+
+  @Override
+  public Flux<BatchItem<RemoveBackgroundParameters, RemoveBackgroundResult>> removeBackgroundBatch(
+      Flux<RemoveBackgroundParameters> parameters, BatchOptions options) {
+    return BatchUtils.process(parameters, this::removeBackground, options);
+  }
+
+  @Override
+  public Flux<BatchItem<EffectParameters, EffectResult>> effectBatch(
+      Flux<EffectParameters> parameters, BatchOptions options) {
+    return BatchUtils.process(parameters, this::effect, options);
+  }
+
+  @Override
+  public Flux<BatchItem<UltraUpscaleParameters, UltraUpscaleResult>> ultraUpscaleBatch(
+      Flux<UltraUpscaleParameters> parameters, BatchOptions options) {
+    return BatchUtils.process(parameters, this::ultraUpscale, options);
+  }
+
+  @Override
+  public Flux<BatchItem<UpscaleParameters, UpscaleResult>> upscaleBatch(
+      Flux<UpscaleParameters> parameters, BatchOptions options) {
+    return BatchUtils.process(parameters, this::upscale, options);
+  }
+
+  @Override
+  public Flux<BatchItem<UltraEnhanceParameters, UltraEnhanceResult>> ultraEnhanceBatch(
+      Flux<UltraEnhanceParameters> parameters, BatchOptions options) {
+    return BatchUtils.process(parameters, this::ultraEnhance, options);
+  }
+
+  @Override
+  public Flux<BatchItem<EnhanceFaceParameters, EnhanceFaceResult>> enhanceFaceBatch(
+      Flux<EnhanceFaceParameters> parameters, BatchOptions options) {
+    return BatchUtils.process(parameters, this::enhanceFace, options);
+  }
+
+  @Override
+  public Flux<BatchItem<EffectsPreviewsParameters, EffectsPreviewsResult>> effectsPreviewsBatch(
+      Flux<EffectsPreviewsParameters> parameters, BatchOptions options) {
+    return BatchUtils.process(parameters, this::effectsPreviews, options);
+  }
+
+  @Override
+  public Flux<BatchItem<AdjustParameters, AdjustResult>> adjustBatch(
+      Flux<AdjustParameters> parameters, BatchOptions options) {
+    return BatchUtils.process(parameters, this::adjust, options);
+  }
+
+  @Override
+  public Flux<BatchItem<BackgroundTextureParameters, BackgroundTextureResult>>
+      backgroundTextureBatch(Flux<BackgroundTextureParameters> parameters, BatchOptions options) {
+    return BatchUtils.process(parameters, this::backgroundTexture, options);
+  }
+
+  @Override
+  public Flux<BatchItem<SurfaceMapParameters, SurfaceMapResult>> surfaceMapBatch(
+      Flux<SurfaceMapParameters> parameters, BatchOptions options) {
+    return BatchUtils.process(parameters, this::surfaceMap, options);
+  }
+
+  @Override
+  public Flux<BatchItem<ImageContent, UploadResult>> uploadBatch(
+      Flux<ImageContent> parameters, BatchOptions options) {
+    return BatchUtils.process(parameters, this::upload, options);
+  }
+
+  /**
+   * Sends the request and maps its response to the result, returning the cached result when the
+   * result cache is set and sharing the result of an identical request in flight when the request
+   * coalescer is set. The cache keeps the bodies of the responses, the results returned from it
+   * have an empty metadata since no request was sent for them.
+   */
+  @SuppressWarnings("unchecked")
+  private <Q, B, T> Mono<T> send(
+      ApiActions action,
+      Q request,
+      Function<Q, Mono<HttpResponseWithBody<B>>> call,
+      BiFunction<B, HttpClientResponse, T> toResult) {
+    var response = Mono.defer(() -> call.apply(request));
+    Mono<T> result =
+        response.map(value -> toResult.apply(value.getBody(), value.getHttpClientResponse()));
+    if (resultCache != null && resultCache.caches(action) && !sendsContent(request)) {
+      var key = new ResultCache.Key(action, config.apiKey(), config.baseUrl(), request);
+      var sendAndCache =
+          response
+              .doOnNext(value -> resultCache.put(key, value.getBody()))
+              .map(value -> toResult.apply(value.getBody(), value.getHttpClientResponse()));
+      result =
+          Mono.defer(
+              () -> {
+                var cached = (B) resultCache.get(key);
+                return cached != null ? Mono.just(toResult.apply(cached, null)) : sendAndCache;
+              });
+    }
+    if (requestCoalescer == null) {
+      return result;
+    }
+    var coalesced = result;
+    return requestCoalescer.coalesce(
+        action.actionName(), config.apiKey(), config.baseUrl(), request, () -> coalesced);
+  }
+
+  /** Returns whether the request sends image content, which can change between calls. */
+  private static boolean sendsContent(Object request) {
+    if (request instanceof RemoveBackgroundRequest removeBackgroundRequest
+        && removeBackgroundRequest.getBgImage() != null) {
+      return true;
+    }
+    if (request instanceof SurfaceMapRequest surfaceMapRequest
+        && (surfaceMapRequest.getMask() != null || surfaceMapRequest.getSticker() != null)) {
+      return true;
+    }
+    return request instanceof RequestWithImageAndFormat requestWithImage
+        && requestWithImage.getImage() != null;
+  }
+
+  /**
+   * Fails with an IllegalArgumentException on the effect names missing from the effect catalogue,
+   * when it is set and checks the effect names.
+   */
+  private Mono<Void> validateEffectNames(ApiActions action, List<String> effectNames) {
+    if (effectCatalogue == null || !effectCatalogue.validatesEffectNames()) {
+      return Mono.empty();
+    }
+    return effectCatalogue
+        .effectNames(this::requestEffects)
+        .flatMap(
+            names -> {
+              var unknown = effectNames.stream().filter(name -> !names.contains(name)).toList();
+              if (unknown.isEmpty()) {
+                return Mono.empty();
+              }
+              return Mono.error(
+                  new IllegalArgumentException(
+                      action.actionName()
+                          + " failed with errors: Unknown effect names: "
+                          + String.join(", ", unknown)));
+            });
+  }
+
+  /**
+   * Transforms the image of the parameters when the image transformer is set, checks it when the
+   * preflight check is set, then replaces the image file with the ID of the uploaded image when the
+   * upload cache is set. The transform comes first, so the images it downscales pass the check. The
+   * upload cache is looked up by the original file, so a file sent again is neither transformed nor
+   * uploaded again. The IDs of the transformed files are kept per action, since the transformed
+   * files are checked against the limits of the action.
+   */
+  private <P extends ImageParameters<P>> Mono<P> withPreparedImage(
+      ApiActions action, P parameters) {
+    var original = parameters.getImage();
+    if (imageTransformer == null || !imageTransformer.transforms(action, original)) {
+      return withCheckedImage(action, parameters);
+    }
+    if (uploadCache == null || !(original instanceof ImageFile imageFile)) {
+      return transformAndCheck(action, original)
+          .map(image -> image == original ? parameters : parameters.withImage(image));
+    }
+    return uploadCache
+        .imageId(
+            config.apiKey(),
+            action.actionName(),
+            imageFile,
+            file ->
+                transformAndCheck(action, file)
+                    .flatMap(image -> upload((ImageContent) image))
+                    .map(result -> result.image().id()))
+        .map(imageId -> parameters.withImage(ImageSource.fromImageId(imageId)));
+  }
+
+  private Mono<ImageSource> transformAndCheck(ApiActions action, ImageSource image) {
+    return imageTransformer
+        .transform(action, image)
+        .flatMap(transformed -> checkImage(action, transformed).thenReturn(transformed));
+  }
+
+  private <P extends ImageParameters<P>> Mono<P> withCheckedImage(
+      ApiActions action, P parameters) {
+    var image = parameters.getImage();
+    var checked = checkImage(action, image);
+    if (uploadCache == null || !(image instanceof ImageFile imageFile)) {
+      return checked.thenReturn(parameters);
+    }
+    return checked
+        .then(
+            uploadCache.imageId(
+                config.apiKey(),
+                imageFile,
+                file -> upload(file).map(result -> result.image().id())))
+        .map(imageId -> parameters.withImage(ImageSource.fromImageId(imageId)));
+  }
+
+  private Mono<Void> checkImage(ApiActions action, ImageSource image) {
+    return preflight == null ? Mono.empty() : preflight.check(action, image);
+  }
+
   private Mono<UploadResult> upload(UploadRequest request) {
     return client
         .upload(config, request)
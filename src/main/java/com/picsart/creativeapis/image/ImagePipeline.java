@@ -0,0 +1,321 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 PicsArt, Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.picsart.creativeapis.image;
+
+import com.picsart.creativeapis.busobj.ApiActions;
+import com.picsart.creativeapis.busobj.batch.BatchItem;
+import com.picsart.creativeapis.busobj.batch.BatchOptions;
+import com.picsart.creativeapis.busobj.image.Image;
+import com.picsart.creativeapis.busobj.image.ImageSource;
+import com.picsart.creativeapis.busobj.image.parameters.*;
+import com.picsart.creativeapis.busobj.image.result.PipelineResult;
+import com.picsart.creativeapis.busobj.image.result.PipelineResult.StageResult;
+import com.picsart.creativeapis.busobj.image.result.ResultWithImageAndStatus;
+import com.picsart.creativeapis.utils.BatchUtils;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * This class chains image operations, each stage sending the image produced by the previous one.
+ * The intermediate images are always forwarded by their image ID, so they stay on the server
+ * instead of being fetched again from their URL.
+ *
+ * <p>A pipeline is immutable, every stage method returns a new pipeline with the stage appended,
+ * and it can be run any number of times. Running it on a Flux of images runs the images
+ * concurrently, so the stages of the different images overlap, and the result of every run
+ * reports the latency of each of its stages.
+ */
+@FieldDefaults(makeFinal = true, level = AccessLevel.PRIVATE)
+public final class ImagePipeline {
+  ImageApi imageApi;
+  List<Stage> stages;
+
+  ImagePipeline(ImageApi imageApi) {
+    this(imageApi, List.of());
+  }
+
+  private ImagePipeline(ImageApi imageApi, List<Stage> stages) {
+    this.imageApi = imageApi;
+    this.stages = stages;
+  }
+
+  /**
+   * Appends a stage performing a custom operation.
+   *
+   * @param name The name of the stage, reported with its latency.
+   * @param operation The operation, from the image source to the Mono of its result.
+   * @return A new pipeline with the stage appended.
+   */
+  public ImagePipeline stage(
+      String name, Function<ImageSource, Mono<? extends ResultWithImageAndStatus>> operation) {
+    var appended = new ArrayList<>(stages);
+    appended.add(new Stage(name, operation));
+    return new ImagePipeline(imageApi, List.copyOf(appended));
+  }
+
+  /**
+   * Removes the background of the image, with the default parameters.
+   *
+   * @return A new pipeline with the stage appended.
+   */
+  public ImagePipeline removeBackground() {
+    return removeBackground(image -> RemoveBackgroundParameters.builder(image).build());
+  }
+
+  /**
+   * Removes the background of the image.
+   *
+   * @param parameters The parameters of the stage, built for the image forwarded by the previous
+   *     stage.
+   * @return A new pipeline with the stage appended.
+   */
+  public ImagePipeline removeBackground(
+      Function<ImageSource, RemoveBackgroundParameters> parameters) {
+    return stage(
+        ApiActions.REMOVE_BACKGROUND.actionName(),
+        image -> imageApi.removeBackground(parameters.apply(image)));
+  }
+
+  /**
+   * Applies an effect to the image.
+   *
+   * @param parameters The parameters of the stage, built for the image forwarded by the previous
+   *     stage.
+   * @return A new pipeline with the stage appended.
+   */
+  public ImagePipeline effect(Function<ImageSource, EffectParameters> parameters) {
+    return stage(ApiActions.EFFECT.actionName(), image -> imageApi.effect(parameters.apply(image)));
+  }
+
+  /**
+   * Upscales the image using ultra quality, with the default parameters.
+   *
+   * @return A new pipeline with the stage appended.
+   */
+  public ImagePipeline ultraUpscale() {
+    return ultraUpscale(image -> UltraUpscaleParameters.builder(image).build());
+  }
+
+  /**
+   * Upscales the image using ultra quality.
+   *
+   * @param parameters The parameters of the stage, built for the image forwarded by the previous
+   *     stage.
+   * @return A new pipeline with the stage appended.
+   */
+  public ImagePipeline ultraUpscale(Function<ImageSource, UltraUpscaleParameters> parameters) {
+    return stage(
+        ApiActions.ULTRA_UPSCALE.actionName(),
+        image -> imageApi.ultraUpscale(parameters.apply(image)));
+  }
+
+  /**
+   * Upscales the image, with the default parameters.
+   *
+   * @return A new pipeline with the stage appended.
+   */
+  public ImagePipeline upscale() {
+    return upscale(image -> UpscaleParameters.builder(image).build());
+  }
+
+  /**
+   * Upscales the image.
+   *
+   * @param parameters The parameters of the stage, built for the image forwarded by the previous
+   *     stage.
+   * @return A new pipeline with the stage appended.
+   */
+  public ImagePipeline upscale(Function<ImageSource, UpscaleParameters> parameters) {
+    return stage(
+        ApiActions.UPSCALE.actionName(), image -> imageApi.upscale(parameters.apply(image)));
+  }
+
+  /**
+   * Enhances the image using ultra quality, with the default parameters.
+   *
+   * @return A new pipeline with the stage appended.
+   */
+  public ImagePipeline ultraEnhance() {
+    return ultraEnhance(image -> UltraEnhanceParameters.builder(image).build());
+  }
+
+  /**
+   * Enhances the image using ultra quality.
+   *
+   * @param parameters The parameters of the stage, built for the image forwarded by the previous
+   *     stage.
+   * @return A new pipeline with the stage appended.
+   */
+  public ImagePipeline ultraEnhance(Function<ImageSource, UltraEnhanceParameters> parameters) {
+    return stage(
+        ApiActions.ULTRA_ENHANCE.actionName(),
+        image -> imageApi.ultraEnhance(parameters.apply(image)));
+  }
+
+  /**
+   * Enhances the faces in the image, with the default parameters.
+   *
+   * @return A new pipeline with the stage appended.
+   */
+  public ImagePipeline enhanceFace() {
+    return enhanceFace(image -> EnhanceFaceParameters.builder(image).build());
+  }
+
+  /**
+   * Enhances the faces in the image.
+   *
+   * @param parameters The parameters of the stage, built for the image forwarded by the previous
+   *     stage.
+   * @return A new pipeline with the stage appended.
+   */
+  public ImagePipeline enhanceFace(Function<ImageSource, EnhanceFaceParameters> parameters) {
+    return stage(
+        ApiActions.ENHANCE_FACE.actionName(),
+        image -> imageApi.enhanceFace(parameters.apply(image)));
+  }
+
+  /**
+   * Adjusts the image.
+   *
+   * @param parameters The parameters of the stage, built for the image forwarded by the previous
+   *     stage.
+   * @return A new pipeline with the stage appended.
+   */
+  public ImagePipeline adjust(Function<ImageSource, AdjustParameters> parameters) {
+    return stage(ApiActions.ADJUST.actionName(), image -> imageApi.adjust(parameters.apply(image)));
+  }
+
+  /**
+   * Generates a background texture pattern for the image.
+   *
+   * @param parameters The parameters of the stage, built for the image forwarded by the previous
+   *     stage.
+   * @return A new pipeline with the stage appended.
+   */
+  public ImagePipeline backgroundTexture(
+      Function<ImageSource, BackgroundTextureParameters> parameters) {
+    return stage(
+        ApiActions.BACKGROUND_TEXTURE.actionName(),
+        image -> imageApi.backgroundTexture(parameters.apply(image)));
+  }
+
+  /**
+   * Prints a sticker over the image with the surface map tool.
+   *
+   * @param parameters The parameters of the stage, built for the image forwarded by the previous
+   *     stage.
+   * @return A new pipeline with the stage appended.
+   */
+  public ImagePipeline surfaceMap(Function<ImageSource, SurfaceMapParameters> parameters) {
+    return stage(
+        ApiActions.SURFACE_MAP.actionName(), image -> imageApi.surfaceMap(parameters.apply(image)));
+  }
+
+  /**
+   * Runs the stages on the image, one after the other.
+   *
+   * @param source The image the first stage is performed on.
+   * @return A Mono that emits the results of the stages, or fails with the first failed stage.
+   */
+  public Mono<PipelineResult> run(ImageSource source) {
+    if (stages.isEmpty()) {
+      return Mono.error(new IllegalStateException("The pipeline has no stage"));
+    }
+    return Mono.defer(
+        () -> {
+          var start = System.nanoTime();
+          var run = Mono.just(new Run(source, List.of()));
+          for (var stage : stages) {
+            run = run.flatMap(previous -> previous.next(stage));
+          }
+          return run.map(
+              last ->
+                  new PipelineResult(
+                      source, last.results(), Duration.ofNanos(System.nanoTime() - start)));
+        });
+  }
+
+  /**
+   * Runs the stages on an image produced by another operation, a text2image inference for
+   * instance, forwarded by its image ID.
+   *
+   * @param image The image the first stage is performed on.
+   * @return A Mono that emits the results of the stages, or fails with the first failed stage.
+   */
+  public Mono<PipelineResult> run(Image image) {
+    return run(forward(image));
+  }
+
+  /**
+   * Runs the stages on each of the images, with the concurrency, order, error isolation and rate
+   * limit budget of the batch options. The images in progress at once run their stages
+   * independently, so the stages of the different images overlap.
+   *
+   * @param sources The images the first stage is performed on.
+   * @param options The options of the batch.
+   * @return A Flux that emits the result or the failure of each run.
+   */
+  public Flux<BatchItem<ImageSource, PipelineResult>> runBatch(
+      Flux<? extends ImageSource> sources, BatchOptions options) {
+    return BatchUtils.process(
+        sources.cast(ImageSource.class), this::run, run -> run.result().metadata(), options);
+  }
+
+  /** The image ID of the image when it has one, its URL otherwise. */
+  private static ImageSource forward(Image image) {
+    return image.id() != null ? ImageSource.fromImageId(image.id()) : image.toImageSource();
+  }
+
+  private record Stage(
+      String name, Function<ImageSource, Mono<? extends ResultWithImageAndStatus>> operation) {}
+
+  /** The image forwarded to the next stage and the results of the stages run so far. */
+  private record Run(ImageSource image, List<StageResult> results) {
+    Mono<Run> next(Stage stage) {
+      return Mono.defer(
+          () -> {
+            var start = System.nanoTime();
+            return stage
+                .operation()
+                .apply(image)
+                .map(
+                    result -> {
+                      var stageResult =
+                          new StageResult(
+                              stage.name(), result, Duration.ofNanos(System.nanoTime() - start));
+                      var appended = new ArrayList<>(results);
+                      appended.add(stageResult);
+                      return new Run(forward(result.image()), List.copyOf(appended));
+                    });
+          });
+    }
+  }
+}
@@ -0,0 +1,153 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 PicsArt, Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.picsart.creativeapis.image;
+
+import com.picsart.creativeapis.busobj.ApiActions;
+import com.picsart.creativeapis.busobj.exception.ImageLimitExceededException;
+import com.picsart.creativeapis.busobj.image.ImageContent;
+import com.picsart.creativeapis.busobj.image.ImageFile;
+import com.picsart.creativeapis.busobj.image.ImageSource;
+import com.picsart.creativeapis.busobj.image.ImageStream;
+import com.picsart.creativeapis.busobj.image.config.ImageLimits;
+import com.picsart.creativeapis.busobj.image.config.PreflightConfig;
+import com.picsart.creativeapis.utils.ImageHeaderUtils;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * This class checks the images against the limits of the action before they are sent. An image the
+ * API would reject with 413 fails with ImageLimitExceededException without its body being sent, and
+ * without being uploaded first when the upload cache is set.
+ *
+ * <p>The size of an image is read from the file system or from its content, its dimensions from
+ * its header bytes, without decoding it. The dimensions are only read when a dimension limit is
+ * set, and are not checked for HEIC images. Streams are not checked, they can only be read once.
+ */
+@FieldDefaults(makeFinal = true, level = AccessLevel.PRIVATE)
+public class ImagePreflight {
+  PreflightConfig config;
+  AtomicLong checks = new AtomicLong();
+  AtomicLong rejections = new AtomicLong();
+  AtomicLong rejectedBytes = new AtomicLong();
+
+  public ImagePreflight(PreflightConfig config) {
+    this.config = config;
+  }
+
+  /**
+   * Checks the image against the limits of the action. The files are read on the bounded elastic
+   * scheduler.
+   *
+   * @param action The action the image is sent to.
+   * @param image The image source, only the image contents are checked.
+   * @return A Mono completing when the image is within the limits, or failing with
+   *     ImageLimitExceededException.
+   */
+  public Mono<Void> check(ApiActions action, ImageSource image) {
+    var limits = config.limits(action);
+    if (!(image instanceof ImageContent content)
+        || content instanceof ImageStream
+        || ImageLimits.NONE.equals(limits)) {
+      return Mono.empty();
+    }
+    var check = Mono.<Void>fromRunnable(() -> checkOrThrow(action, content, limits));
+    return content instanceof ImageFile ? check.subscribeOn(Schedulers.boundedElastic()) : check;
+  }
+
+  /**
+   * Returns the number of images checked.
+   *
+   * @return The number of checks.
+   */
+  public long checks() {
+    return checks.get();
+  }
+
+  /**
+   * Returns the number of images exceeding the limits of their action.
+   *
+   * @return The number of rejected images.
+   */
+  public long rejections() {
+    return rejections.get();
+  }
+
+  /**
+   * Returns the number of bytes of the rejected images, which were not sent.
+   *
+   * @return The number of bytes not sent.
+   */
+  public long rejectedBytes() {
+    return rejectedBytes.get();
+  }
+
+  private void checkOrThrow(ApiActions action, ImageContent content, ImageLimits limits) {
+    checks.incrementAndGet();
+    var size = ImageHeaderUtils.size(content);
+    var violations = violations(content, size, limits);
+    if (!violations.isEmpty()) {
+      rejections.incrementAndGet();
+      rejectedBytes.addAndGet(size);
+      throw new ImageLimitExceededException(
+          action.actionName() + " failed with errors: " + String.join(", ", violations), action);
+    }
+  }
+
+  private static List<String> violations(ImageContent content, long size, ImageLimits limits) {
+    var violations = new ArrayList<String>();
+    if (limits.maxSize() != null && size > limits.maxSize()) {
+      violations.add(
+          "Image size %d bytes exceeds the limit of %d bytes".formatted(size, limits.maxSize()));
+    }
+    if (limits.maxWidth() == null && limits.maxHeight() == null && limits.maxPixels() == null) {
+      return violations;
+    }
+    var dimensions = ImageHeaderUtils.dimensions(content);
+    if (dimensions == null) {
+      return violations;
+    }
+    if (limits.maxWidth() != null && dimensions.width() > limits.maxWidth()) {
+      violations.add(
+          "Image width %d exceeds the limit of %d"
+              .formatted(dimensions.width(), limits.maxWidth()));
+    }
+    if (limits.maxHeight() != null && dimensions.height() > limits.maxHeight()) {
+      violations.add(
+          "Image height %d exceeds the limit of %d"
+              .formatted(dimensions.height(), limits.maxHeight()));
+    }
+    if (limits.maxPixels() != null && dimensions.pixels() > limits.maxPixels()) {
+      violations.add(
+          "Image of %d pixels exceeds the limit of %d pixels"
+              .formatted(dimensions.pixels(), limits.maxPixels()));
+    }
+    return violations;
+  }
+}
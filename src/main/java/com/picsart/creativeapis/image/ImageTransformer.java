@@ -0,0 +1,355 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 PicsArt, Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.picsart.creativeapis.image;
+
+import com.picsart.creativeapis.busobj.ApiActions;
+import com.picsart.creativeapis.busobj.image.ImageContent;
+import com.picsart.creativeapis.busobj.image.ImageFile;
+import com.picsart.creativeapis.busobj.image.ImageFormat;
+import com.picsart.creativeapis.busobj.image.ImageSource;
+import com.picsart.creativeapis.busobj.image.ImageStream;
+import com.picsart.creativeapis.busobj.image.config.ImageTransformConfig;
+import com.picsart.creativeapis.utils.Constants;
+import com.picsart.creativeapis.utils.ImageHeaderUtils;
+import java.awt.RenderingHints;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.annotation.Nullable;
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.stream.FileImageInputStream;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.MemoryCacheImageInputStream;
+import javax.imageio.stream.MemoryCacheImageOutputStream;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * This class resizes and re-encodes the images before they are sent, for the actions whose output
+ * does not depend on the size of their input. An image larger than the maximum dimension is
+ * resized keeping its aspect ratio, and re-encoded with the configured format and quality. The
+ * transformed image is sent only when it is smaller than the original.
+ *
+ * <p>The images are decoded and encoded with ImageIO on a pool of the configured number of
+ * threads. Large images are subsampled while they are decoded, so a 24 megapixel image is not held
+ * in memory at full resolution. The images ImageIO can not decode, HEIC for instance, and the
+ * streams are sent as they are.
+ *
+ * <p>The transformed images are encoded without the metadata of the originals, so the EXIF
+ * orientation of a JPEG image is applied to its pixels before it is resized.
+ */
+@Slf4j
+@FieldDefaults(makeFinal = true, level = AccessLevel.PRIVATE)
+public class ImageTransformer {
+  private static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+
+  ImageTransformConfig config;
+  Scheduler scheduler;
+  AtomicLong transforms = new AtomicLong();
+  AtomicLong skips = new AtomicLong();
+  AtomicLong savedBytes = new AtomicLong();
+  AtomicLong cpuNanos = new AtomicLong();
+
+  public ImageTransformer(ImageTransformConfig config) {
+    this.config = config;
+    scheduler =
+        Schedulers.newParallel(Constants.IMAGE_TRANSFORM_THREAD_NAME, config.threads(), true);
+  }
+
+  /**
+   * Transforms the image of the action, when the action is one of the configured actions.
+   *
+   * @param action The action the image is sent to.
+   * @param image The image source, only the files and the in-memory contents are transformed.
+   * @return A Mono emitting the transformed image, or the image itself when it is not transformed.
+   */
+  public Mono<ImageSource> transform(ApiActions action, ImageSource image) {
+    if (!transforms(action, image)) {
+      return Mono.just(image);
+    }
+    var content = (ImageContent) image;
+    return Mono.fromCallable(() -> transformAndMeasure(content)).subscribeOn(scheduler);
+  }
+
+  /**
+   * Returns whether the image of the action is transformed, when the action is one of the
+   * configured actions and the image is a file or an in-memory content.
+   *
+   * @param action The action the image is sent to.
+   * @param image The image source.
+   * @return Whether the image is transformed, it is still sent as it is when it cannot be decoded.
+   */
+  public boolean transforms(ApiActions action, ImageSource image) {
+    return config.actions().contains(action)
+        && image instanceof ImageContent
+        && !(image instanceof ImageStream);
+  }
+
+  /** Stops the worker threads. */
+  public void dispose() {
+    scheduler.dispose();
+  }
+
+  /**
+   * Returns the number of images transformed and sent in place of the originals.
+   *
+   * @return The number of transforms.
+   */
+  public long transforms() {
+    return transforms.get();
+  }
+
+  /**
+   * Returns the number of images sent as they are, because they could not be decoded or because
+   * the transform would not make them smaller.
+   *
+   * @return The number of skipped images.
+   */
+  public long skips() {
+    return skips.get();
+  }
+
+  /**
+   * Returns the number of bytes not sent thanks to the transforms.
+   *
+   * @return The number of bytes saved.
+   */
+  public long savedBytes() {
+    return savedBytes.get();
+  }
+
+  /**
+   * Returns the CPU time spent decoding and encoding the images, or the elapsed time when the JVM
+   * does not measure the CPU time of the threads.
+   *
+   * @return The CPU time.
+   */
+  public Duration cpuTime() {
+    return Duration.ofNanos(cpuNanos.get());
+  }
+
+  private ImageSource transformAndMeasure(ImageContent content) {
+    var start = cpuTimeNanos();
+    try {
+      var size = ImageHeaderUtils.size(content);
+      var transformed = transformContent(content);
+      if (transformed == null || transformed.bytes().length >= size) {
+        skips.incrementAndGet();
+        return content;
+      }
+      transforms.incrementAndGet();
+      savedBytes.addAndGet(size - transformed.bytes().length);
+      return ImageSource.fromBytes(
+          transformed.bytes(), fileName(content.getFileName(), transformed.format()));
+    } catch (IOException | RuntimeException e) {
+      log.debug("Sending image {} as it is, it can not be transformed", content, e);
+      skips.incrementAndGet();
+      return content;
+    } finally {
+      cpuNanos.addAndGet(cpuTimeNanos() - start);
+    }
+  }
+
+  @Nullable
+  private Encoded transformContent(ImageContent content) throws IOException {
+    var decoded = decode(content);
+    if (decoded == null) {
+      return null;
+    }
+    var image = decoded.image();
+    var format = targetFormat(image);
+    var alpha = !"jpeg".equals(format);
+    var largest = Math.max(image.getWidth(), image.getHeight());
+    if (largest <= config.maxDimension()
+        && !decoded.subsampled()
+        && format.equals(decoded.format())) {
+      return null;
+    }
+    image = orient(image, ImageHeaderUtils.orientation(content), alpha);
+    var scale = Math.min(1.0, (double) config.maxDimension() / largest);
+    var width = Math.max(1, (int) Math.round(image.getWidth() * scale));
+    var height = Math.max(1, (int) Math.round(image.getHeight() * scale));
+    var bytes = encode(resize(image, width, height, alpha), format);
+    return new Encoded(bytes, format);
+  }
+
+  /** Decodes the image, subsampled when it is more than twice the maximum dimension. */
+  @Nullable
+  private Decoded decode(ImageContent content) throws IOException {
+    try (var in = imageInputStream(content)) {
+      var readers = ImageIO.getImageReaders(in);
+      if (!readers.hasNext()) {
+        return null;
+      }
+      var reader = readers.next();
+      try {
+        reader.setInput(in, true, true);
+        var largest = Math.max(reader.getWidth(0), reader.getHeight(0));
+        var subsampling = largest / (2 * config.maxDimension());
+        var param = reader.getDefaultReadParam();
+        if (subsampling > 1) {
+          param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+        }
+        var format = reader.getFormatName().toLowerCase(Locale.ROOT);
+        return new Decoded(reader.read(0, param), format, subsampling > 1);
+      } finally {
+        reader.dispose();
+      }
+    }
+  }
+
+  private static ImageInputStream imageInputStream(ImageContent content) throws IOException {
+    if (content instanceof ImageFile imageFile) {
+      return new FileImageInputStream(imageFile.getFile());
+    }
+    // kept in memory, the default ImageIO cache writes the stream to a temporary file
+    return new MemoryCacheImageInputStream(ImageHeaderUtils.open(content));
+  }
+
+  /** The configured format, PNG for transparent images in place of JPG. */
+  private String targetFormat(BufferedImage image) {
+    if (config.format() == ImageFormat.PNG
+        || config.format() == ImageFormat.WEBP
+            && ImageIO.getImageWritersByFormatName("webp").hasNext()) {
+      return config.format().name().toLowerCase(Locale.ROOT);
+    }
+    return image.getColorModel().hasAlpha() ? "png" : "jpeg";
+  }
+
+  /**
+   * Rotates and flips the pixels of the image as its EXIF orientation tells, since the orientation
+   * is not kept by the encoded image.
+   */
+  private static BufferedImage orient(BufferedImage image, int orientation, boolean alpha) {
+    var width = image.getWidth();
+    var height = image.getHeight();
+    // the transforms mapping the pixels of orientations 2 to 8 to the displayed image
+    var transform =
+        switch (orientation) {
+          case 2 -> new AffineTransform(-1, 0, 0, 1, width, 0);
+          case 3 -> new AffineTransform(-1, 0, 0, -1, width, height);
+          case 4 -> new AffineTransform(1, 0, 0, -1, 0, height);
+          case 5 -> new AffineTransform(0, 1, 1, 0, 0, 0);
+          case 6 -> new AffineTransform(0, 1, -1, 0, height, 0);
+          case 7 -> new AffineTransform(0, -1, -1, 0, height, width);
+          case 8 -> new AffineTransform(0, -1, 1, 0, 0, width);
+          default -> null;
+        };
+    if (transform == null) {
+      return image;
+    }
+    var transposed = orientation >= 5;
+    var result =
+        new BufferedImage(
+            transposed ? height : width, transposed ? width : height, imageType(image, alpha));
+    var graphics = result.createGraphics();
+    try {
+      graphics.drawImage(image, transform, null);
+    } finally {
+      graphics.dispose();
+    }
+    return result;
+  }
+
+  /**
+   * Resizes the image, halving it first while it is more than twice the target size, since the
+   * bilinear interpolation only averages the 4 nearest pixels.
+   */
+  private static BufferedImage resize(BufferedImage image, int width, int height, boolean alpha) {
+    var current = image;
+    while (current.getWidth() / 2 >= width && current.getHeight() / 2 >= height) {
+      current = draw(current, current.getWidth() / 2, current.getHeight() / 2, alpha);
+    }
+    return draw(current, width, height, alpha);
+  }
+
+  private static BufferedImage draw(BufferedImage image, int width, int height, boolean alpha) {
+    var result = new BufferedImage(width, height, imageType(image, alpha));
+    var graphics = result.createGraphics();
+    try {
+      graphics.setRenderingHint(
+          RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+      graphics.drawImage(image, 0, 0, width, height, null);
+    } finally {
+      graphics.dispose();
+    }
+    return result;
+  }
+
+  private static int imageType(BufferedImage image, boolean alpha) {
+    return alpha && image.getColorModel().hasAlpha()
+        ? BufferedImage.TYPE_INT_ARGB
+        : BufferedImage.TYPE_INT_RGB;
+  }
+
+  private byte[] encode(BufferedImage image, String format) throws IOException {
+    var writer = ImageIO.getImageWritersByFormatName(format).next();
+    var out = new ByteArrayOutputStream();
+    try (var stream = new MemoryCacheImageOutputStream(out)) {
+      writer.setOutput(stream);
+      var param = writer.getDefaultWriteParam();
+      if (!"png".equals(format) && param.canWriteCompressed()) {
+        param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+        if (param.getCompressionTypes() != null && param.getCompressionType() == null) {
+          param.setCompressionType(param.getCompressionTypes()[0]);
+        }
+        param.setCompressionQuality(config.quality());
+      }
+      writer.write(null, new IIOImage(image, null, null), param);
+    } finally {
+      writer.dispose();
+    }
+    return out.toByteArray();
+  }
+
+  /** The file name with the extension of the encoded format. */
+  private static String fileName(String fileName, String format) {
+    var extension = "jpeg".equals(format) ? "jpg" : format;
+    var dot = fileName.lastIndexOf('.');
+    return (dot > 0 ? fileName.substring(0, dot) : fileName) + '.' + extension;
+  }
+
+  private static long cpuTimeNanos() {
+    return THREADS.isCurrentThreadCpuTimeSupported()
+        ? THREADS.getCurrentThreadCpuTime()
+        : System.nanoTime();
+  }
+
+  private record Decoded(BufferedImage image, String format, boolean subsampled) {}
+
+  private record Encoded(byte[] bytes, String format) {}
+}
@@ -0,0 +1,130 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 PicsArt, Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.picsart.creativeapis.image;
+
+import com.picsart.creativeapis.busobj.ApiActions;
+import com.picsart.creativeapis.busobj.image.config.ResultCacheConfig;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import javax.annotation.Nullable;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+
+/**
+ * This class keeps the results of the image operations in memory. The least recently used results
+ * are evicted when the maximum number of results is reached, and the results expire after the
+ * configured time.
+ */
+@FieldDefaults(makeFinal = true, level = AccessLevel.PRIVATE)
+public class InMemoryResultCache implements ResultCache {
+  ResultCacheConfig config;
+  Map<Key, CachedResult> results;
+  ReentrantLock lock = new ReentrantLock();
+  AtomicLong hits = new AtomicLong();
+  AtomicLong misses = new AtomicLong();
+
+  public InMemoryResultCache(ResultCacheConfig config) {
+    this.config = config;
+    this.results =
+        new LinkedHashMap<>(16, 0.75f, true) {
+          @Override
+          protected boolean removeEldestEntry(Map.Entry<Key, CachedResult> eldest) {
+            return size() > config.maxEntries();
+          }
+        };
+  }
+
+  @Override
+  public boolean caches(ApiActions action) {
+    return config.actions().contains(action);
+  }
+
+  @Override
+  @Nullable
+  public Object get(Key key) {
+    CachedResult cached;
+    lock.lock();
+    try {
+      cached = results.get(key);
+      if (cached != null && cached.expiresAtNanos() - System.nanoTime() <= 0) {
+        results.remove(key);
+        cached = null;
+      }
+    } finally {
+      lock.unlock();
+    }
+    (cached == null ? misses : hits).incrementAndGet();
+    return cached == null ? null : cached.result();
+  }
+
+  @Override
+  public void put(Key key, Object result) {
+    var cached = new CachedResult(result, System.nanoTime() + config.ttl().toNanos());
+    lock.lock();
+    try {
+      results.put(key, cached);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @Override
+  public long hits() {
+    return hits.get();
+  }
+
+  @Override
+  public long misses() {
+    return misses.get();
+  }
+
+  /**
+   * Returns the number of results kept, including the expired ones not evicted yet.
+   *
+   * @return The number of results kept.
+   */
+  public int size() {
+    lock.lock();
+    try {
+      return results.size();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /** Removes all the kept results. */
+  public void clear() {
+    lock.lock();
+    try {
+      results.clear();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private record CachedResult(Object result, long expiresAtNanos) {}
+}
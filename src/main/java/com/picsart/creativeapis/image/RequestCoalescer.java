@@ -0,0 +1,107 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 PicsArt, Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.picsart.creativeapis.image;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import reactor.core.publisher.Mono;
+
+/**
+ * This class coalesces identical concurrent requests. The first request is sent, the identical
+ * requests made before it completes share its result instead of being sent again. Requests are
+ * identical when they are made to the same action with the same API key and base URL, and their
+ * request objects are equal.
+ */
+@FieldDefaults(makeFinal = true, level = AccessLevel.PRIVATE)
+public class RequestCoalescer {
+  Map<Key, Mono<?>> inFlight = new ConcurrentHashMap<>();
+  AtomicLong hits = new AtomicLong();
+  AtomicLong misses = new AtomicLong();
+
+  /**
+   * Returns the result of the request, shared with the identical requests in flight.
+   *
+   * @param action The name of the API action.
+   * @param apiKey The API key the request is sent with.
+   * @param baseUrl The base URL the request is sent to.
+   * @param request The request, compared with equals to the requests in flight.
+   * @param send The supplier sending the request.
+   * @return A Mono emitting the result of the request.
+   */
+  @SuppressWarnings("unchecked")
+  public <T> Mono<T> coalesce(
+      String action, String apiKey, String baseUrl, Object request, Supplier<Mono<T>> send) {
+    return Mono.defer(
+        () -> {
+          var key = new Key(action, apiKey, baseUrl, request);
+          var shared = inFlight.get(key);
+          if (shared != null) {
+            hits.incrementAndGet();
+            return (Mono<T>) shared;
+          }
+          var created = send.get().doFinally(signal -> inFlight.remove(key)).cache();
+          shared = inFlight.putIfAbsent(key, created);
+          if (shared != null) {
+            hits.incrementAndGet();
+            return (Mono<T>) shared;
+          }
+          misses.incrementAndGet();
+          return created;
+        });
+  }
+
+  /**
+   * Returns the number of requests that shared the result of an identical request in flight.
+   *
+   * @return The number of coalesced requests.
+   */
+  public long hits() {
+    return hits.get();
+  }
+
+  /**
+   * Returns the number of requests that were sent.
+   *
+   * @return The number of requests sent.
+   */
+  public long misses() {
+    return misses.get();
+  }
+
+  /**
+   * Returns the number of distinct requests in flight.
+   *
+   * @return The number of requests in flight.
+   */
+  public int inFlight() {
+    return inFlight.size();
+  }
+
+  private record Key(String action, String apiKey, String baseUrl, Object request) {}
+}
@@ -0,0 +1,99 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 PicsArt, Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.picsart.creativeapis.image;
+
+import com.picsart.creativeapis.busobj.ApiActions;
+import javax.annotation.Nullable;
+
+/**
+ * This interface is the cache of the results of the image operations. The results are keyed by
+ * the action, the API key, the base URL and the request sent. Only the results of the requests
+ * sending no image file are cached, since the content of a file can change. The bodies of the
+ * responses are cached without the metadata of the responses, such as the rate limit or the trace
+ * ID, which would be stale when the result is returned again.
+ *
+ * <p>The implementations must be thread-safe. {@link InMemoryResultCache} keeps the results in
+ * memory.
+ */
+public interface ResultCache {
+  /**
+   * Returns whether the results of the action are cached.
+   *
+   * @param action The API action.
+   * @return True if the results of the action are cached.
+   */
+  boolean caches(ApiActions action);
+
+  /**
+   * Returns the cached result of a request.
+   *
+   * @param key The key of the request.
+   * @return The cached body of the response, or null when the result is not cached or has expired.
+   */
+  @Nullable
+  Object get(Key key);
+
+  /**
+   * Caches the result of a request.
+   *
+   * @param key The key of the request.
+   * @param result The body of the response to the request.
+   */
+  void put(Key key, Object result);
+
+  /**
+   * Returns the number of requests whose result was cached.
+   *
+   * @return The number of cache hits.
+   */
+  long hits();
+
+  /**
+   * Returns the number of requests whose result was not cached.
+   *
+   * @return The number of cache misses.
+   */
+  long misses();
+
+  /**
+   * Returns the ratio of the requests whose result was cached.
+   *
+   * @return The hit rate, between 0 and 1.
+   */
+  default double hitRate() {
+    var total = hits() + misses();
+    return total == 0 ? 0 : (double) hits() / total;
+  }
+
+  /**
+   * The key of a request, compared by the value of its request object.
+   *
+   * @param action The API action.
+   * @param apiKey The API key the request is sent with.
+   * @param baseUrl The base URL the request is sent to.
+   * @param request The request.
+   */
+  record Key(ApiActions action, String apiKey, String baseUrl, Object request) {}
+}
@@ -0,0 +1,249 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 PicsArt, Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.picsart.creativeapis.image;
+
+import com.picsart.creativeapis.busobj.image.Image;
+import com.picsart.creativeapis.busobj.image.ImageContent;
+import com.picsart.creativeapis.busobj.image.ImageUrl;
+import com.picsart.creativeapis.busobj.image.parameters.*;
+import com.picsart.creativeapis.busobj.image.result.*;
+import com.picsart.creativeapis.utils.BlockingUtils;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.time.Duration;
+import javax.annotation.Nullable;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import reactor.core.publisher.Mono;
+
+/**
+ * This class performs the operations of an ImageApi as blocking calls, for the applications
+ * running a thread per request, virtual threads in particular. The calling thread parks until the
+ * result is received, without holding a monitor, so a virtual thread does not pin its carrier
+ * thread while it waits.
+ *
+ * <p>Interrupting the calling thread cancels the call, and a call not completed before the
+ * deadline is cancelled too. The cancelled calls release their connection and stop polling their
+ * asynchronous job. A failed call throws an {@link
+ * com.picsart.creativeapis.busobj.exception.ApiCallFailedException} whose cause is the exception
+ * the Mono of the ImageApi fails with.
+ */
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public final class SyncImageApi {
+  ImageApi api;
+
+  @Nullable Duration deadline;
+
+  public SyncImageApi(ImageApi api) {
+    this(api, null);
+  }
+
+  /**
+   * Sets the deadline of the calls, from the time they are made. The calls made without a deadline
+   * wait until the ImageApi completes, bounded by its response timeout and retry policy.
+   *
+   * @param deadline The maximum time a call waits, null removes the deadline.
+   * @return An instance of SyncImageApi with the deadline set.
+   */
+  public SyncImageApi withDeadline(@Nullable Duration deadline) {
+    return new SyncImageApi(api, deadline);
+  }
+
+  /**
+   * Returns the ImageApi performing the calls, for the operations without a blocking counterpart
+   * such as streaming a result image.
+   *
+   * @return The ImageApi.
+   */
+  public ImageApi async() {
+    return api;
+  }
+
+  /**
+   * Removes the background from an image.
+   *
+   * @param parameters The parameters for the operation.
+   * @return The result of the operation.
+   */
+  public RemoveBackgroundResult removeBackground(RemoveBackgroundParameters parameters) {
+    return await(api.removeBackground(parameters));
+  }
+
+  /**
+   * Applies an effect to an image.
+   *
+   * @param parameters The parameters for the operation.
+   * @return The result of the operation.
+   */
+  public EffectResult effect(EffectParameters parameters) {
+    return await(api.effect(parameters));
+  }
+
+  /**
+   * Lists the available effects.
+   *
+   * @return The result of the operation.
+   */
+  public ListEffectsResult listEffects() {
+    return await(api.listEffects());
+  }
+
+  /**
+   * Upscales an image using ultra quality.
+   *
+   * @param parameters The parameters for the operation.
+   * @return The result of the operation.
+   */
+  public UltraUpscaleResult ultraUpscale(UltraUpscaleParameters parameters) {
+    return await(api.ultraUpscale(parameters));
+  }
+
+  /**
+   * Upscales an image.
+   *
+   * @param parameters The parameters for the operation.
+   * @return The result of the operation.
+   */
+  public UpscaleResult upscale(UpscaleParameters parameters) {
+    return await(api.upscale(parameters));
+  }
+
+  /**
+   * Enhances an image using ultra quality.
+   *
+   * @param parameters The parameters for the operation.
+   * @return The result of the operation.
+   */
+  public UltraEnhanceResult ultraEnhance(UltraEnhanceParameters parameters) {
+    return await(api.ultraEnhance(parameters));
+  }
+
+  /**
+   * Enhances the faces in an image.
+   *
+   * @param parameters The parameters for the operation.
+   * @return The result of the operation.
+   */
+  public EnhanceFaceResult enhanceFace(EnhanceFaceParameters parameters) {
+    return await(api.enhanceFace(parameters));
+  }
+
+  /**
+   * Previews the effects on an image.
+   *
+   * @param parameters The parameters for the operation.
+   * @return The result of the operation.
+   */
+  public EffectsPreviewsResult effectsPreviews(EffectsPreviewsParameters parameters) {
+    return await(api.effectsPreviews(parameters));
+  }
+
+  /**
+   * Adjusts an image.
+   *
+   * @param parameters The parameters for the operation.
+   * @return The result of the operation.
+   */
+  public AdjustResult adjust(AdjustParameters parameters) {
+    return await(api.adjust(parameters));
+  }
+
+  /**
+   * Generates a background texture pattern for the input image.
+   *
+   * @param parameters The parameters for the operation.
+   * @return The result of the operation.
+   */
+  public BackgroundTextureResult backgroundTexture(BackgroundTextureParameters parameters) {
+    return await(api.backgroundTexture(parameters));
+  }
+
+  /**
+   * Prints a sticker over an image with the surface map tool.
+   *
+   * @param parameters The parameters for the operation.
+   * @return The result of the operation.
+   */
+  public SurfaceMapResult surfaceMap(SurfaceMapParameters parameters) {
+    return await(api.surfaceMap(parameters));
+  }
+
+  /**
+   * Uploads an image from a file, a byte array, a ByteBuffer or an InputStream.
+   *
+   * @param image The image content to upload.
+   * @return The result of the operation.
+   */
+  public UploadResult upload(ImageContent image) {
+    return await(api.upload(image));
+  }
+
+  /**
+   * Uploads an image from a URL.
+   *
+   * @param imageUrl The URL of the image to upload.
+   * @return The result of the operation.
+   */
+  public UploadResult upload(ImageUrl imageUrl) {
+    return await(api.upload(imageUrl));
+  }
+
+  /**
+   * Checks the balance of credits.
+   *
+   * @return The result of the operation.
+   */
+  public BalanceResult balance() {
+    return await(api.balance());
+  }
+
+  /**
+   * Downloads a result image to a file. The file is created or replaced.
+   *
+   * @param image The image to download, it must have a URL.
+   * @param path The path of the file.
+   * @return The number of bytes written.
+   */
+  public long download(Image image, Path path) {
+    return await(api.download(image, path));
+  }
+
+  /**
+   * Downloads a result image to a channel. The channel is not closed.
+   *
+   * @param image The image to download, it must have a URL.
+   * @param channel The channel to write the image to.
+   * @return The number of bytes written.
+   */
+  public long download(Image image, WritableByteChannel channel) {
+    return await(api.download(image, channel));
+  }
+
+  private <T> T await(Mono<T> mono) {
+    return BlockingUtils.await(mono, deadline);
+  }
+}
@@ -0,0 +1,209 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 PicsArt, Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.picsart.creativeapis.image;
+
+import com.picsart.creativeapis.busobj.image.ImageFile;
+import com.picsart.creativeapis.busobj.image.config.UploadCacheConfig;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * This class keeps the IDs of the uploaded image files, keyed by the API key and the SHA-256 hash
+ * of the file content. An image file sent to several operations is uploaded once, the later
+ * requests use the image ID instead of sending the file again. The image IDs expire after the
+ * configured time. The concurrent requests sending the same image while it is uploaded wait for
+ * the upload in progress instead of uploading it again.
+ *
+ * <p>The content hash of a file is kept as long as its path, size and modification time do not
+ * change, so a file is read once per change.
+ */
+@FieldDefaults(makeFinal = true, level = AccessLevel.PRIVATE)
+public class UploadCache {
+  private static final int BUFFER_SIZE = 64 * 1024;
+
+  UploadCacheConfig config;
+  Map<String, CachedImageId> imageIds = new ConcurrentHashMap<>();
+  Map<FileVersion, String> hashes = new ConcurrentHashMap<>();
+  Map<String, Mono<String>> uploads = new ConcurrentHashMap<>();
+  AtomicLong hits = new AtomicLong();
+  AtomicLong misses = new AtomicLong();
+  AtomicLong savedBytes = new AtomicLong();
+
+  public UploadCache(UploadCacheConfig config) {
+    this.config = config;
+  }
+
+  /**
+   * Returns the ID of the uploaded image file, uploading it when no unexpired ID is kept.
+   *
+   * @param apiKey The API key the image is uploaded with.
+   * @param image The image file.
+   * @param upload The function uploading the image file and returning its ID.
+   * @return A Mono emitting the ID of the uploaded image.
+   */
+  public Mono<String> imageId(
+      String apiKey, ImageFile image, Function<ImageFile, Mono<String>> upload) {
+    return imageId(apiKey, "", image, upload);
+  }
+
+  /**
+   * Returns the ID of the uploaded variant of the image file, uploading it when no unexpired ID is
+   * kept. The variants of a file, such as its transformed copies, are kept apart.
+   *
+   * @param apiKey The API key the image is uploaded with.
+   * @param variant The name of the variant, empty for the file as it is.
+   * @param image The image file.
+   * @param upload The function uploading the variant of the image file and returning its ID.
+   * @return A Mono emitting the ID of the uploaded image.
+   */
+  public Mono<String> imageId(
+      String apiKey, String variant, ImageFile image, Function<ImageFile, Mono<String>> upload) {
+    var file = image.getFile();
+    return Mono.fromCallable(() -> hash(file))
+        .subscribeOn(Schedulers.boundedElastic())
+        .flatMap(
+            hash -> {
+              var key = apiKey + ':' + variant + ':' + hash;
+              var cached = imageIds.get(key);
+              if (cached != null && cached.expiresAtNanos() - System.nanoTime() > 0) {
+                hits.incrementAndGet();
+                savedBytes.addAndGet(file.length());
+                return Mono.just(cached.imageId());
+              }
+              return upload(key, image, upload);
+            });
+  }
+
+  /** Uploads the image file, or joins the upload of the same content in progress. */
+  private Mono<String> upload(
+      String key, ImageFile image, Function<ImageFile, Mono<String>> upload) {
+    var created =
+        Mono.defer(() -> upload.apply(image))
+            .doOnNext(imageId -> put(key, imageId))
+            .doFinally(signal -> uploads.remove(key))
+            .cache();
+    var inFlight = uploads.putIfAbsent(key, created);
+    if (inFlight != null) {
+      hits.incrementAndGet();
+      savedBytes.addAndGet(image.getFile().length());
+      return inFlight;
+    }
+    misses.incrementAndGet();
+    return created;
+  }
+
+  /** Removes all the kept image IDs and content hashes. */
+  public void clear() {
+    imageIds.clear();
+    hashes.clear();
+  }
+
+  /**
+   * Returns the number of requests that used a kept image ID or joined an upload in progress.
+   *
+   * @return The number of cache hits.
+   */
+  public long hits() {
+    return hits.get();
+  }
+
+  /**
+   * Returns the number of requests that uploaded the image file.
+   *
+   * @return The number of cache misses.
+   */
+  public long misses() {
+    return misses.get();
+  }
+
+  /**
+   * Returns the number of file bytes not uploaded thanks to the kept image IDs.
+   *
+   * @return The number of bytes saved.
+   */
+  public long savedBytes() {
+    return savedBytes.get();
+  }
+
+  private void put(String key, String imageId) {
+    var now = System.nanoTime();
+    if (imageIds.size() >= config.maxEntries()) {
+      imageIds.values().removeIf(cached -> cached.expiresAtNanos() - now <= 0);
+      var keys = imageIds.keySet().iterator();
+      while (imageIds.size() >= config.maxEntries() && keys.hasNext()) {
+        keys.next();
+        keys.remove();
+      }
+    }
+    imageIds.put(key, new CachedImageId(imageId, now + config.ttl().toNanos()));
+  }
+
+  private String hash(File file) throws IOException {
+    var version = new FileVersion(file.getAbsolutePath(), file.length(), file.lastModified());
+    var hash = hashes.get(version);
+    if (hash == null) {
+      hash = sha256(file);
+      if (hashes.size() >= config.maxEntries()) {
+        hashes.clear();
+      }
+      hashes.put(version, hash);
+    }
+    return hash;
+  }
+
+  private static String sha256(File file) throws IOException {
+    MessageDigest digest;
+    try {
+      digest = MessageDigest.getInstance("SHA-256");
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+    try (InputStream in = Files.newInputStream(file.toPath())) {
+      var buffer = new byte[BUFFER_SIZE];
+      int read;
+      while ((read = in.read(buffer)) != -1) {
+        digest.update(buffer, 0, read);
+      }
+    }
+    return HexFormat.of().formatHex(digest.digest());
+  }
+
+  private record CachedImageId(String imageId, long expiresAtNanos) {}
+
+  private record FileVersion(String path, long length, long lastModified) {}
+}
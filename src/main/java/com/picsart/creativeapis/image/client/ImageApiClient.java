@@ -28,6 +28,8 @@ import com.picsart.creativeapis.busobj.ApiConfig;
 import com.picsart.creativeapis.busobj.HttpResponseWithBody;
 import com.picsart.creativeapis.busobj.image.request.*;
 import com.picsart.creativeapis.busobj.image.response.*;
+import io.netty.buffer.ByteBuf;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 /**
@@ -169,4 +171,13 @@ public interface ImageApiClient {
    *     BalanceResponse.
    */
   Mono<HttpResponseWithBody<BalanceResponse>> balance(ApiConfig config);
+
+  /**
+   * Streams a result image as it is downloaded.
+   *
+   * @param config The configuration for the API.
+   * @param url The URL of the image.
+   * @return A Flux that emits the chunks of the image, they must be released by the subscriber.
+   */
+  Flux<ByteBuf> download(ApiConfig config, String url);
 }
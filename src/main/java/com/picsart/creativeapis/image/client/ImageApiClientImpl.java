@@ -25,6 +25,7 @@
 package com.picsart.creativeapis.image.client;
 
 import static com.picsart.creativeapis.utils.Constants.*;
+import static com.picsart.creativeapis.utils.RetryUtils.*;
 import static com.picsart.creativeapis.utils.ValidationUtils.*;
 
 import com.picsart.creativeapis.AbstractApiClient;
@@ -37,10 +38,15 @@ import com.picsart.creativeapis.busobj.image.request.*;
 import com.picsart.creativeapis.busobj.image.response.*;
 import com.picsart.creativeapis.busobj.mapper.MetadataMapper;
 import com.picsart.creativeapis.http.ApiHttpClient;
+import com.picsart.creativeapis.metrics.MetricsContext;
+import io.netty.buffer.ByteBuf;
 import io.netty.handler.codec.http.HttpResponseStatus;
+import java.util.List;
+import javax.annotation.Nullable;
 import lombok.NonNull;
 import lombok.experimental.FieldDefaults;
 import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 @Slf4j
@@ -54,6 +60,44 @@ public class ImageApiClientImpl extends AbstractApiClient implements ImageApiCli
     this.clientConfig = clientConfig;
   }
 
+  /**
+   * Warms up the HTTP client and loads the classes of the requests and responses of the Image API,
+   * ahead of the first request.
+   *
+   * @return A Mono completing once the client is warmed up.
+   */
+  public Mono<Void> warmup() {
+    return warmup(
+        List.of(
+            RemoveBackgroundRequest.class,
+            EffectRequest.class,
+            UltraUpscaleRequest.class,
+            UpscaleRequest.class,
+            UltraEnhanceRequest.class,
+            EnhanceFaceRequest.class,
+            EffectsPreviewsRequest.class,
+            AdjustRequest.class,
+            BackgroundTextureRequest.class,
+            SurfaceMapRequest.class,
+            UploadRequest.class),
+        List.of(
+            ErrorResponse.class,
+            RemoveBackgroundResponse.class,
+            EffectResponse.class,
+            ListEffectsResponse.class,
+            UltraUpscaleResponse.class,
+            UpscaleUltraMiddleResponse.class,
+            UpscaleResponse.class,
+            UltraEnhanceResponse.class,
+            EnhanceFaceResponse.class,
+            EffectsPreviewsResponse.class,
+            AdjustResponse.class,
+            BackgroundTextureResponse.class,
+            SurfaceMapResponse.class,
+            UploadResponse.class,
+            BalanceResponse.class));
+  }
+
   @Override
   public Mono<HttpResponseWithBody<RemoveBackgroundResponse>> removeBackground(
       ApiConfig config, RemoveBackgroundRequest request) {
@@ -68,8 +112,11 @@ public class ImageApiClientImpl extends AbstractApiClient implements ImageApiCli
                 apiKey,
                 request,
                 config.timeout())
+            .transform(retryPost(config, request))
             .map(response -> response.parseBody(RemoveBackgroundResponse.class));
-    return validateRequestMono.then(sendRequestMono);
+    return validateRequestMono
+        .then(sendRequestMono)
+        .contextWrite(MetricsContext.action(ApiActions.REMOVE_BACKGROUND));
   }
 
   @Override
@@ -82,8 +129,11 @@ public class ImageApiClientImpl extends AbstractApiClient implements ImageApiCli
         apiHttpClient
             .sendPostRequest(
                 appendBaseUrl(baseUrl, ApiActions.EFFECT.url()), apiKey, request, config.timeout())
+            .transform(retryPost(config, request))
             .map(response -> response.parseBody(EffectResponse.class));
-    return validateRequestMono.then(sendRequestMono);
+    return validateRequestMono
+        .then(sendRequestMono)
+        .contextWrite(MetricsContext.action(ApiActions.EFFECT));
   }
 
   @Override
@@ -93,7 +143,9 @@ public class ImageApiClientImpl extends AbstractApiClient implements ImageApiCli
     return apiHttpClient
         .sendGetRequest(
             appendBaseUrl(baseUrl, ApiActions.LIST_EFFECTS.url()), apiKey, config.timeout())
-        .map(response -> response.parseBody(ListEffectsResponse.class));
+        .transform(retry(config))
+        .map(response -> response.parseBody(ListEffectsResponse.class))
+        .contextWrite(MetricsContext.action(ApiActions.LIST_EFFECTS));
   }
 
   @Override
@@ -109,26 +161,28 @@ public class ImageApiClientImpl extends AbstractApiClient implements ImageApiCli
                 apiKey,
                 request,
                 config.timeout())
+            .transform(retryPost(config, request))
             .flatMap(
-                responseWithStringBody -> {
-                  var status = responseWithStringBody.getHttpClientResponse().status();
+                responseWithRawBody -> {
+                  var status = responseWithRawBody.getHttpClientResponse().status();
                   if (HttpResponseStatus.OK.equals(status)) {
-                    return Mono.just(responseWithStringBody.parseBody(UltraUpscaleResponse.class));
+                    return Mono.just(responseWithRawBody.parseBody(UltraUpscaleResponse.class));
                   } else if (HttpResponseStatus.ACCEPTED.equals(status)) {
                     var middleResponse =
-                        responseWithStringBody
-                            .parseBody(UpscaleUltraMiddleResponse.class)
-                            .getBody();
-                    return Mono.delay(clientConfig.upscaleUltraPollingFirstDelay())
-                        .then(getUpscaleUltraAsyncResponse(config, middleResponse));
+                        responseWithRawBody.parseBody(UpscaleUltraMiddleResponse.class).getBody();
+                    return getUpscaleUltraAsyncResponse(
+                        config, middleResponse, request.getUpscaleFactor());
                   }
+                  responseWithRawBody.release();
                   var metadata =
                       MetadataMapper.INSTANCE.toMetadata(
-                          responseWithStringBody.getHttpClientResponse());
+                          responseWithRawBody.getHttpClientResponse());
                   return Mono.error(
                       new FailureResponseException("Unexpected response status", status, metadata));
                 });
-    return validateRequestMono.then(sendRequestMono);
+    return validateRequestMono
+        .then(sendRequestMono)
+        .contextWrite(MetricsContext.action(ApiActions.ULTRA_UPSCALE));
   }
 
   @Override
@@ -141,8 +195,11 @@ public class ImageApiClientImpl extends AbstractApiClient implements ImageApiCli
         apiHttpClient
             .sendPostRequest(
                 appendBaseUrl(baseUrl, ApiActions.UPSCALE.url()), apiKey, request, config.timeout())
+            .transform(retryPost(config, request))
             .map(response -> response.parseBody(UpscaleResponse.class));
-    return validateRequestMono.then(sendRequestMono);
+    return validateRequestMono
+        .then(sendRequestMono)
+        .contextWrite(MetricsContext.action(ApiActions.UPSCALE));
   }
 
   @Override
@@ -158,8 +215,11 @@ public class ImageApiClientImpl extends AbstractApiClient implements ImageApiCli
                 apiKey,
                 request,
                 config.timeout())
+            .transform(retryPost(config, request))
             .map(response -> response.parseBody(UltraEnhanceResponse.class));
-    return validateRequestMono.then(sendRequestMono);
+    return validateRequestMono
+        .then(sendRequestMono)
+        .contextWrite(MetricsContext.action(ApiActions.ULTRA_ENHANCE));
   }
 
   @Override
@@ -175,8 +235,11 @@ public class ImageApiClientImpl extends AbstractApiClient implements ImageApiCli
                 apiKey,
                 request,
                 config.timeout())
+            .transform(retryPost(config, request))
             .map(response -> response.parseBody(EnhanceFaceResponse.class));
-    return validateRequestMono.then(sendRequestMono);
+    return validateRequestMono
+        .then(sendRequestMono)
+        .contextWrite(MetricsContext.action(ApiActions.ENHANCE_FACE));
   }
 
   @Override
@@ -193,8 +256,11 @@ public class ImageApiClientImpl extends AbstractApiClient implements ImageApiCli
                 apiKey,
                 request,
                 config.timeout())
+            .transform(retryPost(config, request))
             .map(response -> response.parseBody(EffectsPreviewsResponse.class));
-    return validateRequestMono.then(sendRequestMono);
+    return validateRequestMono
+        .then(sendRequestMono)
+        .contextWrite(MetricsContext.action(ApiActions.EFFECTS_PREVIEWS));
   }
 
   @Override
@@ -207,8 +273,11 @@ public class ImageApiClientImpl extends AbstractApiClient implements ImageApiCli
         apiHttpClient
             .sendPostRequest(
                 appendBaseUrl(baseUrl, ApiActions.ADJUST.url()), apiKey, request, config.timeout())
+            .transform(retryPost(config, request))
             .map(response -> response.parseBody(AdjustResponse.class));
-    return validateRequestMono.then(sendRequestMono);
+    return validateRequestMono
+        .then(sendRequestMono)
+        .contextWrite(MetricsContext.action(ApiActions.ADJUST));
   }
 
   @Override
@@ -225,8 +294,11 @@ public class ImageApiClientImpl extends AbstractApiClient implements ImageApiCli
                 apiKey,
                 request,
                 config.timeout())
+            .transform(retryPost(config, request))
             .map(response -> response.parseBody(BackgroundTextureResponse.class));
-    return validateRequestMono.then(sendRequestMono);
+    return validateRequestMono
+        .then(sendRequestMono)
+        .contextWrite(MetricsContext.action(ApiActions.BACKGROUND_TEXTURE));
   }
 
   @Override
@@ -242,8 +314,11 @@ public class ImageApiClientImpl extends AbstractApiClient implements ImageApiCli
                 apiKey,
                 request,
                 config.timeout())
+            .transform(retryPost(config, request))
             .map(response -> response.parseBody(SurfaceMapResponse.class));
-    return validateRequestMono.then(sendRequestMono);
+    return validateRequestMono
+        .then(sendRequestMono)
+        .contextWrite(MetricsContext.action(ApiActions.SURFACE_MAP));
   }
 
   @Override
@@ -256,8 +331,11 @@ public class ImageApiClientImpl extends AbstractApiClient implements ImageApiCli
         apiHttpClient
             .sendPostRequest(
                 appendBaseUrl(baseUrl, ApiActions.UPLOAD.url()), apiKey, request, config.timeout())
+            .transform(retryPost(config, request))
             .map(response -> response.parseBody(UploadResponse.class));
-    return validateRequestMono.then(sendRequestMono);
+    return validateRequestMono
+        .then(sendRequestMono)
+        .contextWrite(MetricsContext.action(ApiActions.UPLOAD));
   }
 
   @Override
@@ -266,17 +344,31 @@ public class ImageApiClientImpl extends AbstractApiClient implements ImageApiCli
     var baseUrl = config.baseUrl();
     return apiHttpClient
         .sendGetRequest(appendBaseUrl(baseUrl, ApiActions.BALANCE.url()), apiKey, config.timeout())
-        .map(response -> response.parseBody(BalanceResponse.class));
+        .transform(retry(config))
+        .map(response -> response.parseBody(BalanceResponse.class))
+        .contextWrite(MetricsContext.action(ApiActions.BALANCE));
+  }
+
+  @Override
+  public Flux<ByteBuf> download(ApiConfig config, String url) {
+    return apiHttpClient.download(url, config.timeout());
   }
 
   private Mono<HttpResponseWithBody<UltraUpscaleResponse>> getUpscaleUltraAsyncResponse(
-      ApiConfig config, UpscaleUltraMiddleResponse upscaleUltraMiddleResponse) {
+      ApiConfig config,
+      UpscaleUltraMiddleResponse upscaleUltraMiddleResponse,
+      @Nullable Integer upscaleFactor) {
     var id = upscaleUltraMiddleResponse.transactionId();
-    return getAsyncResponse(
-            config,
-            ApiActions.ULTRA_UPSCALE.url() + SLASH + id,
+    var schedule =
+        pollSchedule(
+            clientConfig.adaptivePolling(),
+            ApiActions.ULTRA_UPSCALE,
+            String.valueOf(upscaleFactor),
+            clientConfig.upscaleUltraPollingFirstDelay(),
             clientConfig.upscaleUltraPollingRepeatCount(),
-            clientConfig.upscaleUltraPollingRepeatDelay())
+            clientConfig.upscaleUltraPollingRepeatDelay());
+    return getAsyncResponse(
+            config, ApiActions.ULTRA_UPSCALE, id, clientConfig.pollScheduler(), schedule)
         .map(response -> response.parseBody(UltraUpscaleResponse.class));
   }
 }
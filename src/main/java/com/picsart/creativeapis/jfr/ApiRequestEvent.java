@@ -0,0 +1,110 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 PicsArt, Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.picsart.creativeapis.jfr;
+
+import com.picsart.creativeapis.busobj.ApiActions;
+import javax.annotation.Nullable;
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * This event spans a request sent to the API, from the time it is sent to the time its whole
+ * response body is received. The time spent waiting for the rate limiter is not included.
+ */
+@Name("com.picsart.creativeapis.ApiRequest")
+@Label("API Request")
+@Category({"Picsart", "Creative APIs"})
+@Description("A request sent to the Picsart Creative APIs")
+@StackTrace(false)
+public final class ApiRequestEvent extends jdk.jfr.Event {
+  @Label("Action")
+  @Nullable String action;
+
+  @Label("Method")
+  String method;
+
+  @Label("URL")
+  String url;
+
+  @Label("Status")
+  @Description("The HTTP status of the response, 0 when no response was received")
+  int status;
+
+  @Label("Upload Size")
+  @Description("The size of the request body, -1 when it is not known before it is sent")
+  @DataAmount
+  long uploadBytes;
+
+  @Label("Response Size")
+  @DataAmount
+  long responseBytes;
+
+  @Label("Correlation ID")
+  @Description("The x-picsart-correlation-id header of the response")
+  @Nullable String correlationId;
+
+  @Label("Exception")
+  @Nullable String exception;
+
+  /**
+   * Ends the event and commits it with the outcome of the request, when the event is enabled.
+   *
+   * @param action The action of the request, null when it is not known.
+   * @param method The HTTP method of the request.
+   * @param url The URL of the request.
+   * @param status The HTTP status of the response, 0 when no response was received.
+   * @param uploadBytes The size of the request body, -1 when it is not known.
+   * @param responseBytes The size of the response body.
+   * @param correlationId The correlation ID of the response, null when there is none.
+   * @param exception The exception the request failed with, null when it succeeded.
+   */
+  public void complete(
+      @Nullable ApiActions action,
+      String method,
+      String url,
+      int status,
+      long uploadBytes,
+      long responseBytes,
+      @Nullable String correlationId,
+      @Nullable Throwable exception) {
+    end();
+    if (!shouldCommit()) {
+      return;
+    }
+    this.action = action == null ? null : action.actionName();
+    this.method = method;
+    this.url = url;
+    this.status = status;
+    this.uploadBytes = uploadBytes;
+    this.responseBytes = responseBytes;
+    this.correlationId = correlationId;
+    this.exception = exception == null ? null : exception.getClass().getName();
+    commit();
+  }
+}
@@ -0,0 +1,78 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 PicsArt, Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.picsart.creativeapis.jfr;
+
+import com.picsart.creativeapis.busobj.ApiActions;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * This event spans a poll of an asynchronous job, from the time its request is sent to the time
+ * its response is checked, the retries of the request included.
+ */
+@Name("com.picsart.creativeapis.Poll")
+@Label("Asynchronous Job Poll")
+@Category({"Picsart", "Creative APIs"})
+@Description("A poll of an asynchronous job of the Picsart Creative APIs")
+@StackTrace(false)
+public final class PollEvent extends jdk.jfr.Event {
+  @Label("Action")
+  String action;
+
+  @Label("Job ID")
+  @Description("The transaction or inference ID of the job")
+  String jobId;
+
+  @Label("Attempt")
+  @Description("The number of the poll, starting at 1")
+  int attempt;
+
+  @Label("Ready")
+  @Description("Whether the result of the job was returned")
+  boolean ready;
+
+  /**
+   * Ends the event and commits it with the outcome of the poll, when the event is enabled.
+   *
+   * @param action The action of the job.
+   * @param jobId The ID of the job.
+   * @param attempt The number of the poll, starting at 1.
+   * @param ready Whether the result of the job was returned.
+   */
+  public void complete(ApiActions action, String jobId, int attempt, boolean ready) {
+    end();
+    if (!shouldCommit()) {
+      return;
+    }
+    this.action = action.actionName();
+    this.jobId = jobId;
+    this.attempt = attempt;
+    this.ready = ready;
+    commit();
+  }
+}
@@ -0,0 +1,69 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 PicsArt, Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.picsart.creativeapis.jfr;
+
+import com.picsart.creativeapis.busobj.ApiActions;
+import javax.annotation.Nullable;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * This event spans the time a request is held by the client-side rate limiter, until the reset
+ * time of the rate limit of its API key.
+ */
+@Name("com.picsart.creativeapis.RateLimitWait")
+@Label("Rate Limit Wait")
+@Category({"Picsart", "Creative APIs"})
+@Description("A request held until the rate limit of its API key is reset")
+@StackTrace(false)
+public final class RateLimitWaitEvent extends jdk.jfr.Event {
+  @Label("Action")
+  @Nullable String action;
+
+  @Label("Planned Wait")
+  @Description("The time until the reset time when the request was held")
+  @Timespan(Timespan.MILLISECONDS)
+  long plannedWait;
+
+  /**
+   * Ends the event and commits it once the request is released, when the event is enabled.
+   *
+   * @param action The action of the request, null when it is not known.
+   * @param plannedWaitMillis The time until the reset time when the request was held.
+   */
+  public void complete(@Nullable ApiActions action, long plannedWaitMillis) {
+    end();
+    if (!shouldCommit()) {
+      return;
+    }
+    this.action = action == null ? null : action.actionName();
+    this.plannedWait = plannedWaitMillis;
+    commit();
+  }
+}
@@ -0,0 +1,70 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 PicsArt, Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.picsart.creativeapis.jfr;
+
+import com.picsart.creativeapis.busobj.ApiActions;
+import javax.annotation.Nullable;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/** This event spans the backoff before a request failed with a recoverable exception is retried. */
+@Name("com.picsart.creativeapis.Retry")
+@Label("Request Retry")
+@Category({"Picsart", "Creative APIs"})
+@Description("The backoff before retrying a request to the Picsart Creative APIs")
+@StackTrace(false)
+public final class RetryEvent extends jdk.jfr.Event {
+  @Label("Action")
+  @Nullable String action;
+
+  @Label("Retry")
+  @Description("The number of the retry, starting at 1")
+  long retry;
+
+  @Label("Failure")
+  @Description("The exception of the failed attempt")
+  String failure;
+
+  /**
+   * Ends the event and commits it once the backoff has elapsed, when the event is enabled.
+   *
+   * @param action The action of the request, null when it is not known.
+   * @param retry The number of the retry, starting at 1.
+   * @param failure The exception of the failed attempt.
+   */
+  public void complete(@Nullable ApiActions action, long retry, Throwable failure) {
+    end();
+    if (!shouldCommit()) {
+      return;
+    }
+    this.action = action == null ? null : action.actionName();
+    this.retry = retry;
+    this.failure = failure.getClass().getName();
+    commit();
+  }
+}
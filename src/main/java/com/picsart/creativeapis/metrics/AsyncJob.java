@@ -0,0 +1,62 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 PicsArt, Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.picsart.creativeapis.metrics;
+
+import com.picsart.creativeapis.busobj.ApiActions;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.annotation.Nullable;
+
+/**
+ * This class counts the poll requests of an asynchronous job. The HTTP client counts the polls
+ * with the metrics it reports to, and the API client completes the job when its polling ends,
+ * whatever the outcome.
+ */
+public final class AsyncJob {
+  private final AtomicInteger polls = new AtomicInteger();
+  @Nullable private volatile SdkMetrics metrics;
+  @Nullable private volatile ApiActions action;
+
+  /**
+   * Counts a poll request of the job.
+   *
+   * @param metrics The metrics the job is reported to.
+   * @param action The action of the job.
+   */
+  public void onPoll(SdkMetrics metrics, ApiActions action) {
+    this.metrics = metrics;
+    this.action = action;
+    polls.incrementAndGet();
+  }
+
+  /** Reports the number of polls of the job, once, when at least one poll was sent. */
+  public void complete() {
+    var reportedMetrics = metrics;
+    var reportedAction = action;
+    var count = polls.getAndSet(0);
+    if (reportedMetrics != null && reportedAction != null && count > 0) {
+      reportedMetrics.asyncJobCompleted(reportedAction, count);
+    }
+  }
+}
@@ -0,0 +1,204 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 PicsArt, Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.picsart.creativeapis.metrics;
+
+import com.picsart.creativeapis.busobj.ApiActions;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+
+/**
+ * This class keeps the totals of the requests of every action in memory, without a metrics
+ * library: the counts per status class and per exception type, the bytes sent and received, the
+ * requests in flight, the total latency and time to first byte, and the polls of the asynchronous
+ * jobs. It suits the tests and the applications exporting a few numbers themselves, the latency
+ * histograms need the Micrometer adapter.
+ */
+@FieldDefaults(makeFinal = true, level = AccessLevel.PRIVATE)
+public class InMemorySdkMetrics implements SdkMetrics {
+  Map<ApiActions, ActionMetrics> actions = new EnumMap<>(ApiActions.class);
+
+  public InMemorySdkMetrics() {
+    for (var action : ApiActions.values()) {
+      actions.put(action, new ActionMetrics());
+    }
+  }
+
+  /**
+   * Returns the metrics of the requests of an action.
+   *
+   * @param action The action.
+   * @return The metrics of the action.
+   */
+  public ActionMetrics action(ApiActions action) {
+    return actions.get(action);
+  }
+
+  @Override
+  public void requestStarted(ApiActions action) {
+    actions.get(action).inFlight.incrementAndGet();
+  }
+
+  @Override
+  public void requestCompleted(RequestEvent event) {
+    var metrics = actions.get(event.action());
+    metrics.inFlight.decrementAndGet();
+    metrics.requests.increment();
+    metrics.statusClasses.computeIfAbsent(event.statusClass(), key -> new LongAdder()).increment();
+    if (event.exception() != null) {
+      metrics.exceptions.computeIfAbsent(event.exceptionType(), key -> new LongAdder()).increment();
+    }
+    metrics.latencyNanos.add(event.latency().toNanos());
+    if (event.timeToFirstByte() != null) {
+      metrics.timeToFirstByteNanos.add(event.timeToFirstByte().toNanos());
+    }
+    if (event.uploadBytes() > 0) {
+      metrics.uploadBytes.add(event.uploadBytes());
+    }
+    metrics.responseBytes.add(event.responseBytes());
+  }
+
+  @Override
+  public void asyncJobCompleted(ApiActions action, int polls) {
+    var metrics = actions.get(action);
+    metrics.asyncJobs.increment();
+    metrics.polls.add(polls);
+  }
+
+  /** The totals of the requests of an action. */
+  @FieldDefaults(makeFinal = true, level = AccessLevel.PRIVATE)
+  public static final class ActionMetrics {
+    LongAdder requests = new LongAdder();
+    AtomicInteger inFlight = new AtomicInteger();
+    Map<String, LongAdder> statusClasses = new ConcurrentHashMap<>();
+    Map<String, LongAdder> exceptions = new ConcurrentHashMap<>();
+    LongAdder latencyNanos = new LongAdder();
+    LongAdder timeToFirstByteNanos = new LongAdder();
+    LongAdder uploadBytes = new LongAdder();
+    LongAdder responseBytes = new LongAdder();
+    LongAdder asyncJobs = new LongAdder();
+    LongAdder polls = new LongAdder();
+
+    /**
+     * Returns the number of requests completed, polls and retries included.
+     *
+     * @return The number of requests.
+     */
+    public long requests() {
+      return requests.sum();
+    }
+
+    /**
+     * Returns the number of requests in progress.
+     *
+     * @return The number of requests in flight.
+     */
+    public int inFlight() {
+      return inFlight.get();
+    }
+
+    /**
+     * Returns the number of requests completed with a status of the class, such as 2xx or 5xx, or
+     * none for the requests without a response.
+     *
+     * @param statusClass The status class.
+     * @return The number of requests.
+     */
+    public long statusClass(String statusClass) {
+      var count = statusClasses.get(statusClass);
+      return count == null ? 0 : count.sum();
+    }
+
+    /**
+     * Returns the number of requests failed with an exception of the type.
+     *
+     * @param exceptionType The simple name of the exception class.
+     * @return The number of requests.
+     */
+    public long exceptions(String exceptionType) {
+      var count = exceptions.get(exceptionType);
+      return count == null ? 0 : count.sum();
+    }
+
+    /**
+     * Returns the sum of the latencies of the completed requests.
+     *
+     * @return The total latency.
+     */
+    public Duration totalLatency() {
+      return Duration.ofNanos(latencyNanos.sum());
+    }
+
+    /**
+     * Returns the sum of the times to first byte of the requests answered.
+     *
+     * @return The total time to first byte.
+     */
+    public Duration totalTimeToFirstByte() {
+      return Duration.ofNanos(timeToFirstByteNanos.sum());
+    }
+
+    /**
+     * Returns the number of bytes of the request bodies of a known size.
+     *
+     * @return The number of bytes sent.
+     */
+    public long uploadBytes() {
+      return uploadBytes.sum();
+    }
+
+    /**
+     * Returns the number of bytes of the response bodies.
+     *
+     * @return The number of bytes received.
+     */
+    public long responseBytes() {
+      return responseBytes.sum();
+    }
+
+    /**
+     * Returns the number of asynchronous jobs completed.
+     *
+     * @return The number of jobs.
+     */
+    public long asyncJobs() {
+      return asyncJobs.sum();
+    }
+
+    /**
+     * Returns the number of poll requests of the completed asynchronous jobs.
+     *
+     * @return The number of polls.
+     */
+    public long polls() {
+      return polls.sum();
+    }
+  }
+}
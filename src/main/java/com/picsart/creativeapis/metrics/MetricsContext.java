@@ -0,0 +1,71 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 PicsArt, Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.picsart.creativeapis.metrics;
+
+import com.picsart.creativeapis.busobj.ApiActions;
+import javax.annotation.Nullable;
+import lombok.experimental.UtilityClass;
+import reactor.util.context.Context;
+import reactor.util.context.ContextView;
+
+/**
+ * This class carries the action of a request and the asynchronous job it polls in the Reactor
+ * context, from the API clients down to the HTTP client measuring the request.
+ */
+@UtilityClass
+public class MetricsContext {
+  private final String ACTION_KEY = "picsart.metrics.action";
+  private final String ASYNC_JOB_KEY = "picsart.metrics.asyncJob";
+
+  /**
+   * Returns the context of the requests of an action.
+   *
+   * @param action The action of the requests.
+   * @return The context to write.
+   */
+  public Context action(ApiActions action) {
+    return Context.of(ACTION_KEY, action);
+  }
+
+  /**
+   * Returns the context of the poll requests of an asynchronous job.
+   *
+   * @param job The asynchronous job.
+   * @return The context to write.
+   */
+  public Context asyncJob(AsyncJob job) {
+    return Context.of(ASYNC_JOB_KEY, job);
+  }
+
+  @Nullable
+  public ApiActions action(ContextView context) {
+    return context.getOrDefault(ACTION_KEY, null);
+  }
+
+  @Nullable
+  public AsyncJob asyncJob(ContextView context) {
+    return context.getOrDefault(ASYNC_JOB_KEY, null);
+  }
+}
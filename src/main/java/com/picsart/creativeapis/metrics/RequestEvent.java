@@ -0,0 +1,69 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 PicsArt, Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.picsart.creativeapis.metrics;
+
+import com.picsart.creativeapis.busobj.ApiActions;
+import java.time.Duration;
+import javax.annotation.Nullable;
+
+/**
+ * This record represents the measurements of a request sent by the SDK.
+ *
+ * @param action The action of the request.
+ * @param status The HTTP status of the response, 0 when no response was received.
+ * @param latency The time from sending the request to receiving its whole response body.
+ * @param timeToFirstByte The time from sending the request to receiving the response headers, null
+ *     when no response was received.
+ * @param uploadBytes The size of the request body, -1 when it is not known before it is sent.
+ * @param responseBytes The size of the response body.
+ * @param exception The exception the request failed with, null when it succeeded.
+ */
+public record RequestEvent(
+    ApiActions action,
+    int status,
+    Duration latency,
+    @Nullable Duration timeToFirstByte,
+    long uploadBytes,
+    long responseBytes,
+    @Nullable Throwable exception) {
+
+  /**
+   * Returns the class of the HTTP status, such as 2xx or 5xx.
+   *
+   * @return The status class, or none when no response was received.
+   */
+  public String statusClass() {
+    return status == 0 ? "none" : (status / 100) + "xx";
+  }
+
+  /**
+   * Returns the simple name of the class of the exception.
+   *
+   * @return The exception type, or none when the request succeeded.
+   */
+  public String exceptionType() {
+    return exception == null ? "none" : exception.getClass().getSimpleName();
+  }
+}
@@ -0,0 +1,63 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 PicsArt, Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.picsart.creativeapis.metrics;
+
+import com.picsart.creativeapis.busobj.ApiActions;
+
+/**
+ * This interface receives the measurements of the requests sent by the SDK, to be recorded by a
+ * metrics library. It is set in the HTTP transport configuration, and every request of an API
+ * action, the polls of the asynchronous jobs included, is reported to it. The methods are called on
+ * the event loop threads, they must not block.
+ *
+ * <p>The SDK depends on no metrics library, the Micrometer adapter is published as a separate
+ * artifact.
+ */
+public interface SdkMetrics {
+  /** The metrics recording nothing, the default. */
+  SdkMetrics NOOP = new SdkMetrics() {};
+
+  /**
+   * Called when a request is sent, before its connection is acquired.
+   *
+   * @param action The action of the request.
+   */
+  default void requestStarted(ApiActions action) {}
+
+  /**
+   * Called when a request completes, with a response or with an exception, or is cancelled.
+   *
+   * @param event The measurements of the request.
+   */
+  default void requestCompleted(RequestEvent event) {}
+
+  /**
+   * Called when an asynchronous job completes, is cancelled or gives up after its last poll.
+   *
+   * @param action The action of the job.
+   * @param polls The number of poll requests sent for the job.
+   */
+  default void asyncJobCompleted(ApiActions action, int polls) {}
+}
@@ -0,0 +1,158 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 PicsArt, Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.picsart.creativeapis.utils;
+
+import com.picsart.creativeapis.busobj.batch.BatchItem;
+import com.picsart.creativeapis.busobj.batch.BatchOptions;
+import com.picsart.creativeapis.busobj.exception.FailureResponseException;
+import com.picsart.creativeapis.busobj.mapper.MetadataMapper;
+import com.picsart.creativeapis.busobj.result.Metadata;
+import com.picsart.creativeapis.busobj.result.ResultWithMetadata;
+import java.time.Duration;
+import java.util.function.Function;
+import javax.annotation.Nullable;
+import lombok.experimental.UtilityClass;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Slf4j
+@UtilityClass
+public class BatchUtils {
+
+  /**
+   * Performs an operation for each of the parameters, with the concurrency, order, error isolation
+   * and rate limit budget of the batch options.
+   *
+   * @param parameters The parameters of the operations.
+   * @param operation The operation, returning the Mono of its result.
+   * @param options The options of the batch.
+   * @param <P> The type of the parameters.
+   * @param <R> The type of the results.
+   * @return A Flux emitting an item for each of the parameters.
+   */
+  public <P, R> Flux<BatchItem<P, R>> process(
+      Flux<P> parameters, Function<P, Mono<R>> operation, BatchOptions options) {
+    return process(parameters, operation, BatchUtils::metadata, options);
+  }
+
+  /**
+   * Performs an operation for each of the parameters, with the concurrency, order, error isolation
+   * and rate limit budget of the batch options. The rate limit budget is fed with the metadata
+   * extracted from the results, for the results not carrying it themselves.
+   *
+   * @param parameters The parameters of the operations.
+   * @param operation The operation, returning the Mono of its result.
+   * @param metadata The function extracting the metadata of a result, returning null when it has
+   *     none.
+   * @param options The options of the batch.
+   * @param <P> The type of the parameters.
+   * @param <R> The type of the results.
+   * @return A Flux emitting an item for each of the parameters.
+   */
+  public <P, R> Flux<BatchItem<P, R>> process(
+      Flux<P> parameters,
+      Function<P, Mono<R>> operation,
+      Function<? super R, Metadata> metadata,
+      BatchOptions options) {
+    var budget = options.holdOnRateLimit() ? new RateBudget(options.rateLimitReserve()) : null;
+    var indexed = parameters.index();
+    return options.ordered()
+        ? indexed.flatMapSequential(
+            tuple -> item(tuple.getT1(), tuple.getT2(), operation, metadata, options, budget),
+            options.concurrency())
+        : indexed.flatMap(
+            tuple -> item(tuple.getT1(), tuple.getT2(), operation, metadata, options, budget),
+            options.concurrency());
+  }
+
+  @Nullable
+  private Metadata metadata(Object result) {
+    return result instanceof ResultWithMetadata resultWithMetadata
+        ? resultWithMetadata.metadata()
+        : null;
+  }
+
+  private <P, R> Mono<BatchItem<P, R>> item(
+      long index,
+      P parameters,
+      Function<P, Mono<R>> operation,
+      Function<? super R, Metadata> metadata,
+      BatchOptions options,
+      @Nullable RateBudget budget) {
+    var result = Mono.defer(() -> operation.apply(parameters));
+    if (budget != null) {
+      result =
+          budget
+              .acquire()
+              .then(result)
+              .doOnNext(value -> budget.update(metadata.apply(value)))
+              .doOnError(
+                  FailureResponseException.class, failure -> budget.update(failure.getMetadata()));
+    }
+    Mono<BatchItem<P, R>> item =
+        result.map(value -> new BatchItem.Success<>(index, parameters, value));
+    return options.isolateErrors()
+        ? item.onErrorResume(
+            error -> Mono.<BatchItem<P, R>>just(new BatchItem.Failure<>(index, parameters, error)))
+        : item;
+  }
+
+  /**
+   * The rate limit budget of a batch, holding the operations not started yet until the reset time
+   * once the remaining rate limit reported by a response falls to the reserve.
+   */
+  private static final class RateBudget {
+    private final int reserve;
+    private volatile long holdUntilMillis;
+
+    RateBudget(int reserve) {
+      this.reserve = reserve;
+    }
+
+    Mono<Void> acquire() {
+      return Mono.defer(
+          () -> {
+            var waitMillis = holdUntilMillis - System.currentTimeMillis();
+            if (waitMillis <= 0) {
+              return Mono.empty();
+            }
+            log.debug("Rate limit budget of the batch spent, holding for {} ms", waitMillis);
+            return Mono.delay(Duration.ofMillis(waitMillis)).then();
+          });
+    }
+
+    void update(@Nullable Metadata metadata) {
+      if (metadata == null
+          || metadata.rateLimitRemaining() == null
+          || metadata.rateLimitReset() == null
+          || metadata.rateLimitRemaining() > reserve) {
+        return;
+      }
+      holdUntilMillis =
+          MetadataMapper.toResetAtMillis(metadata.rateLimitReset(), System.currentTimeMillis());
+    }
+  }
+}
@@ -0,0 +1,80 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 PicsArt, Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.picsart.creativeapis.utils;
+
+import com.picsart.creativeapis.busobj.exception.ApiCallFailedException;
+import com.picsart.creativeapis.busobj.exception.ApiCallInterruptedException;
+import com.picsart.creativeapis.busobj.exception.DeadlineExceededException;
+import java.time.Duration;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import javax.annotation.Nullable;
+import lombok.experimental.UtilityClass;
+import reactor.core.publisher.Mono;
+
+@UtilityClass
+public class BlockingUtils {
+
+  /**
+   * Subscribes to the Mono and parks the calling thread until it completes. The thread parks with
+   * LockSupport and holds no monitor, so a virtual thread unmounts from its carrier while it waits.
+   * When the thread is interrupted or the deadline passes, the subscription is cancelled, which
+   * releases the connection and stops the polling of an asynchronous job.
+   *
+   * @param mono The Mono to wait for.
+   * @param deadline The maximum time to wait, null waits until the Mono completes.
+   * @param <T> The type of the value.
+   * @return The value, or null when the Mono completes empty.
+   * @throws ApiCallFailedException If the Mono fails, with the failure as its cause.
+   * @throws ApiCallInterruptedException If the thread is interrupted, its interrupt status is kept.
+   * @throws DeadlineExceededException If the Mono does not complete before the deadline.
+   */
+  @Nullable
+  public <T> T await(Mono<T> mono, @Nullable Duration deadline) {
+    if (Thread.currentThread().isInterrupted()) {
+      // not sent at all, the caller is already cancelled
+      throw new ApiCallInterruptedException(
+          "The call was not sent, the thread is interrupted", new InterruptedException());
+    }
+    var future = mono.toFuture();
+    try {
+      return deadline == null
+          ? future.get()
+          : future.get(deadline.toNanos(), TimeUnit.NANOSECONDS);
+    } catch (InterruptedException e) {
+      future.cancel(true);
+      Thread.currentThread().interrupt();
+      throw new ApiCallInterruptedException("The call was interrupted and cancelled", e);
+    } catch (TimeoutException e) {
+      future.cancel(true);
+      throw new DeadlineExceededException(
+          "The call was cancelled, it did not complete within " + deadline, deadline);
+    } catch (ExecutionException e) {
+      // the cause may be shared by the other subscribers, it is wrapped rather than modified
+      throw new ApiCallFailedException("The call failed with " + e.getCause(), e.getCause());
+    }
+  }
+}
@@ -26,6 +26,7 @@ package com.picsart.creativeapis.utils;
 
 import java.time.Duration;
 import lombok.experimental.UtilityClass;
+import reactor.netty.resources.ConnectionProvider;
 
 @UtilityClass
 public class Constants {
@@ -42,6 +43,55 @@ public class Constants {
   public final Duration TEXT_2_IMAGE_POLLING_FIRST_DELAY = Duration.ofSeconds(1);
   public final Duration TEXT_2_IMAGE_POLLING_REPEAT_DELAY = Duration.ofSeconds(1);
   public final int TEXT_2_IMAGE_POLLING_REPEAT_COUNT = 3;
+
+  public final int POLL_MAX_CONCURRENT_POLLS = 32;
+  public final Duration POLL_TICK_DURATION = Duration.ofMillis(10);
+  public final double POLL_JITTER = 0.1;
+  public final String POLL_THREAD_NAME = "picsart-creative-apis-poll";
+
+  public final int ADAPTIVE_POLLING_WINDOW_SIZE = 64;
+  public final int ADAPTIVE_POLLING_MIN_SAMPLES = 5;
+  public final double ADAPTIVE_POLLING_BACKOFF_FACTOR = 1.5;
+  public final Duration ADAPTIVE_POLLING_MIN_DELAY = Duration.ofMillis(500);
+  public final Duration ADAPTIVE_POLLING_MAX_DELAY = Duration.ofSeconds(30);
+  public final Duration ADAPTIVE_POLLING_MAX_WAIT = Duration.ofMinutes(10);
+
+  public final Duration UPLOAD_CACHE_TTL = Duration.ofMinutes(30);
+  public final int UPLOAD_CACHE_MAX_ENTRIES = 1024;
+
+  public final Duration RESULT_CACHE_TTL = Duration.ofMinutes(15);
+  public final int RESULT_CACHE_MAX_ENTRIES = 1024;
+
+  public final Duration EFFECT_CATALOGUE_REFRESH_AFTER = Duration.ofHours(1);
+
+  public final Duration EFFECT_CATALOGUE_REFRESH_RETRY_AFTER = Duration.ofMinutes(1);
+
+  public final int IMAGE_TRANSFORM_MAX_DIMENSION = 2048;
+  public final float IMAGE_TRANSFORM_QUALITY = 0.85f;
+  public final int IMAGE_TRANSFORM_THREADS = Runtime.getRuntime().availableProcessors();
+  public final String IMAGE_TRANSFORM_THREAD_NAME = "picsart-creative-apis-transform";
+
+  public final int BATCH_CONCURRENCY = 16;
+  public final int BATCH_RATE_LIMIT_RESERVE = 0;
+
+  public final int DOWNLOAD_PREFETCH = 8;
+  public final int UPLOAD_MAPPED_CHUNK_SIZE = 64 * 1024;
+
+  public final String HTTP_POOL_NAME = "picsart-creative-apis";
+  public final int HTTP_POOL_MAX_CONNECTIONS = ConnectionProvider.DEFAULT_POOL_MAX_CONNECTIONS;
+  public final int HTTP_POOL_PENDING_ACQUIRE_MAX_COUNT = -1;
+  public final Duration HTTP_POOL_PENDING_ACQUIRE_TIMEOUT =
+      Duration.ofMillis(ConnectionProvider.DEFAULT_POOL_ACQUIRE_TIMEOUT);
+  public final String HTTP_LOOP_THREAD_PREFIX = "picsart-creative-apis";
+
+  public final Duration RATE_LIMITER_MAX_WAIT = Duration.ofMinutes(1);
+
+  public final int RETRY_MAX_ATTEMPTS = 3;
+  public final Duration RETRY_BACKOFF = Duration.ofMillis(500);
+  public final Duration RETRY_MAX_BACKOFF = Duration.ofSeconds(10);
+  public final double RETRY_JITTER = 0.5;
+  public final Duration RETRY_DEADLINE = Duration.ofSeconds(60);
+
   public final String USER_AGENT =
       "picsart-creative-apis-sdk:%s".formatted(VersionUtils.getVersion());
 }
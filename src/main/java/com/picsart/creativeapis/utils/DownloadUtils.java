@@ -0,0 +1,71 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 PicsArt, Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.picsart.creativeapis.utils;
+
+import io.netty.buffer.ByteBuf;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.WritableByteChannel;
+import lombok.experimental.UtilityClass;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+@UtilityClass
+public class DownloadUtils {
+
+  /**
+   * Writes the chunks to the channel as they are received and releases them. At most
+   * DOWNLOAD_PREFETCH chunks are requested ahead of the writes, so a slow channel slows down the
+   * download instead of buffering the image on the heap.
+   *
+   * @param chunks The chunks to write.
+   * @param channel The channel to write to, it is not closed.
+   * @return A Mono emitting the number of bytes written.
+   */
+  public Mono<Long> write(Flux<ByteBuf> chunks, WritableByteChannel channel) {
+    return chunks
+        .publishOn(Schedulers.boundedElastic(), Constants.DOWNLOAD_PREFETCH)
+        .map(chunk -> writeAndRelease(chunk, channel))
+        .doOnDiscard(ByteBuf.class, ByteBuf::release)
+        .reduce(0L, Long::sum);
+  }
+
+  private long writeAndRelease(ByteBuf chunk, WritableByteChannel channel) {
+    try {
+      long written = 0;
+      for (var buffer : chunk.nioBuffers()) {
+        while (buffer.hasRemaining()) {
+          written += channel.write(buffer);
+        }
+      }
+      return written;
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    } finally {
+      chunk.release();
+    }
+  }
+}
@@ -0,0 +1,325 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 PicsArt, Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.picsart.creativeapis.utils;
+
+import com.picsart.creativeapis.busobj.image.ImageByteBuffer;
+import com.picsart.creativeapis.busobj.image.ImageBytes;
+import com.picsart.creativeapis.busobj.image.ImageContent;
+import com.picsart.creativeapis.busobj.image.ImageFile;
+import io.netty.buffer.ByteBufInputStream;
+import io.netty.buffer.Unpooled;
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.io.UncheckedIOException;
+import javax.annotation.Nullable;
+import lombok.experimental.UtilityClass;
+
+/**
+ * Reads the size and the dimensions of the images without decoding them. The dimensions are read
+ * from the header of JPEG, PNG, GIF and WEBP images, the JPEG segments before the frame header are
+ * skipped without being read into memory. The EXIF orientation is read from the JPEG images.
+ */
+@UtilityClass
+public class ImageHeaderUtils {
+  private final int HEADER_SIZE = 30;
+  private final int ORIENTATION_TAG = 0x0112;
+
+  /**
+   * Returns the size of the image content.
+   *
+   * @param content The image content.
+   * @return The size in bytes, or -1 for a stream, whose size is unknown until it is read.
+   */
+  public long size(ImageContent content) {
+    if (content instanceof ImageFile imageFile) {
+      return imageFile.getFile().length();
+    } else if (content instanceof ImageBytes imageBytes) {
+      return imageBytes.getBytes().length;
+    } else if (content instanceof ImageByteBuffer imageByteBuffer) {
+      return imageByteBuffer.getBuffer().remaining();
+    }
+    return -1;
+  }
+
+  /**
+   * Reads the dimensions of the image content from its header.
+   *
+   * @param content The image content, a stream is not read.
+   * @return The dimensions, or null when the content is a stream or not a JPEG, PNG, GIF or WEBP.
+   */
+  @Nullable
+  public Dimensions dimensions(ImageContent content) {
+    try (var in = open(content)) {
+      return in == null ? null : dimensions(in);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * Reads the dimensions of an image from its header.
+   *
+   * @param in The stream of the image, positioned at its first byte.
+   * @return The dimensions, or null when the image is not a JPEG, PNG, GIF or WEBP.
+   * @throws IOException If the stream can not be read.
+   */
+  @Nullable
+  public Dimensions dimensions(InputStream in) throws IOException {
+    var header = in.readNBytes(HEADER_SIZE);
+    if (header.length >= 24
+        && matches(header, 0, 0x89, 'P', 'N', 'G')
+        && matches(header, 12, 'I', 'H', 'D', 'R')) {
+      return new Dimensions(int32BigEndian(header, 16), int32BigEndian(header, 20));
+    } else if (header.length >= 10 && matches(header, 0, 'G', 'I', 'F', '8')) {
+      return new Dimensions(int16LittleEndian(header, 6), int16LittleEndian(header, 8));
+    } else if (matches(header, 0, 'R', 'I', 'F', 'F') && matches(header, 8, 'W', 'E', 'B', 'P')) {
+      return webpDimensions(header);
+    } else if (matches(header, 0, 0xFF, 0xD8)) {
+      var rest = new ByteArrayInputStream(header, 2, header.length - 2);
+      return jpegDimensions(new DataInputStream(new SequenceInputStream(rest, in)));
+    }
+    return null;
+  }
+
+  /**
+   * Reads the EXIF orientation of the image content, which tells how its pixels must be rotated or
+   * flipped to be displayed.
+   *
+   * @param content The image content, a stream is not read.
+   * @return The orientation from 1 to 8, 1 when the content is a stream, not a JPEG or has no
+   *     orientation.
+   */
+  public int orientation(ImageContent content) {
+    try (var in = open(content)) {
+      return in == null ? 1 : orientation(in);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * Reads the EXIF orientation of an image.
+   *
+   * @param in The stream of the image, positioned at its first byte.
+   * @return The orientation from 1 to 8, 1 when the image is not a JPEG or has no orientation.
+   * @throws IOException If the stream can not be read.
+   */
+  public int orientation(InputStream in) throws IOException {
+    var data = new DataInputStream(in);
+    try {
+      if (data.readUnsignedShort() != 0xFFD8) {
+        return 1;
+      }
+      while (true) {
+        if (data.readUnsignedByte() != 0xFF) {
+          return 1;
+        }
+        var marker = data.readUnsignedByte();
+        while (marker == 0xFF) {
+          marker = data.readUnsignedByte();
+        }
+        if (marker == 0x01 || (marker >= 0xD0 && marker <= 0xD8)) {
+          continue; // markers without a segment
+        }
+        if (marker == 0xD9 || marker == 0xDA || isStartOfFrame(marker)) {
+          return 1; // the APP1 segment holding the EXIF data comes before the image data
+        }
+        var length = data.readUnsignedShort();
+        if (marker != 0xE1) {
+          data.skipNBytes(length - 2);
+          continue;
+        }
+        var segment = data.readNBytes(length - 2);
+        if (matches(segment, 0, 'E', 'x', 'i', 'f', 0, 0)) {
+          return exifOrientation(segment, 6);
+        }
+      }
+    } catch (EOFException e) {
+      return 1;
+    }
+  }
+
+  /** Looks up the orientation tag in the first directory of the TIFF structure of the EXIF data. */
+  private int exifOrientation(byte[] exif, int tiff) {
+    if (exif.length < tiff + 8) {
+      return 1;
+    }
+    var littleEndian = matches(exif, tiff, 'I', 'I');
+    var directory = tiff + int32(exif, tiff + 4, littleEndian);
+    if (directory < tiff || directory + 2 > exif.length) {
+      return 1;
+    }
+    var entries = int16(exif, directory, littleEndian);
+    for (var i = 0; i < entries; i++) {
+      var entry = directory + 2 + i * 12;
+      if (entry + 12 > exif.length) {
+        return 1;
+      }
+      if (int16(exif, entry, littleEndian) == ORIENTATION_TAG) {
+        var orientation = int16(exif, entry + 8, littleEndian);
+        return orientation >= 1 && orientation <= 8 ? orientation : 1;
+      }
+    }
+    return 1;
+  }
+
+  /**
+   * Opens a stream of the image content, the files are buffered and the in-memory contents are not
+   * copied.
+   *
+   * @param content The image content.
+   * @return The stream, or null when the content is a stream, which can only be read once.
+   * @throws IOException If the file can not be opened.
+   */
+  @Nullable
+  public InputStream open(ImageContent content) throws IOException {
+    if (content instanceof ImageFile imageFile) {
+      return new BufferedInputStream(new FileInputStream(imageFile.getFile()));
+    } else if (content instanceof ImageBytes imageBytes) {
+      return new ByteArrayInputStream(imageBytes.getBytes());
+    } else if (content instanceof ImageByteBuffer imageByteBuffer) {
+      var buffer = Unpooled.wrappedBuffer(imageByteBuffer.getBuffer().duplicate());
+      return new ByteBufInputStream(buffer, true);
+    }
+    return null;
+  }
+
+  @Nullable
+  private Dimensions webpDimensions(byte[] header) {
+    if (header.length < HEADER_SIZE) {
+      return null;
+    }
+    if (matches(header, 12, 'V', 'P', '8', ' ')) {
+      // lossy, the frame header follows the frame tag and the start code
+      return new Dimensions(
+          int16LittleEndian(header, 26) & 0x3FFF, int16LittleEndian(header, 28) & 0x3FFF);
+    } else if (matches(header, 12, 'V', 'P', '8', 'L')) {
+      // lossless, 14 bits per dimension after the signature byte
+      var b1 = header[22] & 0xFF;
+      var b2 = header[23] & 0xFF;
+      var b3 = header[24] & 0xFF;
+      var width = 1 + (((b1 & 0x3F) << 8) | (header[21] & 0xFF));
+      var height = 1 + (((b3 & 0x0F) << 10) | (b2 << 2) | ((b1 & 0xC0) >> 6));
+      return new Dimensions(width, height);
+    } else if (matches(header, 12, 'V', 'P', '8', 'X')) {
+      // extended, the canvas size minus one on 24 bits
+      return new Dimensions(1 + int24LittleEndian(header, 24), 1 + int24LittleEndian(header, 27));
+    }
+    return null;
+  }
+
+  /** Skips the segments up to the frame header, which holds the dimensions. */
+  @Nullable
+  private Dimensions jpegDimensions(DataInputStream in) throws IOException {
+    try {
+      while (true) {
+        if (in.readUnsignedByte() != 0xFF) {
+          return null;
+        }
+        var marker = in.readUnsignedByte();
+        while (marker == 0xFF) {
+          marker = in.readUnsignedByte();
+        }
+        if (marker == 0x01 || (marker >= 0xD0 && marker <= 0xD8)) {
+          continue; // markers without a segment
+        }
+        if (marker == 0xD9 || marker == 0xDA) {
+          return null; // end of image or start of scan before any frame header
+        }
+        var length = in.readUnsignedShort();
+        if (isStartOfFrame(marker)) {
+          in.readUnsignedByte(); // sample precision
+          var height = in.readUnsignedShort();
+          var width = in.readUnsignedShort();
+          return new Dimensions(width, height);
+        }
+        in.skipNBytes(length - 2);
+      }
+    } catch (EOFException e) {
+      return null;
+    }
+  }
+
+  private boolean isStartOfFrame(int marker) {
+    return marker >= 0xC0 && marker <= 0xCF && marker != 0xC4 && marker != 0xC8 && marker != 0xCC;
+  }
+
+  private boolean matches(byte[] header, int offset, int... expected) {
+    if (header.length < offset + expected.length) {
+      return false;
+    }
+    for (var i = 0; i < expected.length; i++) {
+      if ((header[offset + i] & 0xFF) != expected[i]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private int int16(byte[] bytes, int offset, boolean littleEndian) {
+    return littleEndian
+        ? int16LittleEndian(bytes, offset)
+        : (bytes[offset] & 0xFF) << 8 | (bytes[offset + 1] & 0xFF);
+  }
+
+  private int int32(byte[] bytes, int offset, boolean littleEndian) {
+    return littleEndian
+        ? int16LittleEndian(bytes, offset) | int16LittleEndian(bytes, offset + 2) << 16
+        : int32BigEndian(bytes, offset);
+  }
+
+  private int int16LittleEndian(byte[] bytes, int offset) {
+    return (bytes[offset] & 0xFF) | (bytes[offset + 1] & 0xFF) << 8;
+  }
+
+  private int int24LittleEndian(byte[] bytes, int offset) {
+    return int16LittleEndian(bytes, offset) | (bytes[offset + 2] & 0xFF) << 16;
+  }
+
+  private int int32BigEndian(byte[] bytes, int offset) {
+    return (bytes[offset] & 0xFF) << 24
+        | (bytes[offset + 1] & 0xFF) << 16
+        | (bytes[offset + 2] & 0xFF) << 8
+        | (bytes[offset + 3] & 0xFF);
+  }
+
+  /**
+   * The dimensions of an image.
+   *
+   * @param width The width in pixels.
+   * @param height The height in pixels.
+   */
+  public record Dimensions(int width, int height) {
+    public long pixels() {
+      return (long) width * height;
+    }
+  }
+}
@@ -27,13 +27,21 @@ package com.picsart.creativeapis.utils;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufInputStream;
+import java.io.InputStream;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import lombok.SneakyThrows;
 import lombok.experimental.UtilityClass;
 
 @UtilityClass
 public class JacksonUtils {
   private final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+  private final Map<Class<?>, ObjectReader> OBJECT_READERS = new ConcurrentHashMap<>();
 
   static {
     OBJECT_MAPPER.setSerializationInclusion(JsonInclude.Include.NON_NULL);
@@ -43,7 +51,30 @@ public class JacksonUtils {
 
   @SneakyThrows
   public <T> T fromJson(String json, Class<T> clazz) {
-    return OBJECT_MAPPER.readValue(json, clazz);
+    return getReader(clazz).readValue(json);
+  }
+
+  /**
+   * Parses the readable bytes of the buffer without copying them to the heap. The reader index of
+   * the buffer is moved, the buffer is not released.
+   */
+  @SneakyThrows
+  public <T> T fromJson(ByteBuf json, Class<T> clazz) {
+    try (InputStream inputStream = new ByteBufInputStream(json)) {
+      return getReader(clazz).readValue(inputStream);
+    }
+  }
+
+  /**
+   * Creates the readers of the classes, with their deserializers, ahead of the first responses
+   * parsed.
+   */
+  public void warmup(Collection<Class<?>> classes) {
+    classes.forEach(JacksonUtils::getReader);
+  }
+
+  private ObjectReader getReader(Class<?> clazz) {
+    return OBJECT_READERS.computeIfAbsent(clazz, OBJECT_MAPPER::readerFor);
   }
 
   @SneakyThrows
@@ -0,0 +1,209 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 PicsArt, Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.picsart.creativeapis.utils;
+
+import com.picsart.creativeapis.busobj.image.ImageByteBuffer;
+import com.picsart.creativeapis.busobj.image.ImageBytes;
+import com.picsart.creativeapis.busobj.image.ImageContent;
+import com.picsart.creativeapis.busobj.image.ImageFile;
+import com.picsart.creativeapis.busobj.image.ImageStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.annotation.Nullable;
+import lombok.experimental.UtilityClass;
+import org.apache.tika.Tika;
+
+/**
+ * Detects the MIME type of the uploaded images. The formats accepted by the API are recognized from
+ * their first bytes, the other contents are resolved from their file extension, once per extension.
+ * Tika is only loaded for an extension that is not one of the image formats, and never when it is
+ * excluded from the class path, in which case the unknown types are sent as
+ * application/octet-stream.
+ */
+@UtilityClass
+public class MimeTypeUtils {
+  public final String OCTET_STREAM = "application/octet-stream";
+  private final int HEADER_SIZE = 12;
+  private final Set<String> HEIC_BRANDS = Set.of("heic", "heix", "hevc", "hevx", "heim", "heis");
+  private final Set<String> HEIF_BRANDS = Set.of("mif1", "msf1");
+  private final boolean TIKA_PRESENT = isPresent("org.apache.tika.Tika");
+  private final Map<String, String> BY_EXTENSION =
+      new ConcurrentHashMap<>(
+          Map.ofEntries(
+              Map.entry("jpg", "image/jpeg"),
+              Map.entry("jpeg", "image/jpeg"),
+              Map.entry("png", "image/png"),
+              Map.entry("webp", "image/webp"),
+              Map.entry("gif", "image/gif"),
+              Map.entry("heic", "image/heic"),
+              Map.entry("heif", "image/heif")));
+
+  /**
+   * Detects the MIME type of the content from its first bytes, or from its file name when they are
+   * not those of an image format. A stream is only sniffed when it supports mark and reset.
+   *
+   * @param content The image content.
+   * @return The MIME type.
+   */
+  public String detect(ImageContent content) {
+    var sniffed = sniff(header(content));
+    return sniffed != null ? sniffed : detect(content.getFileName());
+  }
+
+  /**
+   * Detects the MIME type of the file from its first bytes, or from its name when they are not
+   * those of an image format.
+   *
+   * @param file The file.
+   * @return The MIME type.
+   */
+  public String detect(File file) {
+    var sniffed = sniff(readHeader(file));
+    return sniffed != null ? sniffed : detect(file.getName());
+  }
+
+  /**
+   * Resolves the MIME type from the extension of the file name.
+   *
+   * @param fileName The file name.
+   * @return The MIME type, application/octet-stream when the extension is unknown.
+   */
+  public String detect(String fileName) {
+    var dot = fileName.lastIndexOf('.');
+    var extension = dot < 0 ? "" : fileName.substring(dot + 1).toLowerCase(Locale.ROOT);
+    return BY_EXTENSION.computeIfAbsent(extension, MimeTypeUtils::detectWithTika);
+  }
+
+  /**
+   * Recognizes the image formats accepted by the API from the first bytes of an image.
+   *
+   * @param header The first bytes, at least 12 are needed to recognize every format.
+   * @return The MIME type, or null when the bytes are not those of a JPEG, PNG, WEBP, GIF or HEIC.
+   */
+  @Nullable
+  public String sniff(byte[] header) {
+    if (startsWith(header, 0, 0xFF, 0xD8, 0xFF)) {
+      return "image/jpeg";
+    } else if (startsWith(header, 0, 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n')) {
+      return "image/png";
+    } else if (startsWith(header, 0, 'G', 'I', 'F', '8')) {
+      return "image/gif";
+    } else if (startsWith(header, 0, 'R', 'I', 'F', 'F')
+        && startsWith(header, 8, 'W', 'E', 'B', 'P')) {
+      return "image/webp";
+    } else if (header.length >= HEADER_SIZE && startsWith(header, 4, 'f', 't', 'y', 'p')) {
+      var brand = new String(header, 8, 4, StandardCharsets.US_ASCII);
+      if (HEIC_BRANDS.contains(brand)) {
+        return "image/heic";
+      } else if (HEIF_BRANDS.contains(brand)) {
+        return "image/heif";
+      }
+    }
+    return null;
+  }
+
+  private byte[] header(ImageContent content) {
+    if (content instanceof ImageFile imageFile) {
+      return readHeader(imageFile.getFile());
+    } else if (content instanceof ImageBytes imageBytes) {
+      var bytes = imageBytes.getBytes();
+      return Arrays.copyOf(bytes, Math.min(HEADER_SIZE, bytes.length));
+    } else if (content instanceof ImageByteBuffer imageByteBuffer) {
+      var buffer = imageByteBuffer.getBuffer().duplicate();
+      var header = new byte[Math.min(HEADER_SIZE, buffer.remaining())];
+      buffer.get(header);
+      return header;
+    } else if (content instanceof ImageStream imageStream) {
+      return peek(imageStream);
+    }
+    return new byte[0];
+  }
+
+  /** Reads the first bytes of the stream and resets it, a stream without mark is not read. */
+  private byte[] peek(ImageStream imageStream) {
+    var stream = imageStream.getStream();
+    if (!stream.markSupported()) {
+      return new byte[0];
+    }
+    try {
+      stream.mark(HEADER_SIZE);
+      var header = stream.readNBytes(HEADER_SIZE);
+      stream.reset();
+      return header;
+    } catch (IOException e) {
+      return new byte[0];
+    }
+  }
+
+  /** Reads the first bytes of the file, a file that can not be read is reported when it is sent. */
+  private byte[] readHeader(File file) {
+    try (var in = new FileInputStream(file)) {
+      return in.readNBytes(HEADER_SIZE);
+    } catch (IOException e) {
+      return new byte[0];
+    }
+  }
+
+  private boolean startsWith(byte[] header, int offset, int... prefix) {
+    if (header.length < offset + prefix.length) {
+      return false;
+    }
+    for (var i = 0; i < prefix.length; i++) {
+      if ((header[offset + i] & 0xFF) != prefix[i]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private String detectWithTika(String extension) {
+    return TIKA_PRESENT ? TikaDetector.detect("file." + extension) : OCTET_STREAM;
+  }
+
+  private boolean isPresent(String className) {
+    try {
+      Class.forName(className, false, MimeTypeUtils.class.getClassLoader());
+      return true;
+    } catch (ClassNotFoundException e) {
+      return false;
+    }
+  }
+
+  /** Holds Tika, so that it is loaded on its first use only. */
+  private static final class TikaDetector {
+    private static final Tika TIKA = new Tika();
+
+    static String detect(String fileName) {
+      return TIKA.detect(fileName);
+    }
+  }
+}
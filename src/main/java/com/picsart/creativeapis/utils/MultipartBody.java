@@ -0,0 +1,219 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 PicsArt, Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.picsart.creativeapis.utils;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import javax.annotation.Nullable;
+import lombok.AccessLevel;
+import lombok.SneakyThrows;
+import lombok.experimental.FieldDefaults;
+import reactor.core.publisher.Flux;
+import reactor.netty.NettyOutbound;
+
+/**
+ * A multipart/form-data body written straight to the connection. Unlike the parts encoded by
+ * HttpClientForm, which are read in chunks onto the heap, the file parts are sent with sendfile on
+ * plain connections and as chunks of the memory-mapped file under TLS. The length of the body is
+ * known up front, so it is sent with a Content-Length instead of a chunked transfer encoding.
+ */
+@FieldDefaults(makeFinal = true, level = AccessLevel.PRIVATE)
+public final class MultipartBody {
+  private static final byte[] CRLF = {'\r', '\n'};
+
+  String boundary;
+  List<Segment> segments;
+  long contentLength;
+
+  private MultipartBody(String boundary, List<Segment> segments) {
+    this.boundary = boundary;
+    this.segments = List.copyOf(segments);
+    this.contentLength = segments.stream().mapToLong(Segment::length).sum();
+  }
+
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  public String contentType() {
+    return "multipart/form-data; boundary=" + boundary;
+  }
+
+  public long contentLength() {
+    return contentLength;
+  }
+
+  /**
+   * Writes the body to the outbound. The buffers and the file regions are created for every call,
+   * so the body can be sent again when the request is retried.
+   *
+   * @param outbound The outbound of the request.
+   * @param tls Whether the connection is encrypted, in which case sendfile can not be used.
+   * @return The outbound completing when the whole body is written.
+   */
+  public NettyOutbound send(NettyOutbound outbound, boolean tls) {
+    // the segments are sent on the outbound itself and chained with then, sending on the returned
+    // outbound would subscribe again to the segments sent before
+    var result = outbound;
+    for (var segment : segments) {
+      result = result.then(send(outbound, segment, tls));
+    }
+    return result;
+  }
+
+  private static NettyOutbound send(NettyOutbound outbound, Segment segment, boolean tls) {
+    if (segment instanceof FileSegment fileSegment) {
+      return tls
+          ? outbound.send(mappedChunks(fileSegment))
+          : outbound.sendFile(fileSegment.file().toPath(), 0, fileSegment.length());
+    }
+    var bufferSegment = (BufferSegment) segment;
+    // a Flux, reactor-netty sends a Mono as the whole body with its own Content-Length
+    return outbound.send(
+        Flux.defer(() -> Flux.just(Unpooled.wrappedBuffer(bufferSegment.buffer()))));
+  }
+
+  private static Flux<ByteBuf> mappedChunks(FileSegment segment) {
+    return Flux.defer(
+        () -> {
+          var mapped = map(segment);
+          var chunkSize = Constants.UPLOAD_MAPPED_CHUNK_SIZE;
+          var chunkCount = (mapped.capacity() + chunkSize - 1) / chunkSize;
+          return Flux.range(0, chunkCount)
+              .map(
+                  i -> {
+                    var offset = i * chunkSize;
+                    var length = Math.min(chunkSize, mapped.capacity() - offset);
+                    return Unpooled.wrappedBuffer(mapped.slice(offset, length));
+                  });
+        });
+  }
+
+  /** Maps the file, the mapping stays valid after the channel is closed. */
+  @SneakyThrows
+  private static MappedByteBuffer map(FileSegment segment) {
+    try (var channel = FileChannel.open(segment.file().toPath(), StandardOpenOption.READ)) {
+      return channel.map(FileChannel.MapMode.READ_ONLY, 0, segment.length());
+    }
+  }
+
+  private sealed interface Segment permits BufferSegment, FileSegment {
+    long length();
+  }
+
+  /** The encoded headers and attributes, or an in-memory content. */
+  private record BufferSegment(ByteBuffer content) implements Segment {
+    ByteBuffer buffer() {
+      return content.duplicate();
+    }
+
+    @Override
+    public long length() {
+      return content.remaining();
+    }
+  }
+
+  private record FileSegment(File file, long length) implements Segment {}
+
+  /** Encodes the parts in the order they are added. */
+  public static final class Builder {
+    private final String boundary =
+        "----" + Long.toHexString(ThreadLocalRandom.current().nextLong() & Long.MAX_VALUE);
+    private final List<Segment> segments = new ArrayList<>();
+    private final ByteArrayOutputStream text = new ByteArrayOutputStream();
+
+    private Builder() {}
+
+    public Builder attr(String name, String value) {
+      writePartHeader(name, null, "text/plain; charset=UTF-8");
+      text.writeBytes(value.getBytes(StandardCharsets.UTF_8));
+      text.writeBytes(CRLF);
+      return this;
+    }
+
+    public Builder file(String name, String fileName, String contentType, File file) {
+      writePartHeader(name, fileName, contentType);
+      flushText();
+      segments.add(new FileSegment(file, file.length()));
+      text.writeBytes(CRLF);
+      return this;
+    }
+
+    public Builder content(String name, String fileName, String contentType, ByteBuffer content) {
+      writePartHeader(name, fileName, contentType);
+      flushText();
+      segments.add(new BufferSegment(content.duplicate()));
+      text.writeBytes(CRLF);
+      return this;
+    }
+
+    public MultipartBody build() {
+      writeAscii("--" + boundary + "--");
+      text.writeBytes(CRLF);
+      flushText();
+      return new MultipartBody(boundary, segments);
+    }
+
+    private void writePartHeader(String name, @Nullable String fileName, String contentType) {
+      writeAscii("--" + boundary);
+      text.writeBytes(CRLF);
+      var disposition = "content-disposition: form-data; name=\"" + escape(name) + "\"";
+      if (fileName != null) {
+        disposition += "; filename=\"" + escape(fileName) + "\"";
+      }
+      text.writeBytes(disposition.getBytes(StandardCharsets.UTF_8));
+      text.writeBytes(CRLF);
+      writeAscii("content-type: " + contentType);
+      text.writeBytes(CRLF);
+      text.writeBytes(CRLF);
+    }
+
+    private void writeAscii(String value) {
+      text.writeBytes(value.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    private void flushText() {
+      if (text.size() > 0) {
+        segments.add(new BufferSegment(ByteBuffer.wrap(text.toByteArray())));
+        text.reset();
+      }
+    }
+
+    /** Percent-encodes the quotes and line breaks, as browsers do in the part headers. */
+    private static String escape(String value) {
+      return value.replace("\"", "%22").replace("\r", "%0D").replace("\n", "%0A");
+    }
+  }
+}
@@ -26,20 +26,44 @@ package com.picsart.creativeapis.utils;
 
 import com.google.common.base.CaseFormat;
 import com.google.common.base.Function;
+import com.picsart.creativeapis.busobj.image.ImageByteBuffer;
+import com.picsart.creativeapis.busobj.image.ImageBytes;
+import com.picsart.creativeapis.busobj.image.ImageContent;
+import com.picsart.creativeapis.busobj.image.ImageFile;
+import com.picsart.creativeapis.busobj.image.ImageStream;
+import io.netty.buffer.ByteBufInputStream;
+import io.netty.buffer.Unpooled;
+import io.netty.handler.codec.http.multipart.DefaultHttpDataFactory;
+import io.netty.handler.codec.http.multipart.HttpDataFactory;
 import java.beans.Introspector;
+import java.io.ByteArrayInputStream;
 import java.io.File;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.nio.ByteBuffer;
 import java.util.*;
 import java.util.stream.Collectors;
 import javax.annotation.Nullable;
 import lombok.SneakyThrows;
 import lombok.experimental.UtilityClass;
-import org.apache.tika.Tika;
 import reactor.netty.http.client.HttpClientForm;
 
 @UtilityClass
 public class MultipartRequestBodyUtils {
 
-  private final Tika TIKA = new Tika();
+  private final HttpDataFactory MEMORY_DATA_FACTORY = new DefaultHttpDataFactory(false);
+  private final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+  private final MethodType READER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+  /** Form fields of each request class, introspected once per class instead of per request. */
+  private final ClassValue<List<FormField>> FORM_FIELDS =
+      new ClassValue<>() {
+        @Override
+        protected List<FormField> computeValue(Class<?> type) {
+          return introspect(type);
+        }
+      };
 
   public void addRequestToClientForm(HttpClientForm httpClientForm, Object request) {
     addRequestToClientForm(httpClientForm, request, Collections.emptyMap());
@@ -50,36 +74,123 @@ public class MultipartRequestBodyUtils {
       Object request,
       Map<String, Function<Object, String>> customProcessors) {
     httpClientForm.multipart(true);
-    var map = introspect(request);
-    map.forEach(
-        (key, value) -> {
-          if (customProcessors.containsKey(key)) {
-            httpClientForm.attr(key, customProcessors.get(key).apply(value));
-            return;
-          }
-          addKeyValue(httpClientForm, key, value);
-        });
+    var fields = FORM_FIELDS.get(request.getClass());
+    var values = new Object[fields.size()];
+    for (var i = 0; i < values.length; i++) {
+      values[i] = fields.get(i).read(request);
+    }
+    if (hasInMemoryContentOnly(values)) {
+      // the default factory writes the parts larger than 16 KiB to temporary files
+      httpClientForm.factory(MEMORY_DATA_FACTORY);
+    }
+    for (var i = 0; i < values.length; i++) {
+      var field = fields.get(i);
+      var value = values[i];
+      if (value == null) {
+        continue;
+      }
+      var customProcessor = customProcessors.get(field.key());
+      if (customProcessor != null) {
+        httpClientForm.attr(field.key(), customProcessor.apply(value));
+        continue;
+      }
+      addKeyValue(httpClientForm, field.key(), value);
+    }
   }
 
   public void addKeyValue(HttpClientForm httpClientForm, String key, @Nullable Object value) {
     if (value == null) {
       return;
     }
-    if (value instanceof File file) {
-      httpClientForm.file(key, file.getName(), file, getMimeType(file));
-    } else if (value instanceof Collection<?> collection) {
-      var joinedValue =
-          collection.stream()
-              .map(MultipartRequestBodyUtils::valueToString)
-              .collect(Collectors.joining(","));
-      httpClientForm.attr(key, joinedValue);
-    } else if (value.getClass().isArray()) {
-      addArray(httpClientForm, key, value);
+    if (value instanceof ImageContent content) {
+      addImageContent(httpClientForm, key, content);
+    } else if (value instanceof File file) {
+      httpClientForm.file(key, file.getName(), file, MimeTypeUtils.detect(file));
     } else {
-      httpClientForm.attr(key, valueToString(value));
+      httpClientForm.attr(key, attrValue(value));
     }
   }
 
+  /**
+   * Adds the image content as a file part. The files are streamed from disk, the in-memory contents
+   * are read from their array, buffer or stream without a temporary file.
+   */
+  public void addImageContent(HttpClientForm httpClientForm, String key, ImageContent content) {
+    var fileName = content.getFileName();
+    var mimeType = MimeTypeUtils.detect(content);
+    if (content instanceof ImageFile imageFile) {
+      httpClientForm.file(key, fileName, imageFile.getFile(), mimeType);
+    } else if (content instanceof ImageBytes imageBytes) {
+      httpClientForm.file(key, fileName, new ByteArrayInputStream(imageBytes.getBytes()), mimeType);
+    } else if (content instanceof ImageByteBuffer imageByteBuffer) {
+      // wraps the buffer without copying it, direct and memory-mapped buffers included
+      var buffer = Unpooled.wrappedBuffer(imageByteBuffer.getBuffer().duplicate());
+      httpClientForm.file(key, fileName, new ByteBufInputStream(buffer, true), mimeType);
+    } else if (content instanceof ImageStream imageStream) {
+      httpClientForm.file(key, fileName, imageStream.getStream(), mimeType);
+    }
+  }
+
+  /**
+   * Builds the body sent without copying the file parts through the heap, see MultipartBody.
+   *
+   * @param request The request.
+   * @param customProcessors The processors converting the values of some fields to strings.
+   * @return The body, or null when the request has no file part, has a file too large to be mapped
+   *     or has a stream, which is left to the HttpClientForm encoder.
+   */
+  @Nullable
+  public MultipartBody toZeroCopyBody(
+      Object request, Map<String, Function<Object, String>> customProcessors) {
+    var body = MultipartBody.builder();
+    var hasFile = false;
+    for (var field : FORM_FIELDS.get(request.getClass())) {
+      var key = field.key();
+      var value = field.read(request);
+      if (value == null) {
+        continue;
+      }
+      var customProcessor = customProcessors.get(key);
+      if (customProcessor != null) {
+        body.attr(key, customProcessor.apply(value));
+        continue;
+      }
+      var file =
+          value instanceof ImageFile imageFile
+              ? imageFile.getFile()
+              : value instanceof File plainFile ? plainFile : null;
+      if (file != null) {
+        if (file.length() > Integer.MAX_VALUE) {
+          return null;
+        }
+        body.file(key, file.getName(), MimeTypeUtils.detect(file), file);
+        hasFile = true;
+      } else if (value instanceof ImageBytes imageBytes) {
+        var mimeType = MimeTypeUtils.detect(imageBytes);
+        body.content(
+            key, imageBytes.getFileName(), mimeType, ByteBuffer.wrap(imageBytes.getBytes()));
+      } else if (value instanceof ImageByteBuffer imageByteBuffer) {
+        var mimeType = MimeTypeUtils.detect(imageByteBuffer);
+        body.content(key, imageByteBuffer.getFileName(), mimeType, imageByteBuffer.getBuffer());
+      } else if (value instanceof ImageContent) {
+        return null;
+      } else {
+        body.attr(key, attrValue(value));
+      }
+    }
+    return hasFile ? body.build() : null;
+  }
+
+  /** Whether one of the parts of the request is an image stream, which can be read only once. */
+  public boolean hasStream(Object request) {
+    for (var field : FORM_FIELDS.get(request.getClass())) {
+      if (field.read(request) instanceof ImageStream) {
+        return true;
+      }
+    }
+    return false;
+  }
+
   public String valueToString(Object value) {
     if (value instanceof Enum<?> enumValue) {
       return enumValue.name().toLowerCase(Locale.ROOT);
@@ -92,6 +203,10 @@ public class MultipartRequestBodyUtils {
     if (value == null) {
       return;
     }
+    httpClientForm.attr(key, arrayToString(value));
+  }
+
+  private String arrayToString(Object value) {
     List<String> strings = new ArrayList<>();
     if (value instanceof int[] intArray) {
       for (var v : intArray) {
@@ -122,33 +237,59 @@ public class MultipartRequestBodyUtils {
         strings.add(valueToString(v));
       }
     }
-    httpClientForm.attr(key, String.join(",", strings));
+    return String.join(",", strings);
+  }
+
+  private String attrValue(Object value) {
+    if (value instanceof Collection<?> collection) {
+      return collection.stream()
+          .map(MultipartRequestBodyUtils::valueToString)
+          .collect(Collectors.joining(","));
+    } else if (value.getClass().isArray()) {
+      return arrayToString(value);
+    } else {
+      return valueToString(value);
+    }
   }
 
   @SneakyThrows
-  private Map<String, Object> introspect(Object obj) {
-    var result = new HashMap<String, Object>();
-    var info = Introspector.getBeanInfo(obj.getClass());
+  private List<FormField> introspect(Class<?> type) {
+    var result = new ArrayList<FormField>();
+    var info = Introspector.getBeanInfo(type);
     for (var pd : info.getPropertyDescriptors()) {
       if ("class".equals(pd.getName())) {
         continue;
       }
       var reader = pd.getReadMethod();
       if (reader != null) {
-        var value = reader.invoke(obj);
-        if (value != null) {
-          result.put(camelToSnake(pd.getName()), value);
-        }
+        var handle = LOOKUP.unreflect(reader).asType(READER_TYPE);
+        result.add(new FormField(camelToSnake(pd.getName()), handle));
       }
     }
-    return result;
+    return List.copyOf(result);
   }
 
   private String camelToSnake(String camelCase) {
     return CaseFormat.LOWER_CAMEL.to(CaseFormat.LOWER_UNDERSCORE, camelCase);
   }
 
-  private String getMimeType(File file) {
-    return TIKA.detect(file.getName());
+  private boolean hasInMemoryContentOnly(Object[] values) {
+    var inMemory = false;
+    for (var value : values) {
+      if (value instanceof ImageFile || value instanceof File) {
+        return false;
+      }
+      inMemory |= value instanceof ImageContent;
+    }
+    return inMemory;
+  }
+
+  /** A form field with its precomputed snake_case key and the getter reading its value. */
+  private record FormField(String key, MethodHandle reader) {
+    @Nullable
+    @SneakyThrows
+    Object read(Object request) {
+      return (Object) reader.invokeExact(request);
+    }
   }
 }
@@ -0,0 +1,131 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 PicsArt, Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.picsart.creativeapis.utils;
+
+import com.picsart.creativeapis.busobj.ApiConfig;
+import com.picsart.creativeapis.busobj.MultipartBodyRequest;
+import com.picsart.creativeapis.busobj.exception.Recoverable;
+import com.picsart.creativeapis.busobj.exception.TooManyRequestsException;
+import com.picsart.creativeapis.busobj.mapper.MetadataMapper;
+import com.picsart.creativeapis.busobj.retry.RetryCounters;
+import com.picsart.creativeapis.busobj.retry.RetryPolicy;
+import com.picsart.creativeapis.jfr.RetryEvent;
+import com.picsart.creativeapis.metrics.MetricsContext;
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+import lombok.experimental.UtilityClass;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+@Slf4j
+@UtilityClass
+public class RetryUtils {
+  /**
+   * Returns a transformation retrying a request according to the policy, only when it fails with an
+   * exception marked {@link Recoverable}. When no retry is left the last failure is propagated.
+   */
+  public <T> Function<Mono<T>, Mono<T>> retry(ApiConfig config) {
+    var policy = config.retryPolicy();
+    var counters = config.retryCounters();
+    if (policy.maxAttempts() <= 1) {
+      return Function.identity();
+    }
+    return mono ->
+        Mono.defer(
+            () -> {
+              var deadlineMillis = System.currentTimeMillis() + policy.deadline().toMillis();
+              return mono.retryWhen(
+                  Retry.from(
+                      signals ->
+                          signals.concatMap(
+                              signal ->
+                                  nextAttempt(
+                                      policy,
+                                      counters,
+                                      signal.failure(),
+                                      signal.totalRetries(),
+                                      deadlineMillis))));
+            });
+  }
+
+  /**
+   * Returns a transformation retrying a POST request according to the policy, only when the policy
+   * opts in the POST requests and the body of the request can be sent again.
+   */
+  public <T> Function<Mono<T>, Mono<T>> retryPost(ApiConfig config, Object request) {
+    if (!config.retryPolicy().retryPosts()
+        || request instanceof MultipartBodyRequest multipartBodyRequest
+            && !multipartBodyRequest.replayable()) {
+      return Function.identity();
+    }
+    return retry(config);
+  }
+
+  private Mono<Long> nextAttempt(
+      RetryPolicy policy,
+      RetryCounters counters,
+      Throwable failure,
+      long retries,
+      long deadlineMillis) {
+    if (!(failure instanceof Recoverable)) {
+      return Mono.error(failure);
+    }
+    var now = System.currentTimeMillis();
+    var backoffMillis = backoffMillis(policy, failure, retries, now);
+    if (retries + 1 >= policy.maxAttempts() || now + backoffMillis > deadlineMillis) {
+      counters.recordGiveUp();
+      return Mono.error(failure);
+    }
+    counters.recordAttempt();
+    log.debug("Retrying in {} ms after {}", backoffMillis, failure.toString());
+    // the retries are signalled with the context of the retried request, which holds its action
+    return Mono.deferContextual(
+        context -> {
+          var event = new RetryEvent();
+          event.begin();
+          return Mono.delay(Duration.ofMillis(backoffMillis))
+              .doOnNext(
+                  ignored -> event.complete(MetricsContext.action(context), retries + 1, failure));
+        });
+  }
+
+  long backoffMillis(RetryPolicy policy, Throwable failure, long retries, long now) {
+    var exponential = policy.backoff().toMillis() << Math.min(retries, 30);
+    var backoff = Math.min(exponential, policy.maxBackoff().toMillis());
+    var random = 2 * ThreadLocalRandom.current().nextDouble() - 1;
+    var jittered = Math.max(0, (long) (backoff * (1 + policy.jitter() * random)));
+    if (policy.honorRateLimitReset()
+        && failure instanceof TooManyRequestsException exception
+        && exception.getMetadata() != null
+        && exception.getMetadata().rateLimitReset() != null) {
+      var resetAtMillis =
+          MetadataMapper.toResetAtMillis(exception.getMetadata().rateLimitReset(), now);
+      return Math.max(jittered, resetAtMillis - now);
+    }
+    return jittered;
+  }
+}
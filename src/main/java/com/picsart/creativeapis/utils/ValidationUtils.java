@@ -28,6 +28,7 @@ import jakarta.validation.ConstraintViolation;
 import jakarta.validation.Validation;
 import jakarta.validation.Validator;
 import jakarta.validation.ValidatorFactory;
+import java.util.Collection;
 import java.util.Set;
 import java.util.stream.Collectors;
 import lombok.experimental.UtilityClass;
@@ -55,6 +56,13 @@ public class ValidationUtils {
     }
   }
 
+  /**
+   * Builds the validator and the constraints of the classes ahead of the first requests validated.
+   */
+  public void warmup(Collection<Class<?>> classes) {
+    classes.forEach(VALIDATOR::getConstraintsForClass);
+  }
+
   public Mono<Void> validateRequestMono(Object object, String actionName) {
     return Mono.fromRunnable(() -> validOrThrow(object, actionName));
   }
@@ -0,0 +1,805 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 PicsArt, Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.picsart.creativeapis;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.picsart.creativeapis.busobj.ApiActions;
+import com.picsart.creativeapis.busobj.ApiConfig;
+import com.picsart.creativeapis.busobj.batch.BatchItem;
+import com.picsart.creativeapis.busobj.batch.BatchOptions;
+import com.picsart.creativeapis.busobj.exception.ApiCallInterruptedException;
+import com.picsart.creativeapis.busobj.exception.DeadlineExceededException;
+import com.picsart.creativeapis.busobj.exception.ImageLimitExceededException;
+import com.picsart.creativeapis.busobj.exception.InternalServerErrorException;
+import com.picsart.creativeapis.busobj.exception.TooManyRequestsException;
+import com.picsart.creativeapis.busobj.genai.config.GenAIApiClientConfig;
+import com.picsart.creativeapis.busobj.genai.parameters.Text2ImageParameters;
+import com.picsart.creativeapis.busobj.http.config.AdaptivePollingConfig;
+import com.picsart.creativeapis.busobj.http.config.HttpTransportConfig;
+import com.picsart.creativeapis.busobj.image.ImageFormat;
+import com.picsart.creativeapis.busobj.image.ImageSource;
+import com.picsart.creativeapis.busobj.image.config.EffectCatalogueConfig;
+import com.picsart.creativeapis.busobj.image.config.ImageApiClientConfig;
+import com.picsart.creativeapis.busobj.image.config.ImageLimits;
+import com.picsart.creativeapis.busobj.image.config.ImageTransformConfig;
+import com.picsart.creativeapis.busobj.image.config.PreflightConfig;
+import com.picsart.creativeapis.busobj.image.config.ResultCacheConfig;
+import com.picsart.creativeapis.busobj.image.config.UploadCacheConfig;
+import com.picsart.creativeapis.busobj.image.parameters.EffectParameters;
+import com.picsart.creativeapis.busobj.image.parameters.RemoveBackgroundParameters;
+import com.picsart.creativeapis.busobj.image.parameters.SurfaceMapParameters;
+import com.picsart.creativeapis.busobj.image.parameters.UltraUpscaleParameters;
+import com.picsart.creativeapis.busobj.image.parameters.UpscaleParameters;
+import com.picsart.creativeapis.busobj.image.result.EffectResult;
+import com.picsart.creativeapis.busobj.image.result.PipelineResult;
+import com.picsart.creativeapis.busobj.retry.RetryPolicy;
+import com.picsart.creativeapis.genai.GenAIApi;
+import com.picsart.creativeapis.genai.GenAIApiImpl;
+import com.picsart.creativeapis.genai.client.GenAIApiClientImpl;
+import com.picsart.creativeapis.http.AdaptivePolling;
+import com.picsart.creativeapis.http.ApiHttpClientImpl;
+import com.picsart.creativeapis.image.EffectCatalogue;
+import com.picsart.creativeapis.image.ImageApi;
+import com.picsart.creativeapis.image.ImageApiImpl;
+import com.picsart.creativeapis.image.ImagePreflight;
+import com.picsart.creativeapis.image.ImageTransformer;
+import com.picsart.creativeapis.image.InMemoryResultCache;
+import com.picsart.creativeapis.image.RequestCoalescer;
+import com.picsart.creativeapis.image.SyncImageApi;
+import com.picsart.creativeapis.image.UploadCache;
+import com.picsart.creativeapis.image.client.ImageApiClientImpl;
+import com.picsart.creativeapis.metrics.InMemorySdkMetrics;
+import com.picsart.creativeapis.standin.StandInApiServer;
+import com.picsart.creativeapis.standin.StandInApiServerConfig;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import javax.imageio.ImageIO;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+public class StandInApiServerEndToEndTest {
+  private static final String API_KEY = "apiKey";
+  private static final Duration TIMEOUT = Duration.ofSeconds(10);
+  private static final Duration POLLING_DELAY = Duration.ofMillis(1);
+  private static final RemoveBackgroundParameters REMOVE_BACKGROUND_PARAMETERS =
+      RemoveBackgroundParameters.builder(ImageSource.fromImageId("imageId")).build();
+
+  private static ApiHttpClientImpl apiHttpClient;
+
+  @BeforeAll
+  public static void setup() {
+    apiHttpClient =
+        new ApiHttpClientImpl(HttpTransportConfig.builder().poolName("stand-in-test").build());
+  }
+
+  @AfterAll
+  public static void tearDown() {
+    apiHttpClient.dispose();
+  }
+
+  @DisplayName("Should return the image and the metadata headers of the stand-in server")
+  @Test
+  public void shouldReturnImageAndMetadata() {
+    try (var server = StandInApiServer.start()) {
+      StepVerifier.create(imageApi(server).removeBackground(REMOVE_BACKGROUND_PARAMETERS))
+          .expectNextMatches(
+              result ->
+                  result.image().url() != null
+                      && result.metadata().rateLimit() != null
+                      && result.metadata().rateLimitRemaining() != null
+                      && result.metadata().rateLimitReset() != null
+                      && result.metadata().traceId() != null
+                      && result.metadata().creditAvailable() == server.credits())
+          .verifyComplete();
+    }
+  }
+
+  @DisplayName("Should poll the ultra upscale transaction until the result is ready")
+  @Test
+  public void shouldPollUltraUpscaleTransaction() {
+    var config = StandInApiServerConfig.builder().ultraUpscalePendingPolls(2).build();
+    try (var server = StandInApiServer.start(config)) {
+      var parameters = UltraUpscaleParameters.builder(ImageSource.fromImageId("imageId")).build();
+      StepVerifier.create(imageApi(server).ultraUpscale(parameters))
+          .expectNextMatches(result -> result.image().url() != null)
+          .verifyComplete();
+      // the request, two pending polls and the poll returning the result
+      assertEquals(4, server.requestCount(ApiActions.ULTRA_UPSCALE));
+    }
+  }
+
+  @DisplayName("Should learn the ultra upscale polling delays from the observed job durations")
+  @Test
+  public void shouldLearnUltraUpscalePollingDelays() {
+    var adaptivePolling =
+        new AdaptivePolling(
+            AdaptivePollingConfig.builder().minSamples(1).minDelay(POLLING_DELAY).build());
+    var clientConfig =
+        ImageApiClientConfig.builder()
+            .upscaleUltraPollingFirstDelay(POLLING_DELAY)
+            .upscaleUltraPollingRepeatDelay(POLLING_DELAY)
+            .adaptivePolling(adaptivePolling)
+            .build();
+    try (var server = StandInApiServer.start()) {
+      var imageApi =
+          new ImageApiImpl(
+              new ApiConfig(API_KEY, server.baseUrl(), TIMEOUT),
+              new ImageApiClientImpl(apiHttpClient, clientConfig));
+      var parameters =
+          UltraUpscaleParameters.builder(ImageSource.fromImageId("imageId"))
+              .upscaleFactor(4)
+              .build();
+      for (var i = 0; i < 2; i++) {
+        StepVerifier.create(imageApi.ultraUpscale(parameters))
+            .expectNextMatches(result -> result.image().url() != null)
+            .verifyComplete();
+      }
+      assertNotNull(adaptivePolling.median(ApiActions.ULTRA_UPSCALE, "4"));
+      assertNull(adaptivePolling.median(ApiActions.ULTRA_UPSCALE, "2"));
+    }
+  }
+
+  @DisplayName("Should poll the text2image inference until the images are ready")
+  @Test
+  public void shouldPollText2ImageInference() {
+    try (var server = StandInApiServer.start()) {
+      var parameters =
+          Text2ImageParameters.builder("a cat in a hat", "blurry, low quality").count(3).build();
+      StepVerifier.create(genAIApi(server).text2Image(parameters))
+          .expectNextMatches(result -> result.images().size() == 3)
+          .verifyComplete();
+      assertEquals(3, server.requestCount(ApiActions.TEXT2IMAGE));
+    }
+  }
+
+  @DisplayName("Should throw TooManyRequestsException when the rate limit is exhausted")
+  @Test
+  public void shouldThrowTooManyRequestsExceptionWhenRateLimitIsExhausted() {
+    var config = StandInApiServerConfig.builder().rateLimit(1).build();
+    try (var server = StandInApiServer.start(config)) {
+      var imageApi = imageApi(server);
+      StepVerifier.create(imageApi.removeBackground(REMOVE_BACKGROUND_PARAMETERS))
+          .expectNextMatches(result -> result.metadata().rateLimitRemaining() == 0)
+          .verifyComplete();
+      StepVerifier.create(imageApi.removeBackground(REMOVE_BACKGROUND_PARAMETERS))
+          .expectErrorMatches(
+              e ->
+                  e instanceof TooManyRequestsException exception
+                      && exception.getMetadata().rateLimitRemaining() == 0)
+          .verify();
+      assertEquals(1, server.rateLimitedCount());
+    }
+  }
+
+  @DisplayName("Should hold the request until the reset time when the rate limiter is enabled")
+  @Test
+  public void shouldHoldRequestUntilResetTimeWhenRateLimiterIsEnabled() {
+    var config =
+        StandInApiServerConfig.builder()
+            .rateLimit(1)
+            .rateLimitWindow(Duration.ofSeconds(1))
+            .build();
+    var rateLimitedHttpClient =
+        new ApiHttpClientImpl(
+            HttpTransportConfig.builder()
+                .poolName("stand-in-rate-limited-test")
+                .rateLimiterEnabled(true)
+                .build());
+    try (var server = StandInApiServer.start(config)) {
+      var imageApi = imageApi(server, rateLimitedHttpClient);
+      StepVerifier.create(
+              imageApi
+                  .removeBackground(REMOVE_BACKGROUND_PARAMETERS)
+                  .then(imageApi.removeBackground(REMOVE_BACKGROUND_PARAMETERS)))
+          .expectNextCount(1)
+          .verifyComplete();
+      assertEquals(0, server.rateLimitedCount());
+      assertEquals(1, rateLimitedHttpClient.rateLimiter().heldCount());
+    } finally {
+      rateLimitedHttpClient.dispose();
+    }
+  }
+
+  @DisplayName("Should retry the request after the reset time when the rate limit is exhausted")
+  @Test
+  public void shouldRetryRequestAfterResetTimeWhenRateLimitIsExhausted() {
+    // a window much longer than a request, so that the second request always falls in it
+    var config =
+        StandInApiServerConfig.builder()
+            .rateLimit(1)
+            .rateLimitWindow(Duration.ofSeconds(3))
+            .build();
+    var retryPolicy = RetryPolicy.builder().backoff(POLLING_DELAY).retryPosts(true).build();
+    try (var server = StandInApiServer.start(config)) {
+      var imageApi = imageApi(server).withRetryPolicy(retryPolicy);
+      StepVerifier.create(
+              imageApi
+                  .removeBackground(REMOVE_BACKGROUND_PARAMETERS)
+                  .then(imageApi.removeBackground(REMOVE_BACKGROUND_PARAMETERS)))
+          .expectNextCount(1)
+          .verifyComplete();
+      assertEquals(1, server.rateLimitedCount());
+      assertEquals(1, imageApi.retryCounters().attempts());
+      assertEquals(0, imageApi.retryCounters().giveUps());
+    }
+  }
+
+  @DisplayName("Should give up retrying when the maximum number of attempts is reached")
+  @Test
+  public void shouldGiveUpRetryingWhenMaxAttemptsIsReached() {
+    var config = StandInApiServerConfig.builder().errorRate(1).build();
+    var retryPolicy =
+        RetryPolicy.builder().backoff(POLLING_DELAY).maxAttempts(3).retryPosts(true).build();
+    try (var server = StandInApiServer.start(config)) {
+      var imageApi = imageApi(server).withRetryPolicy(retryPolicy);
+      StepVerifier.create(imageApi.removeBackground(REMOVE_BACKGROUND_PARAMETERS))
+          .expectError(InternalServerErrorException.class)
+          .verify();
+      assertEquals(3, server.requestCount(ApiActions.REMOVE_BACKGROUND));
+      assertEquals(2, imageApi.retryCounters().attempts());
+      assertEquals(1, imageApi.retryCounters().giveUps());
+    }
+  }
+
+  @DisplayName("Should throw InternalServerErrorException when the server fails")
+  @Test
+  public void shouldThrowInternalServerErrorExceptionWhenServerFails() {
+    var config = StandInApiServerConfig.builder().errorRate(1).build();
+    try (var server = StandInApiServer.start(config)) {
+      StepVerifier.create(imageApi(server).removeBackground(REMOVE_BACKGROUND_PARAMETERS))
+          .expectError(InternalServerErrorException.class)
+          .verify();
+    }
+  }
+
+  @DisplayName("Should upload an image file once and reuse its ID with the upload cache")
+  @Test
+  public void shouldUploadImageFileOnceWithUploadCache(@TempDir Path tempDir) throws IOException {
+    assertUploadedOnceWithUploadCache(tempDir, apiHttpClient);
+  }
+
+  @DisplayName("Should upload an image file once with the upload cache and a zero-copy body")
+  @Test
+  public void shouldUploadImageFileOnceWithUploadCacheAndZeroCopyBody(@TempDir Path tempDir)
+      throws IOException {
+    var zeroCopyHttpClient =
+        new ApiHttpClientImpl(
+            HttpTransportConfig.builder()
+                .poolName("stand-in-zero-copy-upload-test")
+                .zeroCopyFileUpload(true)
+                .build());
+    try {
+      assertUploadedOnceWithUploadCache(tempDir, zeroCopyHttpClient);
+    } finally {
+      zeroCopyHttpClient.dispose();
+    }
+  }
+
+  @DisplayName("Should send in-memory images as multipart file parts")
+  @Test
+  public void shouldSendInMemoryImages() {
+    try (var server = StandInApiServer.start()) {
+      var imageApi = imageApi(server);
+      var bytes = new byte[64 * 1024];
+      for (var image :
+          List.of(
+              ImageSource.fromBytes(bytes, "image.png"),
+              ImageSource.fromByteBuffer(ByteBuffer.allocateDirect(bytes.length)),
+              ImageSource.fromStream(new ByteArrayInputStream(bytes)))) {
+        StepVerifier.create(
+                imageApi.removeBackground(RemoveBackgroundParameters.builder(image).build()))
+            .expectNextMatches(result -> result.image().url() != null)
+            .verifyComplete();
+      }
+      assertEquals(3, server.requestCount(ApiActions.REMOVE_BACKGROUND));
+    }
+  }
+
+  @DisplayName("Should send the file parts and the attributes of a zero-copy multipart body")
+  @Test
+  public void shouldSendZeroCopyMultipartBody(@TempDir Path tempDir) throws IOException {
+    var content = new byte[200_000];
+    ThreadLocalRandom.current().nextBytes(content);
+    var image = Files.write(tempDir.resolve("image.png"), content).toFile();
+    var mask = Files.write(tempDir.resolve("mask \"1\".png"), new byte[] {1, 2, 3}).toFile();
+    var config = StandInApiServerConfig.builder().decodeMultipart(true).build();
+    var zeroCopyHttpClient =
+        new ApiHttpClientImpl(
+            HttpTransportConfig.builder()
+                .poolName("stand-in-zero-copy-test")
+                .zeroCopyFileUpload(true)
+                .build());
+    try (var server = StandInApiServer.start(config)) {
+      var parameters =
+          SurfaceMapParameters.builder(
+                  ImageSource.fromFile(image),
+                  ImageSource.fromFile(mask),
+                  ImageSource.fromBytes(new byte[] {4, 5}, "sticker.png"))
+              .format(ImageFormat.PNG)
+              .build();
+      StepVerifier.create(imageApi(server, zeroCopyHttpClient).surfaceMap(parameters))
+          .expectNextCount(1)
+          .verifyComplete();
+      var files = server.receivedFiles();
+      assertEquals(3, files.size());
+      assertEquals("image", files.get(0).name());
+      assertEquals("image.png", files.get(0).fileName());
+      assertEquals("image/png", files.get(0).contentType());
+      assertArrayEquals(content, files.get(0).content());
+      assertArrayEquals(new byte[] {1, 2, 3}, files.get(1).content());
+      assertArrayEquals(new byte[] {4, 5}, files.get(2).content());
+      assertEquals("PNG", server.receivedAttributes().get("format"));
+    } finally {
+      zeroCopyHttpClient.dispose();
+    }
+  }
+
+  @DisplayName("Should send the content type recognized from the first bytes of the image")
+  @Test
+  public void shouldSendContentTypeFromMagicBytes() {
+    var jpeg = new byte[] {(byte) 0xFF, (byte) 0xD8, (byte) 0xFF, (byte) 0xE0, 0, 16};
+    var config = StandInApiServerConfig.builder().decodeMultipart(true).build();
+    try (var server = StandInApiServer.start(config)) {
+      var parameters = RemoveBackgroundParameters.builder(ImageSource.fromBytes(jpeg)).build();
+      StepVerifier.create(imageApi(server).removeBackground(parameters))
+          .expectNextCount(1)
+          .verifyComplete();
+      assertEquals("image/jpeg", server.receivedFiles().get(0).contentType());
+    }
+  }
+
+  @DisplayName("Should fail an image exceeding the limits of the action before sending it")
+  @Test
+  public void shouldRejectImageExceedingLimitsWithPreflight() {
+    var header =
+        new byte[] {
+          (byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n', 0, 0, 0, 13, 'I', 'H', 'D', 'R'
+        };
+    var png = ByteBuffer.allocate(33).put(header).putInt(8000).putInt(6000).array();
+    var image = ImageSource.fromBytes(png, "image.png");
+    var limits = ImageLimits.builder().maxPixels(16_000_000L).build();
+    var preflight =
+        new ImagePreflight(PreflightConfig.builder().limit(ApiActions.UPSCALE, limits).build());
+    try (var server = StandInApiServer.start()) {
+      var imageApi = imageApi(server).withPreflight(preflight);
+      StepVerifier.create(imageApi.upscale(UpscaleParameters.builder(image).build()))
+          .expectError(ImageLimitExceededException.class)
+          .verify();
+      var parameters = RemoveBackgroundParameters.builder(image).build();
+      StepVerifier.create(imageApi.removeBackground(parameters))
+          .expectNextCount(1)
+          .verifyComplete();
+      assertEquals(0, server.requestCount(ApiActions.UPSCALE));
+      assertEquals(1, preflight.checks());
+      assertEquals(1, preflight.rejections());
+    }
+  }
+
+  @DisplayName("Should send a downscaled JPEG of a large image with the image transformer")
+  @Test
+  public void shouldSendDownscaledImageWithImageTransformer() throws IOException {
+    var png = noisePng();
+    var transformer =
+        new ImageTransformer(ImageTransformConfig.builder().maxDimension(500).threads(1).build());
+    var config = StandInApiServerConfig.builder().decodeMultipart(true).build();
+    try (var server = StandInApiServer.start(config)) {
+      var parameters =
+          RemoveBackgroundParameters.builder(ImageSource.fromBytes(png, "noise.png")).build();
+      var imageApi = imageApi(server).withImageTransformer(transformer);
+      StepVerifier.create(imageApi.removeBackground(parameters))
+          .expectNextCount(1)
+          .verifyComplete();
+      var file = server.receivedFiles().get(0);
+      assertEquals("noise.jpg", file.fileName());
+      assertEquals("image/jpeg", file.contentType());
+      var received = ImageIO.read(new ByteArrayInputStream(file.content()));
+      assertEquals(500, received.getWidth());
+      assertEquals(333, received.getHeight());
+      assertEquals(1, transformer.transforms());
+      assertEquals(png.length - file.content().length, transformer.savedBytes());
+    } finally {
+      transformer.dispose();
+    }
+  }
+
+  @DisplayName("Should transform and upload an image file once with the upload cache")
+  @Test
+  public void shouldTransformAndUploadImageFileOnceWithUploadCache(@TempDir Path tempDir)
+      throws IOException {
+    var file = Files.write(tempDir.resolve("noise.png"), noisePng()).toFile();
+    var transformer =
+        new ImageTransformer(ImageTransformConfig.builder().maxDimension(500).threads(1).build());
+    var uploadCache = new UploadCache(UploadCacheConfig.DEFAULT);
+    var config = StandInApiServerConfig.builder().decodeMultipart(true).build();
+    try (var server = StandInApiServer.start(config)) {
+      var imageApi =
+          imageApi(server).withImageTransformer(transformer).withUploadCache(uploadCache);
+      var parameters = RemoveBackgroundParameters.builder(ImageSource.fromFile(file)).build();
+      StepVerifier.create(
+              imageApi.removeBackground(parameters).then(imageApi.removeBackground(parameters)))
+          .expectNextCount(1)
+          .verifyComplete();
+      assertEquals(1, server.requestCount(ApiActions.UPLOAD));
+      assertEquals("noise.jpg", server.receivedFiles().get(0).fileName());
+      assertEquals(1, transformer.transforms());
+      assertEquals(1, uploadCache.misses());
+      assertEquals(1, uploadCache.hits());
+    } finally {
+      transformer.dispose();
+    }
+  }
+
+  @DisplayName("Should cancel a blocking call past its deadline or when its thread is interrupted")
+  @Test
+  public void shouldCancelBlockingCallOnDeadlineOrInterrupt() throws InterruptedException {
+    var config = StandInApiServerConfig.builder().latency(Duration.ofSeconds(5)).build();
+    try (var server = StandInApiServer.start(config)) {
+      var syncImageApi = new SyncImageApi(imageApi(server));
+      var parameters = EffectParameters.builder(ImageSource.fromImageId("imageId"), "icy1").build();
+      var deadline = Duration.ofMillis(100);
+      var exception =
+          assertThrows(
+              DeadlineExceededException.class,
+              () -> syncImageApi.withDeadline(deadline).effect(parameters));
+      assertEquals(deadline, exception.getDeadline());
+
+      var thrown = new AtomicReference<Throwable>();
+      var interrupted = new AtomicBoolean();
+      var caller =
+          new Thread(
+              () -> {
+                try {
+                  syncImageApi.effect(parameters);
+                } catch (RuntimeException e) {
+                  thrown.set(e);
+                  interrupted.set(Thread.currentThread().isInterrupted());
+                }
+              });
+      caller.start();
+      Thread.sleep(100);
+      caller.interrupt();
+      caller.join(Duration.ofSeconds(1).toMillis());
+      assertInstanceOf(ApiCallInterruptedException.class, thrown.get());
+      assertTrue(interrupted.get());
+    }
+  }
+
+  @DisplayName("Should process a batch in order, isolating failures or holding on the rate limit")
+  @Test
+  public void shouldProcessBatchWithRateLimitBudget() {
+    var config =
+        StandInApiServerConfig.builder()
+            .rateLimit(3)
+            .rateLimitWindow(Duration.ofMillis(500))
+            .build();
+    var parameters =
+        Flux.range(0, 6)
+            .map(i -> ImageSource.fromImageId("image" + i))
+            .map(image -> EffectParameters.builder(image, "icy1").build());
+    var options = BatchOptions.builder().concurrency(1).build();
+    try (var server = StandInApiServer.start(config)) {
+      var imageApi = imageApi(server).withRetryPolicy(RetryPolicy.NONE);
+      var items = imageApi.effectBatch(parameters, options).collectList().block();
+      assertEquals(List.of(0L, 1L, 2L, 3L, 4L, 5L), items.stream().map(BatchItem::index).toList());
+      assertTrue(items.stream().allMatch(BatchItem.Success.class::isInstance));
+      assertEquals(0, server.rateLimitedCount());
+    }
+    try (var server = StandInApiServer.start(config)) {
+      var imageApi = imageApi(server).withRetryPolicy(RetryPolicy.NONE);
+      var isolating = BatchOptions.builder().concurrency(1).holdOnRateLimit(false).build();
+      var items = imageApi.effectBatch(parameters, isolating).collectList().block();
+      assertEquals(6, items.size());
+      assertEquals(3, items.stream().filter(BatchItem.Failure.class::isInstance).count());
+      var failure = (BatchItem.Failure<EffectParameters, EffectResult>) items.get(3);
+      assertInstanceOf(TooManyRequestsException.class, failure.error());
+      assertEquals(3, server.rateLimitedCount());
+    }
+  }
+
+  @DisplayName("Should forward the intermediate images of a pipeline by their image ID")
+  @Test
+  public void shouldForwardPipelineImagesByImageId() {
+    var config = StandInApiServerConfig.builder().decodeMultipart(true).build();
+    try (var server = StandInApiServer.start(config)) {
+      var pipeline =
+          imageApi(server)
+              .pipeline()
+              .removeBackground()
+              .upscale(image -> UpscaleParameters.builder(image).upscaleFactor(2).build());
+      var sources = Flux.range(0, 3).map(i -> ImageSource.fromImageId("image" + i));
+      var items =
+          pipeline
+              .runBatch(sources, BatchOptions.builder().concurrency(2).build())
+              .collectList()
+              .block();
+      assertEquals(3, items.size());
+      for (var item : items) {
+        var result = ((BatchItem.Success<ImageSource, PipelineResult>) item).result();
+        assertEquals(
+            List.of("removeBackground", "upscale"),
+            result.stages().stream().map(PipelineResult.StageResult::name).toList());
+        assertEquals(result.stages().get(1).result().image(), result.image());
+      }
+      assertEquals(3, server.requestCount(ApiActions.UPSCALE));
+      assertNull(server.receivedAttributes().get("image_url"));
+      assertTrue(server.receivedAttributes().get("image_id").endsWith(".png"));
+    }
+  }
+
+  @DisplayName("Should report the requests and the polls of an asynchronous job to the SDK metrics")
+  @Test
+  public void shouldReportRequestsAndPollsToSdkMetrics() {
+    var config = StandInApiServerConfig.builder().ultraUpscalePendingPolls(2).build();
+    var metrics = new InMemorySdkMetrics();
+    var measuredHttpClient =
+        new ApiHttpClientImpl(
+            HttpTransportConfig.builder()
+                .poolName("stand-in-metrics-test")
+                .metrics(metrics)
+                .build());
+    try (var server = StandInApiServer.start(config)) {
+      var parameters = UltraUpscaleParameters.builder(ImageSource.fromImageId("imageId")).build();
+      StepVerifier.create(imageApi(server, measuredHttpClient).ultraUpscale(parameters))
+          .expectNextCount(1)
+          .verifyComplete();
+      var ultraUpscale = metrics.action(ApiActions.ULTRA_UPSCALE);
+      // the request, two pending polls and the poll returning the result
+      assertEquals(4, ultraUpscale.requests());
+      assertEquals(4, ultraUpscale.statusClass("2xx"));
+      assertEquals(0, ultraUpscale.inFlight());
+      assertEquals(1, ultraUpscale.asyncJobs());
+      assertEquals(3, ultraUpscale.polls());
+      assertTrue(ultraUpscale.responseBytes() > 0);
+      assertTrue(ultraUpscale.totalLatency().compareTo(ultraUpscale.totalTimeToFirstByte()) >= 0);
+      assertEquals(0, metrics.action(ApiActions.REMOVE_BACKGROUND).requests());
+    } finally {
+      measuredHttpClient.dispose();
+    }
+  }
+
+  @DisplayName("Should record the requests and the polls as flight recorder events")
+  @Test
+  public void shouldRecordRequestsAndPollsAsFlightRecorderEvents(@TempDir Path tempDir)
+      throws IOException {
+    var config = StandInApiServerConfig.builder().ultraUpscalePendingPolls(2).build();
+    var recordingFile = tempDir.resolve("recording.jfr");
+    try (var server = StandInApiServer.start(config);
+        var recording = new Recording()) {
+      recording.enable("com.picsart.creativeapis.ApiRequest");
+      recording.enable("com.picsart.creativeapis.Poll");
+      recording.start();
+      var parameters = UltraUpscaleParameters.builder(ImageSource.fromImageId("imageId")).build();
+      StepVerifier.create(imageApi(server).ultraUpscale(parameters))
+          .expectNextCount(1)
+          .verifyComplete();
+      recording.stop();
+      recording.dump(recordingFile);
+    }
+    var events = RecordingFile.readAllEvents(recordingFile);
+    var requests = eventsOfType(events, "com.picsart.creativeapis.ApiRequest");
+    var polls = eventsOfType(events, "com.picsart.creativeapis.Poll");
+    // the request, two pending polls and the poll returning the result
+    assertEquals(4, requests.size());
+    assertTrue(
+        requests.stream()
+            .allMatch(
+                event ->
+                    "ultraUpscale".equals(event.getString("action"))
+                        && event.getString("correlationId") != null
+                        && event.getLong("responseBytes") > 0));
+    assertEquals(3, polls.size());
+    assertEquals(1, polls.stream().filter(event -> event.getBoolean("ready")).count());
+  }
+
+  @DisplayName("Should warm up the HTTP client and the classes of the API before the first request")
+  @Test
+  public void shouldWarmUpClientBeforeFirstRequest() {
+    var warmedUpHttpClient =
+        new ApiHttpClientImpl(
+            HttpTransportConfig.builder().poolName("stand-in-warmup-test").build());
+    try (var server = StandInApiServer.start()) {
+      var client = new ImageApiClientImpl(warmedUpHttpClient, ImageApiClientConfig.DEFAULT);
+      StepVerifier.create(client.warmup()).verifyComplete();
+      var imageApi = new ImageApiImpl(new ApiConfig(API_KEY, server.baseUrl(), TIMEOUT), client);
+      StepVerifier.create(imageApi.removeBackground(REMOVE_BACKGROUND_PARAMETERS))
+          .expectNextCount(1)
+          .verifyComplete();
+    } finally {
+      warmedUpHttpClient.dispose();
+    }
+  }
+
+  @DisplayName("Should send identical concurrent requests once with the request coalescer")
+  @Test
+  public void shouldCoalesceIdenticalConcurrentRequests() {
+    var config = StandInApiServerConfig.builder().latency(Duration.ofMillis(200)).build();
+    var requestCoalescer = new RequestCoalescer();
+    try (var server = StandInApiServer.start(config)) {
+      var imageApi = imageApi(server).withRequestCoalescer(requestCoalescer);
+      var parameters = EffectParameters.builder(ImageSource.fromImageId("imageId"), "icy1").build();
+      StepVerifier.create(Mono.zip(imageApi.effect(parameters), imageApi.effect(parameters)))
+          .expectNextMatches(results -> results.getT1().equals(results.getT2()))
+          .verifyComplete();
+      assertEquals(1, server.requestCount(ApiActions.EFFECT));
+      assertEquals(1, requestCoalescer.misses());
+      assertEquals(1, requestCoalescer.hits());
+      assertEquals(0, requestCoalescer.inFlight());
+    }
+  }
+
+  @DisplayName("Should return the cached result of a deterministic operation without a request")
+  @Test
+  public void shouldReturnCachedResultWithResultCache() {
+    var resultCache = new InMemoryResultCache(ResultCacheConfig.DEFAULT);
+    try (var server = StandInApiServer.start()) {
+      var imageApi = imageApi(server).withResultCache(resultCache);
+      var parameters = EffectParameters.builder(ImageSource.fromImageId("imageId"), "icy1").build();
+      var result = imageApi.effect(parameters).block();
+      assertNotNull(result.metadata().rateLimit());
+      StepVerifier.create(imageApi.effect(parameters))
+          .expectNextMatches(
+              cached ->
+                  cached.image().equals(result.image())
+                      && cached.metadata().rateLimit() == null
+                      && cached.metadata().traceId() == null)
+          .verifyComplete();
+      assertEquals(1, server.requestCount(ApiActions.EFFECT));
+      assertEquals(0.5, resultCache.hitRate());
+    }
+  }
+
+  @DisplayName("Should list the effects once and reject unknown effect names with the catalogue")
+  @Test
+  public void shouldRejectUnknownEffectNameWithEffectCatalogue() {
+    var effectCatalogue =
+        new EffectCatalogue(EffectCatalogueConfig.builder().validateEffectNames(true).build());
+    try (var server = StandInApiServer.start()) {
+      var imageApi = imageApi(server).withEffectCatalogue(effectCatalogue);
+      StepVerifier.create(imageApi.listEffects())
+          .expectNextMatches(result -> !result.effects().isEmpty())
+          .verifyComplete();
+      var image = ImageSource.fromImageId("imageId");
+      StepVerifier.create(imageApi.effect(EffectParameters.builder(image, "unknown").build()))
+          .expectErrorMessage("effect failed with errors: Unknown effect names: unknown")
+          .verify();
+      StepVerifier.create(imageApi.effect(EffectParameters.builder(image, "icy1").build()))
+          .expectNextCount(1)
+          .verifyComplete();
+      assertEquals(1, server.requestCount(ApiActions.LIST_EFFECTS));
+      assertEquals(1, server.requestCount(ApiActions.EFFECT));
+      assertEquals(1, effectCatalogue.loads());
+    }
+  }
+
+  @DisplayName("Should download the result image to a file as it is received")
+  @Test
+  public void shouldDownloadResultImageToFile(@TempDir Path tempDir) throws IOException {
+    var config = StandInApiServerConfig.builder().resultImageSize(100_000).build();
+    try (var server = StandInApiServer.start(config)) {
+      var imageApi = imageApi(server);
+      var path = tempDir.resolve("result.png");
+      var downloadedBytes = apiHttpClient.downloadMetrics().bytes();
+      StepVerifier.create(
+              imageApi
+                  .removeBackground(REMOVE_BACKGROUND_PARAMETERS)
+                  .flatMap(result -> imageApi.download(result.image(), path)))
+          .expectNext(100_000L)
+          .verifyComplete();
+      assertEquals(100_000, Files.size(path));
+      assertEquals(1, server.downloadCount());
+      assertEquals(100_000, apiHttpClient.downloadMetrics().bytes() - downloadedBytes);
+    }
+  }
+
+  private static byte[] noisePng() throws IOException {
+    var random = new Random(42);
+    var noise = new BufferedImage(1500, 1000, BufferedImage.TYPE_INT_RGB);
+    for (var y = 0; y < noise.getHeight(); y++) {
+      for (var x = 0; x < noise.getWidth(); x++) {
+        noise.setRGB(x, y, random.nextInt(0x1000000));
+      }
+    }
+    var png = new ByteArrayOutputStream();
+    ImageIO.write(noise, "png", png);
+    return png.toByteArray();
+  }
+
+  private static List<RecordedEvent> eventsOfType(List<RecordedEvent> events, String name) {
+    return events.stream().filter(event -> event.getEventType().getName().equals(name)).toList();
+  }
+
+  private static void assertUploadedOnceWithUploadCache(
+      Path tempDir, ApiHttpClientImpl httpClient) throws IOException {
+    var file = Files.write(tempDir.resolve("image.png"), new byte[1024]).toFile();
+    var uploadCache = new UploadCache(UploadCacheConfig.DEFAULT);
+    try (var server = StandInApiServer.start()) {
+      var imageApi = imageApi(server, httpClient).withUploadCache(uploadCache);
+      var image = ImageSource.fromFile(file);
+      StepVerifier.create(
+              imageApi
+                  .removeBackground(RemoveBackgroundParameters.builder(image).build())
+                  .then(imageApi.effect(EffectParameters.builder(image, "icy1").build())))
+          .expectNextMatches(result -> result.image().url() != null)
+          .verifyComplete();
+      assertEquals(1, server.requestCount(ApiActions.UPLOAD));
+      assertEquals(1, uploadCache.misses());
+      assertEquals(1, uploadCache.hits());
+      assertEquals(1024, uploadCache.savedBytes());
+    }
+  }
+
+  private static ImageApi imageApi(StandInApiServer server) {
+    return imageApi(server, apiHttpClient);
+  }
+
+  private static ImageApi imageApi(StandInApiServer server, ApiHttpClientImpl httpClient) {
+    var clientConfig =
+        ImageApiClientConfig.builder()
+            .upscaleUltraPollingFirstDelay(POLLING_DELAY)
+            .upscaleUltraPollingRepeatDelay(POLLING_DELAY)
+            .build();
+    return new ImageApiImpl(
+        new ApiConfig(API_KEY, server.baseUrl(), TIMEOUT),
+        new ImageApiClientImpl(httpClient, clientConfig));
+  }
+
+  private static GenAIApi genAIApi(StandInApiServer server) {
+    var clientConfig =
+        GenAIApiClientConfig.builder()
+            .text2ImagePollingFirstDelay(POLLING_DELAY)
+            .text2ImagePollingRepeatDelay(POLLING_DELAY)
+            .build();
+    return new GenAIApiImpl(
+        new ApiConfig(API_KEY, server.baseUrl(), TIMEOUT),
+        new GenAIApiClientImpl(apiHttpClient, clientConfig));
+  }
+}
@@ -0,0 +1,153 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 PicsArt, Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.picsart.creativeapis.http;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import com.picsart.creativeapis.busobj.ApiActions;
+import com.picsart.creativeapis.busobj.http.config.AdaptivePollingConfig;
+import java.time.Duration;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class AdaptivePollingTest {
+
+  private static final String BUCKET = "x2";
+  private static final Duration DEFAULT_FIRST_DELAY = Duration.ofSeconds(3);
+  private static final Duration DEFAULT_REPEAT_DELAY = Duration.ofSeconds(2);
+  private static final AdaptivePollingConfig CONFIG =
+      AdaptivePollingConfig.builder()
+          .minSamples(3)
+          .backoffFactor(2)
+          .minDelay(Duration.ofMillis(500))
+          .maxDelay(Duration.ofSeconds(4))
+          .maxWait(Duration.ofSeconds(60))
+          .build();
+
+  @DisplayName("Should use the default delays until enough durations are known")
+  @Test
+  public void shouldUseDefaultDelaysUntilEnoughDurationsAreKnown() {
+    // Given
+    var adaptivePolling = new AdaptivePolling(CONFIG);
+    recordDuration(adaptivePolling, 2, Duration.ofSeconds(4), Duration.ofSeconds(6));
+
+    // When
+    var schedule = schedule(adaptivePolling);
+
+    // Then
+    assertEquals(DEFAULT_FIRST_DELAY, schedule.firstDelay());
+    assertEquals(DEFAULT_REPEAT_DELAY, schedule.nextDelay(1, DEFAULT_FIRST_DELAY));
+  }
+
+  @DisplayName("Should record the midpoint between the last pending poll and the done poll")
+  @Test
+  public void shouldRecordMidpointBetweenLastPendingPollAndDonePoll() {
+    // Given
+    var adaptivePolling = new AdaptivePolling(CONFIG);
+
+    // When
+    recordDuration(adaptivePolling, 3, Duration.ofSeconds(4), Duration.ofSeconds(6));
+
+    // Then
+    assertEquals(Duration.ofSeconds(5), adaptivePolling.median(ApiActions.ULTRA_UPSCALE, BUCKET));
+  }
+
+  @DisplayName("Should record half the elapsed time of a job found done at the first poll")
+  @Test
+  public void shouldRecordHalfElapsedTimeOfJobFoundDoneAtFirstPoll() {
+    // Given
+    var adaptivePolling = new AdaptivePolling(CONFIG);
+
+    // When
+    recordDuration(adaptivePolling, 1, Duration.ZERO, Duration.ofSeconds(4));
+
+    // Then
+    assertEquals(Duration.ofSeconds(2), adaptivePolling.median(ApiActions.ULTRA_UPSCALE, BUCKET));
+  }
+
+  @DisplayName("Should lower the median when the jobs are found done at the first poll")
+  @Test
+  public void shouldLowerMedianWhenJobsAreFoundDoneAtFirstPoll() {
+    // Given
+    var adaptivePolling = new AdaptivePolling(CONFIG);
+    for (var i = 0; i < 3; i++) {
+      recordDuration(adaptivePolling, 2, Duration.ofSeconds(6), Duration.ofSeconds(10));
+    }
+
+    // When
+    for (var i = 0; i < 4; i++) {
+      var schedule = schedule(adaptivePolling);
+      schedule.onDone(1, Duration.ZERO, schedule.firstDelay());
+    }
+
+    // Then
+    assertEquals(Duration.ofSeconds(4), adaptivePolling.median(ApiActions.ULTRA_UPSCALE, BUCKET));
+    assertEquals(Duration.ofSeconds(4), schedule(adaptivePolling).firstDelay());
+  }
+
+  @DisplayName("Should poll first at the median duration, then back off up to the maximum delay")
+  @Test
+  public void shouldPollFirstAtMedianThenBackOffUpToMaximumDelay() {
+    // Given
+    var adaptivePolling = new AdaptivePolling(CONFIG);
+    recordDuration(adaptivePolling, 2, Duration.ofSeconds(3), Duration.ofSeconds(5));
+    recordDuration(adaptivePolling, 2, Duration.ofSeconds(7), Duration.ofSeconds(9));
+    recordDuration(adaptivePolling, 2, Duration.ofSeconds(5), Duration.ofSeconds(7));
+
+    // When
+    var schedule = schedule(adaptivePolling);
+
+    // Then
+    assertEquals(Duration.ofSeconds(6), schedule.firstDelay());
+    assertEquals(Duration.ofMillis(1500), schedule.nextDelay(1, Duration.ofSeconds(6)));
+    assertEquals(Duration.ofSeconds(3), schedule.nextDelay(2, Duration.ofSeconds(8)));
+    assertEquals(Duration.ofSeconds(4), schedule.nextDelay(3, Duration.ofSeconds(11)));
+  }
+
+  @DisplayName("Should stop polling once the maximum wait has elapsed")
+  @Test
+  public void shouldStopPollingOnceMaximumWaitHasElapsed() {
+    // Given
+    var adaptivePolling = new AdaptivePolling(CONFIG);
+
+    // When
+    var schedule = schedule(adaptivePolling);
+
+    // Then
+    assertEquals(Duration.ofSeconds(1), schedule.nextDelay(1, Duration.ofSeconds(59)));
+    assertNull(schedule.nextDelay(2, Duration.ofSeconds(60)));
+  }
+
+  private static PollSchedule schedule(AdaptivePolling adaptivePolling) {
+    return adaptivePolling.schedule(
+        ApiActions.ULTRA_UPSCALE, BUCKET, DEFAULT_FIRST_DELAY, DEFAULT_REPEAT_DELAY);
+  }
+
+  private static void recordDuration(
+      AdaptivePolling adaptivePolling, int polls, Duration lastPendingElapsed, Duration done) {
+    schedule(adaptivePolling).onDone(polls, lastPendingElapsed, done);
+  }
+}
@@ -0,0 +1,132 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 PicsArt, Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.picsart.creativeapis.http;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.picsart.creativeapis.busobj.exception.TooManyRequestsException;
+import com.picsart.creativeapis.busobj.mapper.MetadataMapper;
+import io.netty.handler.codec.http.DefaultHttpHeaders;
+import io.netty.handler.codec.http.HttpHeaders;
+import java.time.Duration;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.test.StepVerifier;
+
+public class AdaptiveRateLimiterTest {
+
+  private static final String API_KEY = "apiKey";
+  private static final long NOW = 1_000_000L;
+
+  @DisplayName("Should take the tokens reported available, then wait for the reset time")
+  @Test
+  public void shouldTakeAvailableTokensThenWaitForResetTime() {
+    // Given
+    var bucket = new AdaptiveRateLimiter.TokenBucket();
+    bucket.update(10, 2, 3, NOW + 3000, NOW);
+
+    // When
+    var first = bucket.tryAcquire(NOW);
+    var second = bucket.tryAcquire(NOW);
+    var third = bucket.tryAcquire(NOW + 1000);
+
+    // Then
+    assertEquals(0, first);
+    assertEquals(0, second);
+    assertEquals(2000, third);
+  }
+
+  @DisplayName("Should refill the bucket once after the reset time and move the reset time ahead")
+  @Test
+  public void shouldRefillOnceAfterResetTimeAndMoveResetTimeAhead() {
+    // Given
+    var bucket = new AdaptiveRateLimiter.TokenBucket();
+    bucket.update(2, 0, 3, NOW + 3000, NOW);
+
+    // When
+    var beforeReset = bucket.tryAcquire(NOW);
+    var refilled = bucket.tryAcquire(NOW + 3000);
+    var lastToken = bucket.tryAcquire(NOW + 3000);
+    var exhausted = bucket.tryAcquire(NOW + 4000);
+
+    // Then
+    assertEquals(3000, beforeReset);
+    assertEquals(0, refilled);
+    assertEquals(0, lastToken);
+    assertEquals(2000, exhausted);
+  }
+
+  @DisplayName("Should not hold the requests of an API key before its first response")
+  @Test
+  public void shouldNotHoldRequestsBeforeFirstResponse() {
+    // Given
+    var rateLimiter = new AdaptiveRateLimiter(Duration.ofSeconds(1));
+
+    // When
+    var acquired = rateLimiter.acquire(API_KEY);
+
+    // Then
+    StepVerifier.create(acquired).verifyComplete();
+    assertEquals(0, rateLimiter.heldCount());
+  }
+
+  @DisplayName("Should hold a request until the reset time when the rate limit is exhausted")
+  @Test
+  public void shouldHoldRequestUntilResetTimeWhenRateLimitIsExhausted() {
+    // Given
+    var rateLimiter = new AdaptiveRateLimiter(Duration.ofSeconds(5));
+    rateLimiter.update(API_KEY, headers(10, 0, 1));
+
+    // When
+    var acquired = rateLimiter.acquire(API_KEY);
+
+    // Then
+    StepVerifier.create(acquired).expectComplete().verify(Duration.ofSeconds(5));
+    assertTrue(rateLimiter.heldCount() >= 1);
+  }
+
+  @DisplayName("Should fail fast when the reset time is further than the maximum wait")
+  @Test
+  public void shouldFailFastWhenResetTimeIsFurtherThanMaximumWait() {
+    // Given
+    var rateLimiter = new AdaptiveRateLimiter(Duration.ofSeconds(1));
+    rateLimiter.update(API_KEY, headers(10, 0, 30));
+
+    // When
+    var acquired = rateLimiter.acquire(API_KEY);
+
+    // Then
+    StepVerifier.create(acquired).expectError(TooManyRequestsException.class).verify();
+    assertEquals(1, rateLimiter.rejectedCount());
+  }
+
+  private static HttpHeaders headers(int limit, int available, int reset) {
+    return new DefaultHttpHeaders()
+        .add(MetadataMapper.RATE_LIMIT, limit)
+        .add(MetadataMapper.RATE_LIMIT_REMAINING, available)
+        .add(MetadataMapper.RATE_LIMIT_RESET, reset);
+  }
+}
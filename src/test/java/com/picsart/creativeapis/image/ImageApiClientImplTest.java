@@ -35,6 +35,7 @@ import com.picsart.creativeapis.busobj.HttpResponseWithStringBody;
 import com.picsart.creativeapis.busobj.exception.ServiceUnavailableException;
 import com.picsart.creativeapis.busobj.image.Effect;
 import com.picsart.creativeapis.busobj.image.Image;
+import com.picsart.creativeapis.busobj.image.ImageSource;
 import com.picsart.creativeapis.busobj.image.ImageWithEffect;
 import com.picsart.creativeapis.busobj.image.config.ImageApiClientConfig;
 import com.picsart.creativeapis.busobj.image.request.*;
@@ -164,7 +165,7 @@ public class ImageApiClientImplTest {
   // upload
   private static final UploadRequest VALID_UPLOAD_REQUEST = new UploadRequest(null, "testUrl");
   private static final UploadRequest INVALID_UPLOAD_REQUEST =
-      new UploadRequest(new File("path"), "testUrl");
+      new UploadRequest(ImageSource.fromFile(new File("path")), "testUrl");
 
   @Mock private ApiHttpClient apiHttpClient;
 
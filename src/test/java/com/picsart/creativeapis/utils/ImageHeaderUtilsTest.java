@@ -0,0 +1,131 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 PicsArt, Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.picsart.creativeapis.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import com.picsart.creativeapis.utils.ImageHeaderUtils.Dimensions;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class ImageHeaderUtilsTest {
+
+  // the dimensions encoded in the headers below
+  private static final Dimensions DIMENSIONS = new Dimensions(640, 480);
+
+  @DisplayName("Should read the dimensions of a PNG image from its IHDR chunk")
+  @Test
+  public void shouldReadDimensionsOfPngFromItsIhdrChunk() throws IOException {
+    var png =
+        stream(
+            0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n', 0, 0, 0, 13, 'I', 'H', 'D', 'R', 0, 0,
+            0x02, 0x80, 0, 0, 0x01, 0xE0);
+    assertEquals(DIMENSIONS, ImageHeaderUtils.dimensions(png));
+  }
+
+  @DisplayName("Should read the dimensions of a GIF image from its logical screen descriptor")
+  @Test
+  public void shouldReadDimensionsOfGifFromItsLogicalScreenDescriptor() throws IOException {
+    var gif = stream('G', 'I', 'F', '8', '9', 'a', 0x80, 0x02, 0xE0, 0x01);
+    assertEquals(DIMENSIONS, ImageHeaderUtils.dimensions(gif));
+  }
+
+  @DisplayName("Should read the dimensions of a lossy, lossless and extended WEBP image")
+  @Test
+  public void shouldReadDimensionsOfLossyLosslessAndExtendedWebp() throws IOException {
+    var lossy =
+        stream(
+            'R', 'I', 'F', 'F', 0, 0, 0, 0, 'W', 'E', 'B', 'P', 'V', 'P', '8', ' ', 0, 0, 0, 0, 0,
+            0, 0, 0x9D, 0x01, 0x2A, 0x80, 0x02, 0xE0, 0x01);
+    var lossless =
+        stream(
+            'R', 'I', 'F', 'F', 0, 0, 0, 0, 'W', 'E', 'B', 'P', 'V', 'P', '8', 'L', 0, 0, 0, 0,
+            0x2F, 0x7F, 0xC2, 0x77, 0x00, 0, 0, 0, 0, 0);
+    var extended =
+        stream(
+            'R', 'I', 'F', 'F', 0, 0, 0, 0, 'W', 'E', 'B', 'P', 'V', 'P', '8', 'X', 0, 0, 0, 0, 0,
+            0, 0, 0, 0x7F, 0x02, 0x00, 0xDF, 0x01, 0x00);
+    assertEquals(DIMENSIONS, ImageHeaderUtils.dimensions(lossy));
+    assertEquals(DIMENSIONS, ImageHeaderUtils.dimensions(lossless));
+    assertEquals(DIMENSIONS, ImageHeaderUtils.dimensions(extended));
+  }
+
+  @DisplayName("Should read the dimensions of a JPEG image from its frame header")
+  @Test
+  public void shouldReadDimensionsOfJpegFromItsFrameHeader() throws IOException {
+    var jpeg =
+        stream(
+            0xFF, 0xD8, 0xFF, 0xE0, 0x00, 0x10, 'J', 'F', 'I', 'F', 0, 1, 1, 0, 0, 1, 0, 1, 0, 0,
+            0xFF, 0xDB, 0x00, 0x04, 0, 0, 0xFF, 0xC0, 0x00, 0x11, 8, 0x01, 0xE0, 0x02, 0x80, 3);
+    assertEquals(DIMENSIONS, ImageHeaderUtils.dimensions(jpeg));
+  }
+
+  @DisplayName("Should not read the dimensions of a content that is not a supported image")
+  @Test
+  public void shouldNotReadDimensionsOfContentThatIsNotSupportedImage() throws IOException {
+    assertNull(ImageHeaderUtils.dimensions(stream('%', 'P', 'D', 'F', '-', '1', '.', '7')));
+    assertNull(ImageHeaderUtils.dimensions(stream(0xFF, 0xD8, 0xFF, 0xDA, 0x00, 0x02)));
+    assertNull(ImageHeaderUtils.dimensions(stream()));
+  }
+
+  @DisplayName("Should read the EXIF orientation of a JPEG image in either byte order")
+  @Test
+  public void shouldReadExifOrientationOfJpegInEitherByteOrder() throws IOException {
+    var bigEndian =
+        stream(
+            0xFF, 0xD8, 0xFF, 0xE1, 0x00, 0x22, 'E', 'x', 'i', 'f', 0, 0, 'M', 'M', 0x00, 0x2A, 0,
+            0, 0, 8, 0, 1, 0x01, 0x12, 0, 3, 0, 0, 0, 1, 0, 6, 0, 0, 0, 0, 0, 0);
+    var littleEndian =
+        stream(
+            0xFF, 0xD8, 0xFF, 0xE1, 0x00, 0x22, 'E', 'x', 'i', 'f', 0, 0, 'I', 'I', 0x2A, 0x00, 8,
+            0, 0, 0, 1, 0, 0x12, 0x01, 3, 0, 1, 0, 0, 0, 8, 0, 0, 0, 0, 0, 0, 0);
+    assertEquals(6, ImageHeaderUtils.orientation(bigEndian));
+    assertEquals(8, ImageHeaderUtils.orientation(littleEndian));
+  }
+
+  @DisplayName("Should report the default orientation of an image without EXIF orientation")
+  @Test
+  public void shouldReportDefaultOrientationOfImageWithoutExifOrientation() throws IOException {
+    var jpeg =
+        stream(
+            0xFF, 0xD8, 0xFF, 0xE0, 0x00, 0x10, 'J', 'F', 'I', 'F', 0, 1, 1, 0, 0, 1, 0, 1, 0, 0,
+            0xFF, 0xC0, 0x00, 0x11, 8, 0x01, 0xE0, 0x02, 0x80, 3);
+    var gif = stream('G', 'I', 'F', '8', '9', 'a', 0x80, 0x02, 0xE0, 0x01);
+    assertEquals(1, ImageHeaderUtils.orientation(jpeg));
+    assertEquals(1, ImageHeaderUtils.orientation(gif));
+  }
+
+  private static InputStream stream(int... values) {
+    var bytes = new byte[values.length];
+    for (var i = 0; i < values.length; i++) {
+      bytes[i] = (byte) values[i];
+    }
+    return new ByteArrayInputStream(bytes);
+  }
+}
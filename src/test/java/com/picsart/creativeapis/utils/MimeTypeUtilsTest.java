@@ -0,0 +1,87 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 PicsArt, Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.picsart.creativeapis.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class MimeTypeUtilsTest {
+
+  @DisplayName("Should recognize the JPEG, PNG and GIF images from their signature")
+  @Test
+  public void shouldRecognizeJpegPngAndGifFromTheirSignature() {
+    assertEquals("image/jpeg", MimeTypeUtils.sniff(bytes(0xFF, 0xD8, 0xFF, 0xE0, 0, 0x10)));
+    assertEquals(
+        "image/png", MimeTypeUtils.sniff(bytes(0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n', 0)));
+    assertEquals("image/gif", MimeTypeUtils.sniff(ascii("GIF89a")));
+  }
+
+  @DisplayName("Should recognize the WEBP images from their RIFF header")
+  @Test
+  public void shouldRecognizeWebpFromTheirRiffHeader() {
+    assertEquals("image/webp", MimeTypeUtils.sniff(ascii("RIFF\0\0\0\0WEBPVP8 ")));
+    assertNull(MimeTypeUtils.sniff(ascii("RIFF\0\0\0\0WAVEfmt ")));
+  }
+
+  @DisplayName("Should recognize the HEIC and HEIF images from the brand of their ftyp box")
+  @Test
+  public void shouldRecognizeHeicAndHeifFromTheBrandOfTheirFtypBox() {
+    assertEquals("image/heic", MimeTypeUtils.sniff(ascii("\0\0\0\u0018ftypheic")));
+    assertEquals("image/heif", MimeTypeUtils.sniff(ascii("\0\0\0\u0018ftypmif1")));
+    assertNull(MimeTypeUtils.sniff(ascii("\0\0\0\u0018ftypisom")));
+  }
+
+  @DisplayName("Should not recognize the contents too short or not of an image format")
+  @Test
+  public void shouldNotRecognizeContentsTooShortOrNotOfAnImageFormat() {
+    assertNull(MimeTypeUtils.sniff(new byte[0]));
+    assertNull(MimeTypeUtils.sniff(bytes(0xFF, 0xD8)));
+    assertNull(MimeTypeUtils.sniff(ascii("%PDF-1.7\n%")));
+  }
+
+  @DisplayName("Should resolve the MIME type of the image formats from the file extension")
+  @Test
+  public void shouldResolveMimeTypeOfImageFormatsFromFileExtension() {
+    assertEquals("image/jpeg", MimeTypeUtils.detect("photo.JPG"));
+    assertEquals("image/png", MimeTypeUtils.detect("image.png"));
+    assertEquals("image/heic", MimeTypeUtils.detect("IMG_0001.heic"));
+  }
+
+  private static byte[] bytes(int... values) {
+    var bytes = new byte[values.length];
+    for (var i = 0; i < values.length; i++) {
+      bytes[i] = (byte) values[i];
+    }
+    return bytes;
+  }
+
+  private static byte[] ascii(String value) {
+    return value.getBytes(StandardCharsets.US_ASCII);
+  }
+}
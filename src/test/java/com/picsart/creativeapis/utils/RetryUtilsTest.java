@@ -0,0 +1,229 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 PicsArt, Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.picsart.creativeapis.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.picsart.creativeapis.busobj.ApiConfig;
+import com.picsart.creativeapis.busobj.exception.BadRequestException;
+import com.picsart.creativeapis.busobj.exception.InternalServerErrorException;
+import com.picsart.creativeapis.busobj.exception.TooManyRequestsException;
+import com.picsart.creativeapis.busobj.result.Metadata;
+import com.picsart.creativeapis.busobj.retry.RetryPolicy;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+public class RetryUtilsTest {
+
+  private static final Metadata METADATA = new Metadata(null, null, null, null, null);
+  private static final RetryPolicy NO_JITTER_POLICY =
+      RetryPolicy.builder()
+          .backoff(Duration.ofMillis(100))
+          .maxBackoff(Duration.ofMillis(1000))
+          .jitter(0)
+          .build();
+
+  @DisplayName("Should double the backoff on every retry up to the maximum backoff")
+  @Test
+  public void shouldDoubleBackoffUpToMaximumBackoff() {
+    // Given
+    var failure = serverError();
+    var now = System.currentTimeMillis();
+
+    // When
+    var backoffs = new long[6];
+    for (var retries = 0; retries < backoffs.length; retries++) {
+      backoffs[retries] = RetryUtils.backoffMillis(NO_JITTER_POLICY, failure, retries, now);
+    }
+
+    // Then
+    assertEquals(100, backoffs[0]);
+    assertEquals(200, backoffs[1]);
+    assertEquals(400, backoffs[2]);
+    assertEquals(800, backoffs[3]);
+    assertEquals(1000, backoffs[4]);
+    assertEquals(1000, backoffs[5]);
+  }
+
+  @DisplayName("Should keep the jittered backoff within the jitter share of the backoff")
+  @Test
+  public void shouldKeepJitteredBackoffWithinJitterShare() {
+    // Given
+    var policy =
+        RetryPolicy.builder()
+            .backoff(Duration.ofMillis(1000))
+            .maxBackoff(Duration.ofMillis(1000))
+            .jitter(0.5)
+            .build();
+    var failure = serverError();
+    var now = System.currentTimeMillis();
+
+    // When
+    var min = Long.MAX_VALUE;
+    var max = Long.MIN_VALUE;
+    for (var i = 0; i < 1000; i++) {
+      var backoff = RetryUtils.backoffMillis(policy, failure, 0, now);
+      min = Math.min(min, backoff);
+      max = Math.max(max, backoff);
+    }
+
+    // Then
+    assertTrue(min >= 500, "min " + min);
+    assertTrue(max <= 1500, "max " + max);
+    assertTrue(min < max, "the backoff is not jittered");
+  }
+
+  @DisplayName("Should wait until the rate limit reset time when retrying a 429 response")
+  @Test
+  public void shouldWaitUntilRateLimitResetWhenRetryingTooManyRequests() {
+    // Given
+    var failure =
+        new TooManyRequestsException("Too Many Requests", new Metadata(10, 0, 5, null, null));
+    var ignoringReset =
+        RetryPolicy.builder()
+            .backoff(Duration.ofMillis(100))
+            .jitter(0)
+            .honorRateLimitReset(false)
+            .build();
+    var now = System.currentTimeMillis();
+
+    // When
+    var backoff = RetryUtils.backoffMillis(NO_JITTER_POLICY, failure, 0, now);
+    var backoffIgnoringReset = RetryUtils.backoffMillis(ignoringReset, failure, 0, now);
+
+    // Then
+    assertEquals(5000, backoff);
+    assertEquals(100, backoffIgnoringReset);
+  }
+
+  @DisplayName("Should retry a recoverable failure until the request succeeds")
+  @Test
+  public void shouldRetryRecoverableFailureUntilRequestSucceeds() {
+    // Given
+    var config = config(NO_JITTER_POLICY);
+    var subscriptions = new AtomicInteger();
+    var request =
+        Mono.defer(
+            () ->
+                subscriptions.incrementAndGet() < 3
+                    ? Mono.<String>error(serverError())
+                    : Mono.just("result"));
+
+    // When
+    StepVerifier.withVirtualTime(() -> request.transform(RetryUtils.retry(config)))
+        .thenAwait(Duration.ofSeconds(1))
+        .expectNext("result")
+        .verifyComplete();
+
+    // Then
+    assertEquals(3, subscriptions.get());
+    assertEquals(2, config.retryCounters().attempts());
+    assertEquals(0, config.retryCounters().giveUps());
+  }
+
+  @DisplayName("Should give up once the maximum number of attempts is made")
+  @Test
+  public void shouldGiveUpOnceMaximumNumberOfAttemptsIsMade() {
+    // Given
+    var config = config(NO_JITTER_POLICY);
+    var subscriptions = new AtomicInteger();
+    var request =
+        Mono.defer(
+            () -> {
+              subscriptions.incrementAndGet();
+              return Mono.error(serverError());
+            });
+
+    // When
+    StepVerifier.withVirtualTime(() -> request.transform(RetryUtils.retry(config)))
+        .thenAwait(Duration.ofSeconds(1))
+        .expectError(InternalServerErrorException.class)
+        .verify();
+
+    // Then
+    assertEquals(3, subscriptions.get());
+    assertEquals(2, config.retryCounters().attempts());
+    assertEquals(1, config.retryCounters().giveUps());
+  }
+
+  @DisplayName("Should not retry when the backoff ends after the deadline")
+  @Test
+  public void shouldNotRetryWhenBackoffEndsAfterDeadline() {
+    // Given
+    var config =
+        config(
+            RetryPolicy.builder()
+                .backoff(Duration.ofSeconds(2))
+                .jitter(0)
+                .deadline(Duration.ofSeconds(1))
+                .build());
+    var request = Mono.error(serverError());
+
+    // When
+    StepVerifier.create(request.transform(RetryUtils.retry(config)))
+        .expectError(InternalServerErrorException.class)
+        .verify(Duration.ofSeconds(1));
+
+    // Then
+    assertEquals(0, config.retryCounters().attempts());
+    assertEquals(1, config.retryCounters().giveUps());
+  }
+
+  @DisplayName("Should not retry a failure that is not recoverable")
+  @Test
+  public void shouldNotRetryFailureThatIsNotRecoverable() {
+    // Given
+    var config = config(NO_JITTER_POLICY);
+    var subscriptions = new AtomicInteger();
+    var request =
+        Mono.defer(
+            () -> {
+              subscriptions.incrementAndGet();
+              return Mono.error(new BadRequestException("Bad Request", METADATA));
+            });
+
+    // When
+    StepVerifier.create(request.transform(RetryUtils.retry(config)))
+        .expectError(BadRequestException.class)
+        .verify();
+
+    // Then
+    assertEquals(1, subscriptions.get());
+    assertEquals(0, config.retryCounters().attempts());
+  }
+
+  private static InternalServerErrorException serverError() {
+    return new InternalServerErrorException("Internal Server Error", METADATA);
+  }
+
+  private static ApiConfig config(RetryPolicy policy) {
+    return new ApiConfig("apiKey", "baseUrl", Duration.ofSeconds(60), policy);
+  }
+}
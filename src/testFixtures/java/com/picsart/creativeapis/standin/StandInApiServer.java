@@ -0,0 +1,506 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 PicsArt, Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.picsart.creativeapis.standin;
+
+import static com.picsart.creativeapis.utils.Constants.INFERENCES_URL;
+
+import com.picsart.creativeapis.busobj.ApiActions;
+import com.picsart.creativeapis.busobj.image.Effect;
+import com.picsart.creativeapis.busobj.image.response.BalanceResponse;
+import com.picsart.creativeapis.busobj.image.response.ErrorResponse;
+import com.picsart.creativeapis.busobj.image.response.ListEffectsResponse;
+import com.picsart.creativeapis.busobj.mapper.MetadataMapper;
+import com.picsart.creativeapis.utils.Constants;
+import com.picsart.creativeapis.utils.JacksonUtils;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpHeaderValues;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.multipart.Attribute;
+import io.netty.handler.codec.http.multipart.FileUpload;
+import io.netty.handler.codec.http.multipart.HttpData;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiFunction;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import lombok.AccessLevel;
+import lombok.SneakyThrows;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+import reactor.netty.http.server.HttpServerRequest;
+import reactor.netty.http.server.HttpServerResponse;
+import reactor.netty.http.server.HttpServerRoutes;
+
+/**
+ * A local HTTP server imitating every endpoint of {@link ApiActions}, to load test the SDK without
+ * spending credits. Point an ImageApi or a GenAIApi to it with {@code withBaseUrl(baseUrl())}.
+ *
+ * <p>Every response carries the rate limit, credit and correlation headers read by {@link
+ * MetadataMapper}. The ultra upscale answers with 202 and a transaction to poll, the text2image
+ * answers with an inference to poll, and both complete after the configured number of polls. The
+ * latency, the rate of 500 responses and the number of requests accepted per API key before 429 are
+ * set by {@link StandInApiServerConfig}. The result image URLs point to the server, which serves
+ * images of the configured size.
+ */
+@Slf4j
+@FieldDefaults(makeFinal = true, level = AccessLevel.PRIVATE)
+public final class StandInApiServer implements AutoCloseable {
+  private static final String IMAGES_PATH = "/images/";
+  private static final int IMAGE_CHUNK_SIZE = 16 * 1024;
+  private static final List<Effect> EFFECTS =
+      Stream.of("icy1", "icy2", "icy3", "food1", "food2", "mnch1", "saturation", "brnz1")
+          .map(Effect::new)
+          .toList();
+  private static final int EFFECTS_PREVIEWS_COUNT = 3;
+  private static final int TEXT_2_IMAGE_DEFAULT_COUNT = 2;
+
+  StandInApiServerConfig config;
+  DisposableServer server;
+  AtomicInteger credits;
+  Map<ApiActions, LongAdder> requestCounts = new EnumMap<>(ApiActions.class);
+  LongAdder rateLimitedCount = new LongAdder();
+  LongAdder downloadCount = new LongAdder();
+  LongAdder failedCount = new LongAdder();
+  Queue<ReceivedFile> receivedFiles = new ConcurrentLinkedQueue<>();
+  Map<String, String> receivedAttributes = new ConcurrentHashMap<>();
+  Map<String, RateLimitWindow> rateLimitWindows = new ConcurrentHashMap<>();
+  Map<String, PendingJob> pendingJobs = new ConcurrentHashMap<>();
+
+  private StandInApiServer(StandInApiServerConfig config) {
+    this.config = config;
+    credits = new AtomicInteger(config.credits());
+    for (var action : ApiActions.values()) {
+      requestCounts.put(action, new LongAdder());
+    }
+    server =
+        HttpServer.create().host("localhost").port(config.port()).route(this::routes).bindNow();
+    log.info("Stand-in Picsart API server listening on {}", baseUrl());
+  }
+
+  /**
+   * Starts a server with the default configuration.
+   *
+   * @return The started server.
+   */
+  public static StandInApiServer start() {
+    return start(StandInApiServerConfig.DEFAULT);
+  }
+
+  /**
+   * Starts a server with the specified configuration.
+   *
+   * @param config The latency, error rate, rate limit and polling behaviour of the server.
+   * @return The started server.
+   */
+  public static StandInApiServer start(StandInApiServerConfig config) {
+    return new StandInApiServer(config);
+  }
+
+  /**
+   * Returns the base URL of the server, to be used in place of the Image and GenAI API base URLs.
+   *
+   * @return The base URL.
+   */
+  public String baseUrl() {
+    return "http://%s:%d".formatted(server.host(), server.port());
+  }
+
+  /**
+   * Returns the number of requests received for the specified action, polls included.
+   *
+   * @param action The API action.
+   * @return The number of requests.
+   */
+  public long requestCount(ApiActions action) {
+    return requestCounts.get(action).sum();
+  }
+
+  /**
+   * Returns the number of requests received for all actions.
+   *
+   * @return The number of requests.
+   */
+  public long totalRequestCount() {
+    return requestCounts.values().stream().mapToLong(LongAdder::sum).sum();
+  }
+
+  /**
+   * Returns the number of result images downloaded.
+   *
+   * @return The number of downloads.
+   */
+  public long downloadCount() {
+    return downloadCount.sum();
+  }
+
+  /**
+   * Returns the file parts of the multipart bodies, recorded when decodeMultipart is enabled.
+   *
+   * @return The received files, in the order they were received.
+   */
+  public List<ReceivedFile> receivedFiles() {
+    return List.copyOf(receivedFiles);
+  }
+
+  /**
+   * Returns the attributes of the multipart bodies, recorded when decodeMultipart is enabled.
+   *
+   * @return The last value received for every attribute name.
+   */
+  public Map<String, String> receivedAttributes() {
+    return Map.copyOf(receivedAttributes);
+  }
+
+  /**
+   * Returns the number of requests answered with 429.
+   *
+   * @return The number of rate limited requests.
+   */
+  public long rateLimitedCount() {
+    return rateLimitedCount.sum();
+  }
+
+  /**
+   * Returns the number of requests answered with 500.
+   *
+   * @return The number of failed requests.
+   */
+  public long failedCount() {
+    return failedCount.sum();
+  }
+
+  /**
+   * Returns the credits left.
+   *
+   * @return The credits.
+   */
+  public int credits() {
+    return credits.get();
+  }
+
+  /** Stops the server. */
+  @Override
+  public void close() {
+    server.disposeNow();
+  }
+
+  private void routes(HttpServerRoutes routes) {
+    routes
+        .post(path(ApiActions.TEXT2IMAGE), handle(ApiActions.TEXT2IMAGE, true, this::text2Image))
+        .get(
+            path(ApiActions.TEXT2IMAGE) + Constants.SLASH + INFERENCES_URL.formatted("{id}"),
+            handle(ApiActions.TEXT2IMAGE, false, this::text2ImageInference))
+        .get(
+            path(ApiActions.LIST_EFFECTS),
+            handle(ApiActions.LIST_EFFECTS, false, this::listEffects))
+        .post(
+            path(ApiActions.EFFECTS_PREVIEWS),
+            handle(ApiActions.EFFECTS_PREVIEWS, false, this::effectsPreviews))
+        .post(
+            path(ApiActions.ULTRA_UPSCALE),
+            handle(ApiActions.ULTRA_UPSCALE, false, this::ultraUpscale))
+        .get(
+            path(ApiActions.ULTRA_UPSCALE) + Constants.SLASH + "{id}",
+            handle(ApiActions.ULTRA_UPSCALE, false, this::ultraUpscaleTransaction))
+        .post(path(ApiActions.UPLOAD), handle(ApiActions.UPLOAD, false, this::upload))
+        .get(path(ApiActions.BALANCE), handle(ApiActions.BALANCE, false, this::balance))
+        .get(IMAGES_PATH + "{id}", this::downloadImage);
+    for (var action :
+        List.of(
+            ApiActions.REMOVE_BACKGROUND,
+            ApiActions.EFFECT,
+            ApiActions.UPSCALE,
+            ApiActions.ULTRA_ENHANCE,
+            ApiActions.ENHANCE_FACE,
+            ApiActions.ADJUST,
+            ApiActions.BACKGROUND_TEXTURE,
+            ApiActions.SURFACE_MAP)) {
+      routes.post(path(action), handle(action, false, this::processImage));
+    }
+  }
+
+  /** Serves a result image of the configured size, in chunks, without an API key check. */
+  private Publisher<Void> downloadImage(HttpServerRequest request, HttpServerResponse response) {
+    downloadCount.increment();
+    var size = config.resultImageSize();
+    var chunks =
+        Flux.range(0, (size + IMAGE_CHUNK_SIZE - 1) / IMAGE_CHUNK_SIZE)
+            .map(i -> new byte[Math.min(IMAGE_CHUNK_SIZE, size - i * IMAGE_CHUNK_SIZE)]);
+    return response
+        .header(HttpHeaderNames.CONTENT_TYPE, "image/png")
+        .header(HttpHeaderNames.CONTENT_LENGTH, String.valueOf(size))
+        .sendByteArray(chunks);
+  }
+
+  private static String path(ApiActions action) {
+    return Constants.SLASH + action.url();
+  }
+
+  /**
+   * Wraps the reply of an endpoint with the behaviour shared by all of them: the API key check, the
+   * rate limit, the injected errors, the latency and the metadata headers. The request body is
+   * decoded only when the endpoint reads it, otherwise it is drained.
+   */
+  private BiFunction<HttpServerRequest, HttpServerResponse, Publisher<Void>> handle(
+      ApiActions action, boolean readBody, BiFunction<HttpServerRequest, String, Reply> endpoint) {
+    return (request, response) -> {
+      requestCounts.get(action).increment();
+      var body =
+          readBody
+              ? request.receive().aggregate().asString(StandardCharsets.UTF_8).defaultIfEmpty("")
+              : config.decodeMultipart() && request.isMultipart()
+                  ? receiveForm(request)
+                  : request.receive().then(Mono.just(""));
+      var apiKey = request.requestHeaders().get(Constants.API_KEY_HEADER);
+      if (apiKey == null) {
+        return body.flatMap(
+            ignored -> send(response, error(HttpResponseStatus.UNAUTHORIZED, "Unauthorized")));
+      }
+      var window = rateLimitWindow(apiKey);
+      var accepted = window.used.incrementAndGet() <= config.rateLimit();
+      return body.map(
+              requestBody -> {
+                if (!accepted) {
+                  rateLimitedCount.increment();
+                  return error(HttpResponseStatus.TOO_MANY_REQUESTS, "Too many requests");
+                }
+                if (config.errorRate() > 0
+                    && ThreadLocalRandom.current().nextDouble() < config.errorRate()) {
+                  failedCount.increment();
+                  return error(HttpResponseStatus.INTERNAL_SERVER_ERROR, "Internal server error");
+                }
+                return endpoint.apply(request, requestBody);
+              })
+          .transform(this::delay)
+          .flatMap(
+              reply ->
+                  send(
+                      response
+                          .header(MetadataMapper.RATE_LIMIT, String.valueOf(config.rateLimit()))
+                          .header(
+                              MetadataMapper.RATE_LIMIT_REMAINING,
+                              String.valueOf(Math.max(0, config.rateLimit() - window.used.get())))
+                          .header(MetadataMapper.RATE_LIMIT_RESET, window.resetTime()),
+                      reply));
+    };
+  }
+
+  private Mono<String> receiveForm(HttpServerRequest request) {
+    return request.receiveForm().doOnNext(this::record).then(Mono.just(""));
+  }
+
+  @SneakyThrows
+  private void record(HttpData data) {
+    if (data instanceof FileUpload file) {
+      receivedFiles.add(
+          new ReceivedFile(file.getName(), file.getFilename(), file.getContentType(), file.get()));
+    } else if (data instanceof Attribute attribute) {
+      receivedAttributes.put(attribute.getName(), attribute.getValue());
+    }
+  }
+
+  private Mono<Void> send(HttpServerResponse response, Reply reply) {
+    return response
+        .status(reply.status())
+        .header(HttpHeaderNames.CONTENT_TYPE, HttpHeaderValues.APPLICATION_JSON)
+        .header(MetadataMapper.CORRELATION_ID, UUID.randomUUID().toString())
+        .header(MetadataMapper.CREDIT_AVAILABLE, String.valueOf(credits.get()))
+        .sendString(Mono.just(JacksonUtils.toJson(reply.body())))
+        .then();
+  }
+
+  private Mono<Reply> delay(Mono<Reply> reply) {
+    var latency = config.latency();
+    if (!config.latencyJitter().isZero()) {
+      latency =
+          latency.plusNanos(
+              ThreadLocalRandom.current().nextLong(config.latencyJitter().toNanos() + 1));
+    }
+    return latency.isZero() ? reply : reply.delayElement(latency);
+  }
+
+  private RateLimitWindow rateLimitWindow(String apiKey) {
+    var now = System.currentTimeMillis();
+    var window = rateLimitWindows.get(apiKey);
+    if (window != null && window.resetAtMillis > now) {
+      return window;
+    }
+    return rateLimitWindows.compute(
+        apiKey,
+        (key, current) ->
+            current != null && current.resetAtMillis > now
+                ? current
+                : new RateLimitWindow(now + config.rateLimitWindow().toMillis()));
+  }
+
+  private Reply text2Image(HttpServerRequest request, String body) {
+    var json = JacksonUtils.fromJson(body, Map.class);
+    var count =
+        json.get("count") instanceof Number number
+            ? number.intValue()
+            : TEXT_2_IMAGE_DEFAULT_COUNT;
+    var id = UUID.randomUUID().toString();
+    pendingJobs.put(id, new PendingJob(count, config.text2ImagePendingPolls()));
+    return spendCredits(count, new Reply(HttpResponseStatus.ACCEPTED, Map.of("inference_id", id)));
+  }
+
+  private Reply text2ImageInference(HttpServerRequest request, String body) {
+    var id = request.param("id");
+    var job = id == null ? null : pendingJobs.get(id);
+    if (job == null) {
+      return error(HttpResponseStatus.NOT_FOUND, "Inference not found");
+    }
+    if (job.pendingPolls.getAndDecrement() > 0) {
+      return new Reply(HttpResponseStatus.ACCEPTED, Map.of("status", "ACCEPTED"));
+    }
+    pendingJobs.remove(id);
+    var images = IntStream.range(0, job.count).mapToObj(i -> image()).toList();
+    return ok(Map.of("status", "DONE", "data", images));
+  }
+
+  private Reply processImage(HttpServerRequest request, String body) {
+    return spendCredits(1, imageReply());
+  }
+
+  private Reply listEffects(HttpServerRequest request, String body) {
+    return ok(new ListEffectsResponse(EFFECTS));
+  }
+
+  private Reply upload(HttpServerRequest request, String body) {
+    return imageReply();
+  }
+
+  private Reply balance(HttpServerRequest request, String body) {
+    return ok(new BalanceResponse(credits.get()));
+  }
+
+  private Reply effectsPreviews(HttpServerRequest request, String body) {
+    var previews =
+        EFFECTS.stream()
+            .limit(EFFECTS_PREVIEWS_COUNT)
+            .map(
+                effect -> {
+                  var id = UUID.randomUUID() + ".png";
+                  var url = baseUrl() + IMAGES_PATH + id;
+                  return Map.of("id", id, "url", url, "effect_name", effect.name());
+                })
+            .toList();
+    return spendCredits(previews.size(), ok(Map.of("status", "success", "data", previews)));
+  }
+
+  private Reply ultraUpscale(HttpServerRequest request, String body) {
+    if (!config.ultraUpscaleAsync()) {
+      return spendCredits(1, imageReply());
+    }
+    var id = UUID.randomUUID().toString();
+    pendingJobs.put(id, new PendingJob(1, config.ultraUpscalePendingPolls()));
+    return spendCredits(
+        1,
+        new Reply(
+            HttpResponseStatus.ACCEPTED, Map.of("status", "queued", "transaction_id", id)));
+  }
+
+  private Reply ultraUpscaleTransaction(HttpServerRequest request, String body) {
+    var id = request.param("id");
+    var job = id == null ? null : pendingJobs.get(id);
+    if (job == null) {
+      return error(HttpResponseStatus.NOT_FOUND, "Transaction not found");
+    }
+    if (job.pendingPolls.getAndDecrement() > 0) {
+      return new Reply(HttpResponseStatus.ACCEPTED, Map.of("status", "processing"));
+    }
+    pendingJobs.remove(id);
+    return imageReply();
+  }
+
+  private Reply spendCredits(int amount, Reply reply) {
+    credits.addAndGet(-amount);
+    return reply;
+  }
+
+  private Reply imageReply() {
+    return ok(Map.of("status", "success", "data", image()));
+  }
+
+  private Map<String, String> image() {
+    var id = UUID.randomUUID() + ".png";
+    return Map.of("id", id, "url", baseUrl() + IMAGES_PATH + id);
+  }
+
+  private static Reply ok(Object body) {
+    return new Reply(HttpResponseStatus.OK, body);
+  }
+
+  private static Reply error(HttpResponseStatus status, String detail) {
+    return new Reply(status, new ErrorResponse(status.code(), detail));
+  }
+
+  /**
+   * A file part of a multipart body received by the server.
+   *
+   * @param name The name of the form field.
+   * @param fileName The file name sent with the part.
+   * @param contentType The content type of the part.
+   * @param content The content of the file.
+   */
+  public record ReceivedFile(String name, String fileName, String contentType, byte[] content) {}
+
+  private record Reply(HttpResponseStatus status, Object body) {}
+
+  private record PendingJob(int count, AtomicInteger pendingPolls) {
+    PendingJob(int count, int pendingPolls) {
+      this(count, new AtomicInteger(pendingPolls));
+    }
+  }
+
+  private static final class RateLimitWindow {
+    final long resetAtMillis;
+    final AtomicInteger used = new AtomicInteger();
+
+    RateLimitWindow(long resetAtMillis) {
+      this.resetAtMillis = resetAtMillis;
+    }
+
+    /** The reset time in epoch seconds, rounded up so that clients never resume too early. */
+    String resetTime() {
+      return String.valueOf((resetAtMillis + 999) / 1000);
+    }
+  }
+}
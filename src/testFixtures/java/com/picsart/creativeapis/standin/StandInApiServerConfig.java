@@ -0,0 +1,96 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 PicsArt, Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.picsart.creativeapis.standin;
+
+import java.time.Duration;
+import lombok.Builder;
+import lombok.Data;
+import lombok.experimental.Accessors;
+import lombok.experimental.FieldDefaults;
+
+/**
+ * This class represents the configuration of the {@link StandInApiServer}. It includes the port,
+ * the simulated latency and error rate, the rate limit applied per API key and the number of polls
+ * needed before the asynchronous operations complete.
+ */
+@Builder
+@Data
+@Accessors(fluent = true)
+@FieldDefaults(makeFinal = true, level = lombok.AccessLevel.PRIVATE)
+public class StandInApiServerConfig {
+  /** The default configuration: no latency, no errors and no rate limit. */
+  public static final StandInApiServerConfig DEFAULT = StandInApiServerConfig.builder().build();
+
+  /** The port to listen on. Defaults to 0, which picks a free port. */
+  @Builder.Default int port = 0;
+
+  /** The fixed delay added before every response. Defaults to zero. */
+  @Builder.Default Duration latency = Duration.ZERO;
+
+  /** The upper bound of the random delay added on top of the fixed latency. Defaults to zero. */
+  @Builder.Default Duration latencyJitter = Duration.ZERO;
+
+  /** The share of the requests, from 0 to 1, answered with 500. Defaults to 0. */
+  @Builder.Default double errorRate = 0;
+
+  /**
+   * The number of requests accepted per API key in every rate limit window, the following ones are
+   * answered with 429. Defaults to Integer.MAX_VALUE.
+   */
+  @Builder.Default int rateLimit = Integer.MAX_VALUE;
+
+  /** The length of the rate limit window. Defaults to one minute. */
+  @Builder.Default Duration rateLimitWindow = Duration.ofMinutes(1);
+
+  /** The credits available at start, one credit is spent per processed image. Defaults to 10000. */
+  @Builder.Default int credits = 10_000;
+
+  /**
+   * Whether the ultra upscale is answered with 202 and a transaction to poll, instead of the
+   * result. Defaults to true.
+   */
+  @Builder.Default boolean ultraUpscaleAsync = true;
+
+  /**
+   * The number of polls of an ultra upscale transaction answered with 202 before the result is
+   * returned. Defaults to 1.
+   */
+  @Builder.Default int ultraUpscalePendingPolls = 1;
+
+  /**
+   * The number of polls of a text2image inference answered as not done before the images are
+   * returned. Defaults to 1.
+   */
+  @Builder.Default int text2ImagePendingPolls = 1;
+
+  /** The size in bytes of the result images served for download. Defaults to 64 KiB. */
+  @Builder.Default int resultImageSize = 64 * 1024;
+
+  /**
+   * Whether the multipart bodies are decoded and their parts recorded, otherwise they are drained
+   * without being decoded. Defaults to false.
+   */
+  @Builder.Default boolean decodeMultipart = false;
+}